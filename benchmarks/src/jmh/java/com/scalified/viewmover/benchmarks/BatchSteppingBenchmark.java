@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.benchmarks;
+
+import com.scalified.viewmover.core.FrameTiming;
+import com.scalified.viewmover.core.MoveBounds;
+import com.scalified.viewmover.core.MoveMotion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the batch move of many simulated views, which are stepped by
+ * a single display frame callback the same way as the view mover group does
+ * <p>
+ * Each operation steps all the views by a single {@code 60 Hz} frame. Once all the moves
+ * complete, the views are moved back
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BatchSteppingBenchmark {
+
+	/**
+	 * Number of the simulated views
+	 */
+	@Param({"1000", "5000", "10000"})
+	public int viewCount;
+
+	/**
+	 * Motions of the simulated views
+	 */
+	private MoveMotion[] motions;
+
+	/**
+	 * Bounds of the simulated views
+	 */
+	private MoveBounds[] bounds;
+
+	/**
+	 * Requested X-axis deltas of the simulated views
+	 */
+	private float[] xAxisDeltas;
+
+	/**
+	 * Requested Y-axis deltas of the simulated views
+	 */
+	private float[] yAxisDeltas;
+
+	/**
+	 * Time of the current frame in nanoseconds
+	 */
+	private long frameTimeNanos;
+
+	/**
+	 * Time of the frame the batch move started at in nanoseconds
+	 */
+	private long startTimeNanos;
+
+	@Setup
+	public void setUp() {
+		motions = new MoveMotion[viewCount];
+		bounds = new MoveBounds[viewCount];
+		xAxisDeltas = new float[viewCount];
+		yAxisDeltas = new float[viewCount];
+		Random random = new Random(42L);
+		for (int i = 0; i < viewCount; i++) {
+			motions[i] = new MoveMotion();
+			bounds[i] = new MoveBounds();
+			int left = random.nextInt(980);
+			int top = random.nextInt(1820);
+			bounds[i].set(left, top, left + 100, top + 100, 1080, 1920);
+			xAxisDeltas[i] = (random.nextFloat() - 0.5f) * 400.0f;
+			yAxisDeltas[i] = (random.nextFloat() - 0.5f) * 400.0f;
+		}
+		startBatch();
+	}
+
+	@Benchmark
+	public float stepBatch() {
+		frameTimeNanos += FrameSteppingBenchmark.FRAME_INTERVAL_NANOS;
+		float fraction = FrameTiming.fraction(FrameTiming.elapsedMillis(startTimeNanos, frameTimeNanos),
+				FrameSteppingBenchmark.DURATION);
+		float interpolation = FrameSteppingBenchmark.accelerateDecelerate(fraction);
+		float sum = 0.0f;
+		for (int i = 0; i < viewCount; i++) {
+			MoveMotion motion = motions[i];
+			motion.update(fraction, interpolation);
+			sum += motion.getX() + motion.getY();
+		}
+		if (fraction >= 1.0f) {
+			for (int i = 0; i < viewCount; i++) {
+				bounds[i].shift(motions[i].getToX(), motions[i].getToY());
+				xAxisDeltas[i] = -xAxisDeltas[i];
+				yAxisDeltas[i] = -yAxisDeltas[i];
+			}
+			startBatch();
+		}
+		return sum;
+	}
+
+	/**
+	 * Verifies the requested deltas of all the simulated views and starts their moves
+	 */
+	private void startBatch() {
+		startTimeNanos = frameTimeNanos;
+		for (int i = 0; i < viewCount; i++) {
+			float xAxisDelta = bounds[i].verifyXAxisDelta(xAxisDeltas[i], false);
+			float yAxisDelta = bounds[i].verifyYAxisDelta(yAxisDeltas[i], false);
+			motions[i].start(xAxisDelta, yAxisDelta, FrameSteppingBenchmark.DURATION);
+		}
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.benchmarks;
+
+import com.scalified.viewmover.core.FrameTiming;
+import com.scalified.viewmover.core.MoveMotion;
+import com.scalified.viewmover.core.MovePath;
+import com.scalified.viewmover.core.PhysicsMotion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the single view motion stepped by display frames
+ * <p>
+ * Each operation steps the motion by a single {@code 60 Hz} frame and restarts
+ * the motion once it completes
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FrameSteppingBenchmark {
+
+	/**
+	 * Display frame interval in nanoseconds
+	 */
+	static final long FRAME_INTERVAL_NANOS = 16666667L;
+
+	/**
+	 * Move duration in ms
+	 */
+	static final long DURATION = 500L;
+
+	/**
+	 * Tween motion
+	 */
+	private final MoveMotion motion = new MoveMotion();
+
+	/**
+	 * Path motion
+	 */
+	private final MoveMotion pathMotion = new MoveMotion();
+
+	/**
+	 * Path of the path motion, which consists of a line, a cubic Bezier curve and an arc
+	 */
+	private final MovePath path = new MovePath.Builder()
+			.lineTo(100.0f, 0.0f)
+			.cubicTo(200.0f, 0.0f, 200.0f, 200.0f, 300.0f, 200.0f)
+			.arcTo(300.0f, 250.0f, 180.0f)
+			.build();
+
+	/**
+	 * Spring motion
+	 */
+	private final PhysicsMotion springMotion = new PhysicsMotion();
+
+	/**
+	 * Time of the current frame in nanoseconds
+	 */
+	private long frameTimeNanos;
+
+	/**
+	 * Time of the frame the tween motion started at in nanoseconds
+	 */
+	private long startTimeNanos = -1L;
+
+	/**
+	 * Time of the frame the path motion started at in nanoseconds
+	 */
+	private long pathStartTimeNanos = -1L;
+
+	@Benchmark
+	public float stepTween() {
+		frameTimeNanos += FRAME_INTERVAL_NANOS;
+		if (startTimeNanos < 0L) {
+			startTimeNanos = frameTimeNanos;
+			motion.start(300.0f, 300.0f, DURATION);
+		}
+		float fraction = FrameTiming.fraction(FrameTiming.elapsedMillis(startTimeNanos, frameTimeNanos), DURATION);
+		motion.update(fraction, accelerateDecelerate(fraction));
+		if (fraction >= 1.0f) {
+			startTimeNanos = -1L;
+		}
+		return motion.getX();
+	}
+
+	@Benchmark
+	public float stepPath() {
+		frameTimeNanos += FRAME_INTERVAL_NANOS;
+		if (pathStartTimeNanos < 0L) {
+			pathStartTimeNanos = frameTimeNanos;
+			pathMotion.start(path, DURATION);
+		}
+		float fraction = FrameTiming.fraction(FrameTiming.elapsedMillis(pathStartTimeNanos, frameTimeNanos), DURATION);
+		pathMotion.update(fraction, accelerateDecelerate(fraction));
+		if (fraction >= 1.0f) {
+			pathStartTimeNanos = -1L;
+		}
+		return pathMotion.getX();
+	}
+
+	@Benchmark
+	public float stepSpring() {
+		if (springMotion.advance(FrameTiming.elapsedSeconds(0L, FRAME_INTERVAL_NANOS))) {
+			springMotion.startSpring(300.0f, 300.0f, 1500.0f, 0.7f);
+		}
+		return springMotion.getX();
+	}
+
+	/**
+	 * Calculates the interpolation the same way as the
+	 * {@code android.view.animation.AccelerateDecelerateInterpolator} does
+	 *
+	 * @param fraction linear fraction from {@code 0} to {@code 1}
+	 * @return interpolation of the fraction
+	 */
+	static float accelerateDecelerate(float fraction) {
+		return (float) (Math.cos((fraction + 1.0f) * Math.PI) / 2.0f) + 0.5f;
+	}
+
+}
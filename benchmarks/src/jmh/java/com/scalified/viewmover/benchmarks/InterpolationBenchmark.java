@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.benchmarks;
+
+import com.scalified.viewmover.core.InterpolationTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the per-frame easing evaluation
+ * <p>
+ * Compares the direct evaluation of the accelerate decelerate curve and the Newton
+ * solution of the cubic Bezier curve against their sampled tables
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterpolationBenchmark {
+
+	/**
+	 * Number of Newton iterations used to solve the cubic Bezier curve directly
+	 */
+	private static final int NEWTON_ITERATIONS = 8;
+
+	/**
+	 * X coordinate of the first control point of the CSS {@code ease} curve
+	 */
+	private static final float X1 = 0.25f;
+
+	/**
+	 * Y coordinate of the first control point of the CSS {@code ease} curve
+	 */
+	private static final float Y1 = 0.1f;
+
+	/**
+	 * X coordinate of the second control point of the CSS {@code ease} curve
+	 */
+	private static final float X2 = 0.25f;
+
+	/**
+	 * Y coordinate of the second control point of the CSS {@code ease} curve
+	 */
+	private static final float Y2 = 1.0f;
+
+	/**
+	 * Sampled accelerate decelerate curve
+	 */
+	private final InterpolationTable accelerateDecelerateTable = sampleAccelerateDecelerate();
+
+	/**
+	 * Solved cubic Bezier curve
+	 */
+	private final InterpolationTable cubicBezierTable =
+			InterpolationTable.cubicBezier(X1, Y1, X2, Y2, InterpolationTable.DEFAULT_INTERVALS);
+
+	/**
+	 * Fraction the curves are evaluated at, which changes by each operation
+	 */
+	private float fraction;
+
+	@Benchmark
+	public float accelerateDecelerateDirect() {
+		return FrameSteppingBenchmark.accelerateDecelerate(nextFraction());
+	}
+
+	@Benchmark
+	public float accelerateDecelerateSampled() {
+		return accelerateDecelerateTable.interpolate(nextFraction());
+	}
+
+	@Benchmark
+	public float cubicBezierNewton() {
+		float x = nextFraction();
+		float t = x;
+		for (int i = 0; i < NEWTON_ITERATIONS; i++) {
+			float slope = bezierSlope(t, X1, X2);
+			if (slope == 0.0f) {
+				break;
+			}
+			t -= (bezier(t, X1, X2) - x) / slope;
+		}
+		return bezier(t, Y1, Y2);
+	}
+
+	@Benchmark
+	public float cubicBezierSampled() {
+		return cubicBezierTable.interpolate(nextFraction());
+	}
+
+	/**
+	 * Returns the next fraction to evaluate the curves at
+	 *
+	 * @return fraction from {@code 0} to {@code 1}
+	 */
+	private float nextFraction() {
+		fraction += 0.0173f;
+		if (fraction > 1.0f) {
+			fraction -= 1.0f;
+		}
+		return fraction;
+	}
+
+	/**
+	 * Samples the accelerate decelerate curve
+	 *
+	 * @return sampled accelerate decelerate curve
+	 */
+	private static InterpolationTable sampleAccelerateDecelerate() {
+		int intervals = InterpolationTable.DEFAULT_INTERVALS;
+		float[] samples = new float[intervals + 1];
+		for (int i = 0; i <= intervals; i++) {
+			samples[i] = FrameSteppingBenchmark.accelerateDecelerate((float) i / intervals);
+		}
+		return new InterpolationTable(samples);
+	}
+
+	/**
+	 * Calculates the coordinate of the cubic Bezier curve, which starts at {@code 0} and
+	 * ends at {@code 1}
+	 *
+	 * @param t curve parameter from {@code 0} to {@code 1}
+	 * @param p1 coordinate of the first control point
+	 * @param p2 coordinate of the second control point
+	 * @return coordinate of the curve
+	 */
+	private static float bezier(float t, float p1, float p2) {
+		float u = 1.0f - t;
+		return 3.0f * u * u * t * p1 + 3.0f * u * t * t * p2 + t * t * t;
+	}
+
+	/**
+	 * Calculates the derivative of the cubic Bezier curve, which starts at {@code 0} and
+	 * ends at {@code 1}
+	 *
+	 * @param t curve parameter from {@code 0} to {@code 1}
+	 * @param p1 coordinate of the first control point
+	 * @param p2 coordinate of the second control point
+	 * @return derivative of the curve
+	 */
+	private static float bezierSlope(float t, float p1, float p2) {
+		float u = 1.0f - t;
+		return 3.0f * u * u * p1 + 6.0f * u * t * (p2 - p1) + 3.0f * t * t * (1.0f - p2);
+	}
+
+}
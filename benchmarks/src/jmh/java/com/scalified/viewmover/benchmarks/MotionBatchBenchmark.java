@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.benchmarks;
+
+import com.scalified.viewmover.core.InterpolationTable;
+import com.scalified.viewmover.core.MotionBatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the frame time of the view mover engine against the number of the
+ * simulated views being moved at once
+ * <p>
+ * Each operation steps all the motions of the {@link MotionBatch} by a single
+ * {@code 60 Hz} frame, reads their values the same way as the engine writes them to
+ * the views, and frees the slots of the completed motions. The completed motions are
+ * immediately added back in the opposite direction with staggered durations, so that
+ * the slots are constantly reused
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MotionBatchBenchmark {
+
+	/**
+	 * Number of the simulated views being moved at once
+	 */
+	@Param({"100", "200", "500", "1000"})
+	public int viewCount;
+
+	/**
+	 * Motions of the simulated views
+	 */
+	private MotionBatch batch;
+
+	/**
+	 * Easing curve of the motions
+	 */
+	private InterpolationTable easing;
+
+	/**
+	 * Durations of the motions in ms, which differ per view
+	 */
+	private long[] durations;
+
+	/**
+	 * Time of the current frame in nanoseconds
+	 */
+	private long frameTimeNanos;
+
+	@Setup
+	public void setUp() {
+		batch = new MotionBatch(viewCount);
+		easing = InterpolationTable.cubicBezier(0.25f, 0.1f, 0.25f, 1.0f, InterpolationTable.DEFAULT_INTERVALS);
+		durations = new long[viewCount];
+		Random random = new Random(42L);
+		for (int i = 0; i < viewCount; i++) {
+			durations[i] = 200L + random.nextInt(400);
+			float toX = (random.nextFloat() - 0.5f) * 400.0f;
+			float toY = (random.nextFloat() - 0.5f) * 400.0f;
+			batch.add(0.0f, 0.0f, toX, toY, durations[i]);
+		}
+	}
+
+	@Benchmark
+	public float stepEngine() {
+		frameTimeNanos += FrameSteppingBenchmark.FRAME_INTERVAL_NANOS;
+		batch.step(frameTimeNanos, easing);
+		float sum = 0.0f;
+		for (int slot = 0; slot < batch.getSlotCount(); slot++) {
+			if (!batch.isActive(slot)) {
+				continue;
+			}
+			sum += batch.getX(slot) + batch.getY(slot);
+			if (batch.isEnded(slot)) {
+				float x = batch.getX(slot);
+				float y = batch.getY(slot);
+				batch.remove(slot);
+				batch.add(x, y, -x, -y, durations[slot]);
+			}
+		}
+		return sum;
+	}
+
+}
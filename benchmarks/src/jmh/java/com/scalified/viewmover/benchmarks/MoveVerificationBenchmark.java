@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.benchmarks;
+
+import com.scalified.viewmover.core.MoveBounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the move deltas verification against the bounds snapshot
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoveVerificationBenchmark {
+
+	/**
+	 * Number of the pregenerated deltas
+	 */
+	private static final int DELTAS_COUNT = 1024;
+
+	/**
+	 * Bounds of the simulated view, which is {@code 100x100} within the {@code 1080x1920} parent
+	 */
+	private final MoveBounds bounds = new MoveBounds();
+
+	/**
+	 * Pregenerated deltas, some of which exceed the bounds
+	 */
+	private final float[] deltas = new float[DELTAS_COUNT];
+
+	/**
+	 * Index of the next delta
+	 */
+	private int index;
+
+	@Setup
+	public void setUp() {
+		bounds.set(490, 910, 590, 1010, 1080, 1920);
+		Random random = new Random(42L);
+		for (int i = 0; i < DELTAS_COUNT; i++) {
+			deltas[i] = (random.nextFloat() - 0.5f) * 2000.0f;
+		}
+	}
+
+	@Benchmark
+	public float verifyCancellingAxis() {
+		float delta = nextDelta();
+		return bounds.verifyXAxisDelta(delta, false) + bounds.verifyYAxisDelta(delta, false);
+	}
+
+	@Benchmark
+	public float verifyClamping() {
+		float delta = nextDelta();
+		return bounds.verifyXAxisDelta(delta, true) + bounds.verifyYAxisDelta(delta, true);
+	}
+
+	@Benchmark
+	public float verifyAndShift() {
+		float delta = nextDelta();
+		float verifiedDelta = bounds.verifyXAxisDelta(delta, true);
+		bounds.shift(verifiedDelta, 0.0f);
+		return verifiedDelta;
+	}
+
+	/**
+	 * Returns the next pregenerated delta
+	 *
+	 * @return next delta
+	 */
+	private float nextDelta() {
+		index = (index + 1) & (DELTAS_COUNT - 1);
+		return deltas[index];
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Utility class, which converts the display frame times into the motion time units
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class FrameTiming {
+
+	/**
+	 * Number of nanoseconds in millisecond
+	 */
+	private static final float NANOS_PER_MILLI = 1000000.0f;
+
+	/**
+	 * Number of nanoseconds in second
+	 */
+	private static final float NANOS_PER_SECOND = 1000000000.0f;
+
+	/**
+	 * Prevents instantiation
+	 */
+	private FrameTiming() {
+	}
+
+	/**
+	 * Calculates the time elapsed between two frames in ms
+	 *
+	 * @param fromTimeNanos time of the earlier frame in nanoseconds
+	 * @param toTimeNanos time of the later frame in nanoseconds
+	 * @return elapsed time in ms
+	 */
+	public static float elapsedMillis(long fromTimeNanos, long toTimeNanos) {
+		return (toTimeNanos - fromTimeNanos) / NANOS_PER_MILLI;
+	}
+
+	/**
+	 * Calculates the time elapsed between two frames in seconds
+	 *
+	 * @param fromTimeNanos time of the earlier frame in nanoseconds
+	 * @param toTimeNanos time of the later frame in nanoseconds
+	 * @return elapsed time in seconds
+	 */
+	public static float elapsedSeconds(long fromTimeNanos, long toTimeNanos) {
+		return (toTimeNanos - fromTimeNanos) / NANOS_PER_SECOND;
+	}
+
+	/**
+	 * Calculates the linear fraction of the move duration
+	 *
+	 * @param elapsedTime time elapsed since the move started in ms
+	 * @param duration move duration in ms
+	 * @return linear fraction of the move duration from {@code 0} to {@code 1}
+	 */
+	public static float fraction(float elapsedTime, long duration) {
+		return duration > 0L ? Math.min(elapsedTime / duration, 1.0f) : 1.0f;
+	}
+
+}
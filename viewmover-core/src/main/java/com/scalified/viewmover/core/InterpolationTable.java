@@ -0,0 +1,158 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Interpolation table class, which contains the easing curve sampled at evenly spaced
+ * fractions and evaluates it by linear interpolation between the samples
+ * <p>
+ * Evaluation costs a multiplication, an array lookup and a linear interpolation
+ * regardless of how expensive the original curve is. For the curve with the continuous
+ * second derivative the error is bounded by {@code max|f''| / (8 * n^2)}, where {@code n}
+ * is the number of intervals between the samples. With the {@link #DEFAULT_INTERVALS}
+ * this is below {@code 2e-6 * max|f''|}, e.g. below {@code 1e-5} for the accelerate
+ * decelerate curve, which is far below a pixel for any practical move
+ * <p>
+ * The table is immutable and may be shared by any number of moves
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class InterpolationTable {
+
+	/**
+	 * Number of intervals between the samples, which is used by default
+	 */
+	public static final int DEFAULT_INTERVALS = 256;
+
+	/**
+	 * Number of bisection iterations used to solve the cubic Bezier curve, which
+	 * finds the curve parameter with the precision of {@code 2^-24}
+	 */
+	private static final int BEZIER_ITERATIONS = 24;
+
+	/**
+	 * Curve values at evenly spaced fractions from {@code 0} to {@code 1}
+	 */
+	private final float[] samples;
+
+	/**
+	 * Number of intervals between the samples
+	 */
+	private final int intervals;
+
+	/**
+	 * Creates the {@link InterpolationTable} instance
+	 * <p>
+	 * The samples array is not copied, so it must not be changed afterwards
+	 *
+	 * @param samples curve values at evenly spaced fractions from {@code 0} to {@code 1},
+	 *                at least two
+	 */
+	public InterpolationTable(float[] samples) {
+		if (samples.length < 2) {
+			throw new IllegalArgumentException("Interpolation table must contain at least two samples");
+		}
+		this.samples = samples;
+		this.intervals = samples.length - 1;
+	}
+
+	/**
+	 * Creates the table of the CSS-like cubic Bezier easing curve, which starts at
+	 * {@code (0, 0)} and ends at {@code (1, 1)}
+	 * <p>
+	 * The curve is solved once for each sample, so that it is not solved on each frame
+	 *
+	 * @param x1 X coordinate of the first control point from {@code 0} to {@code 1}
+	 * @param y1 Y coordinate of the first control point
+	 * @param x2 X coordinate of the second control point from {@code 0} to {@code 1}
+	 * @param y2 Y coordinate of the second control point
+	 * @param intervals number of intervals between the samples
+	 * @return table of the cubic Bezier easing curve
+	 */
+	public static InterpolationTable cubicBezier(float x1, float y1, float x2, float y2, int intervals) {
+		if (x1 < 0.0f || x1 > 1.0f || x2 < 0.0f || x2 > 1.0f) {
+			throw new IllegalArgumentException("Cubic Bezier control point X coordinates must be within [0, 1]");
+		}
+		if (intervals < 1) {
+			throw new IllegalArgumentException("Number of intervals must be positive");
+		}
+		float[] samples = new float[intervals + 1];
+		for (int i = 1; i < intervals; i++) {
+			float x = (float) i / intervals;
+			float low = 0.0f;
+			float high = 1.0f;
+			for (int j = 0; j < BEZIER_ITERATIONS; j++) {
+				float t = (low + high) / 2.0f;
+				if (bezier(t, x1, x2) < x) {
+					low = t;
+				} else {
+					high = t;
+				}
+			}
+			samples[i] = bezier((low + high) / 2.0f, y1, y2);
+		}
+		samples[intervals] = 1.0f;
+		return new InterpolationTable(samples);
+	}
+
+	/**
+	 * Evaluates the curve at the given fraction
+	 * <p>
+	 * The fraction is clamped to {@code [0, 1]}
+	 *
+	 * @param fraction fraction from {@code 0} to {@code 1}
+	 * @return curve value linearly interpolated between the nearest samples
+	 */
+	public float interpolate(float fraction) {
+		if (fraction <= 0.0f) {
+			return samples[0];
+		}
+		if (fraction >= 1.0f) {
+			return samples[intervals];
+		}
+		float position = fraction * intervals;
+		int index = (int) position;
+		float start = samples[index];
+		return start + (samples[index + 1] - start) * (position - index);
+	}
+
+	/**
+	 * Returns the number of intervals between the samples
+	 *
+	 * @return number of intervals between the samples
+	 */
+	public int getIntervals() {
+		return intervals;
+	}
+
+	/**
+	 * Calculates the coordinate of the cubic Bezier curve, which starts at {@code 0} and
+	 * ends at {@code 1}
+	 *
+	 * @param t curve parameter from {@code 0} to {@code 1}
+	 * @param p1 coordinate of the first control point
+	 * @param p2 coordinate of the second control point
+	 * @return coordinate of the curve
+	 */
+	private static float bezier(float t, float p1, float p2) {
+		float u = 1.0f - t;
+		return 3.0f * u * u * t * p1 + 3.0f * u * t * t * p2 + t * t * t;
+	}
+
+}
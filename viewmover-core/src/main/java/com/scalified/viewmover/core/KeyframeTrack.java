@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Keyframe track class, which contains the sequence of straight moves run as a single motion
+ * <p>
+ * Each keyframe moves the view at its deltas during its duration. The keyframes are
+ * compiled into primitive arrays of their cumulative end offsets and end fractions of
+ * the whole track duration, so that the keyframe of the given fraction is found by a
+ * binary search and its offset by a linear interpolation
+ * <p>
+ * The track is immutable and may be shared by any number of moves
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class KeyframeTrack {
+
+	/**
+	 * X-axis offsets the keyframes start at followed by the offset the last one ends at,
+	 * in actual pixels
+	 */
+	private final float[] xs;
+
+	/**
+	 * Y-axis offsets the keyframes start at followed by the offset the last one ends at,
+	 * in actual pixels
+	 */
+	private final float[] ys;
+
+	/**
+	 * Fractions of the track duration the keyframes end at
+	 */
+	private final float[] endFractions;
+
+	/**
+	 * Track duration in ms
+	 */
+	private final long duration;
+
+	/**
+	 * Minimum X-axis offset reached by the track in actual pixels
+	 */
+	private final float minX;
+
+	/**
+	 * Maximum X-axis offset reached by the track in actual pixels
+	 */
+	private final float maxX;
+
+	/**
+	 * Minimum Y-axis offset reached by the track in actual pixels
+	 */
+	private final float minY;
+
+	/**
+	 * Maximum Y-axis offset reached by the track in actual pixels
+	 */
+	private final float maxY;
+
+	/**
+	 * Creates the {@link KeyframeTrack} instance
+	 *
+	 * @param xAxisDeltas X-axis deltas of the keyframes in actual pixels
+	 * @param yAxisDeltas Y-axis deltas of the keyframes in actual pixels
+	 * @param durations durations of the keyframes in ms, must be positive
+	 * @param count number of the keyframes, must be positive
+	 */
+	public KeyframeTrack(float[] xAxisDeltas, float[] yAxisDeltas, long[] durations, int count) {
+		if (count < 1) {
+			throw new IllegalArgumentException("Keyframe track must contain at least one keyframe");
+		}
+		this.xs = new float[count + 1];
+		this.ys = new float[count + 1];
+		this.endFractions = new float[count];
+		long duration = 0L;
+		float minX = 0.0f;
+		float maxX = 0.0f;
+		float minY = 0.0f;
+		float maxY = 0.0f;
+		for (int i = 0; i < count; i++) {
+			if (durations[i] <= 0L) {
+				throw new IllegalArgumentException("Keyframe duration must be positive");
+			}
+			xs[i + 1] = xs[i] + xAxisDeltas[i];
+			ys[i + 1] = ys[i] + yAxisDeltas[i];
+			minX = Math.min(minX, xs[i + 1]);
+			maxX = Math.max(maxX, xs[i + 1]);
+			minY = Math.min(minY, ys[i + 1]);
+			maxY = Math.max(maxY, ys[i + 1]);
+			duration += durations[i];
+		}
+		long endTime = 0L;
+		for (int i = 0; i < count; i++) {
+			endTime += durations[i];
+			endFractions[i] = (float) endTime / duration;
+		}
+		endFractions[count - 1] = 1.0f;
+		this.duration = duration;
+		this.minX = minX;
+		this.maxX = maxX;
+		this.minY = minY;
+		this.maxY = maxY;
+	}
+
+	/**
+	 * Finds the keyframe, which is in progress at the given fraction of the track duration
+	 *
+	 * @param fraction fraction of the track duration from {@code 0} to {@code 1}
+	 * @return index of the keyframe
+	 */
+	public int findKeyframe(float fraction) {
+		int low = 0;
+		int high = endFractions.length - 1;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (endFractions[middle] <= fraction) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the fraction of the keyframe duration at the given fraction of the track duration
+	 *
+	 * @param keyframe index of the keyframe
+	 * @param fraction fraction of the track duration from {@code 0} to {@code 1}
+	 * @return fraction of the keyframe duration from {@code 0} to {@code 1}
+	 */
+	public float getKeyframeFraction(int keyframe, float fraction) {
+		float startFraction = keyframe == 0 ? 0.0f : endFractions[keyframe - 1];
+		float keyframeFraction = (fraction - startFraction) / (endFractions[keyframe] - startFraction);
+		return Math.max(0.0f, Math.min(1.0f, keyframeFraction));
+	}
+
+	/**
+	 * Returns the X-axis offset at the given interpolation of the keyframe
+	 *
+	 * @param keyframe index of the keyframe
+	 * @param interpolation interpolation of the keyframe fraction
+	 * @return X-axis offset in actual pixels
+	 */
+	public float getX(int keyframe, float interpolation) {
+		return xs[keyframe] + (xs[keyframe + 1] - xs[keyframe]) * interpolation;
+	}
+
+	/**
+	 * Returns the Y-axis offset at the given interpolation of the keyframe
+	 *
+	 * @param keyframe index of the keyframe
+	 * @param interpolation interpolation of the keyframe fraction
+	 * @return Y-axis offset in actual pixels
+	 */
+	public float getY(int keyframe, float interpolation) {
+		return ys[keyframe] + (ys[keyframe + 1] - ys[keyframe]) * interpolation;
+	}
+
+	/**
+	 * Returns the number of the keyframes
+	 *
+	 * @return number of the keyframes
+	 */
+	public int getKeyframeCount() {
+		return endFractions.length;
+	}
+
+	/**
+	 * Returns the track duration
+	 *
+	 * @return track duration in ms
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Returns the X-axis offset the track ends at
+	 *
+	 * @return X-axis offset the track ends at in actual pixels
+	 */
+	public float getEndX() {
+		return xs[xs.length - 1];
+	}
+
+	/**
+	 * Returns the Y-axis offset the track ends at
+	 *
+	 * @return Y-axis offset the track ends at in actual pixels
+	 */
+	public float getEndY() {
+		return ys[ys.length - 1];
+	}
+
+	/**
+	 * Returns the minimum X-axis offset reached by the keyframes
+	 *
+	 * @return minimum X-axis offset in actual pixels
+	 */
+	public float getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Returns the maximum X-axis offset reached by the keyframes
+	 *
+	 * @return maximum X-axis offset in actual pixels
+	 */
+	public float getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Returns the minimum Y-axis offset reached by the keyframes
+	 *
+	 * @return minimum Y-axis offset in actual pixels
+	 */
+	public float getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Returns the maximum Y-axis offset reached by the keyframes
+	 *
+	 * @return maximum Y-axis offset in actual pixels
+	 */
+	public float getMaxY() {
+		return maxY;
+	}
+
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+import java.util.Arrays;
+
+/**
+ * Motion batch class, which keeps the tween motions of many views in parallel
+ * primitive arrays and steps all of them at once
+ * <p>
+ * Each motion occupies a slot, which is identified by its index. The slots of the
+ * completed or removed motions are put to the free list and reused by the next
+ * motions, so that the arrays grow only when more motions are active at once than
+ * ever before. Adding, stepping and removing motions allocates nothing otherwise
+ * <p>
+ * The motion starts on the first step after it is added, so that all the motions
+ * added before the frame share its time. The retargeted motion keeps its velocity,
+ * which decays by the end of the motion, the same way as {@link MoveMotion} does
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MotionBatch {
+
+	/**
+	 * Start time of the motion, which has not been stepped yet
+	 */
+	private static final long NOT_STARTED = Long.MIN_VALUE;
+
+	/**
+	 * End of the free list
+	 */
+	private static final int NO_SLOT = -1;
+
+	/**
+	 * Slot state of the free slot
+	 */
+	private static final byte FREE = 0;
+
+	/**
+	 * Slot state of the motion in progress
+	 */
+	private static final byte MOVING = 1;
+
+	/**
+	 * Slot state of the motion, which ended on the last step
+	 */
+	private static final byte ENDED = 2;
+
+	/**
+	 * X-axis values the motions start from
+	 */
+	private float[] fromXs;
+
+	/**
+	 * Y-axis values the motions start from
+	 */
+	private float[] fromYs;
+
+	/**
+	 * X-axis values the motions end at
+	 */
+	private float[] toXs;
+
+	/**
+	 * Y-axis values the motions end at
+	 */
+	private float[] toYs;
+
+	/**
+	 * Current X-axis values of the motions
+	 */
+	private float[] xs;
+
+	/**
+	 * Current Y-axis values of the motions
+	 */
+	private float[] ys;
+
+	/**
+	 * X-axis velocities the motions start with in pixels per ms
+	 */
+	private float[] startVelocityXs;
+
+	/**
+	 * Y-axis velocities the motions start with in pixels per ms
+	 */
+	private float[] startVelocityYs;
+
+	/**
+	 * Current X-axis velocities of the motions in pixels per ms
+	 */
+	private float[] velocityXs;
+
+	/**
+	 * Current Y-axis velocities of the motions in pixels per ms
+	 */
+	private float[] velocityYs;
+
+	/**
+	 * Linear fractions of the motion durations reached on the last step
+	 */
+	private float[] fractions;
+
+	/**
+	 * Start times of the motions in nanoseconds
+	 */
+	private long[] startTimes;
+
+	/**
+	 * Durations of the motions in ms
+	 */
+	private long[] durations;
+
+	/**
+	 * States of the slots
+	 */
+	private byte[] states;
+
+	/**
+	 * Next free slot of each free slot
+	 */
+	private int[] nextFreeSlots;
+
+	/**
+	 * First free slot or {@link #NO_SLOT} if there are no free slots
+	 */
+	private int freeSlot = NO_SLOT;
+
+	/**
+	 * Number of the slots ever used, which are either occupied or free
+	 */
+	private int slotCount;
+
+	/**
+	 * Number of the occupied slots
+	 */
+	private int activeCount;
+
+	/**
+	 * Creates the {@link MotionBatch} instance
+	 *
+	 * @param capacity initial number of the slots, must be positive
+	 */
+	public MotionBatch(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Motion batch capacity must be positive");
+		}
+		fromXs = new float[capacity];
+		fromYs = new float[capacity];
+		toXs = new float[capacity];
+		toYs = new float[capacity];
+		xs = new float[capacity];
+		ys = new float[capacity];
+		startVelocityXs = new float[capacity];
+		startVelocityYs = new float[capacity];
+		velocityXs = new float[capacity];
+		velocityYs = new float[capacity];
+		fractions = new float[capacity];
+		startTimes = new long[capacity];
+		durations = new long[capacity];
+		states = new byte[capacity];
+		nextFreeSlots = new int[capacity];
+	}
+
+	/**
+	 * Adds the motion, which starts on the next step
+	 *
+	 * @param fromX X-axis value to start from
+	 * @param fromY Y-axis value to start from
+	 * @param toX X-axis value to end at
+	 * @param toY Y-axis value to end at
+	 * @param duration motion duration in ms
+	 * @return slot of the motion
+	 */
+	public int add(float fromX, float fromY, float toX, float toY, long duration) {
+		int slot;
+		if (freeSlot != NO_SLOT) {
+			slot = freeSlot;
+			freeSlot = nextFreeSlots[slot];
+		} else {
+			if (slotCount == states.length) {
+				grow();
+			}
+			slot = slotCount++;
+		}
+		fromXs[slot] = fromX;
+		fromYs[slot] = fromY;
+		toXs[slot] = toX;
+		toYs[slot] = toY;
+		xs[slot] = fromX;
+		ys[slot] = fromY;
+		startVelocityXs[slot] = 0.0f;
+		startVelocityYs[slot] = 0.0f;
+		velocityXs[slot] = 0.0f;
+		velocityYs[slot] = 0.0f;
+		fractions[slot] = 0.0f;
+		startTimes[slot] = NOT_STARTED;
+		durations[slot] = duration;
+		states[slot] = MOVING;
+		activeCount++;
+		return slot;
+	}
+
+	/**
+	 * Restarts the motion from its current values to the new end values keeping its
+	 * current velocity
+	 * <p>
+	 * The current velocity decays to {@code zero} by the end of the motion, so that
+	 * the retargeted motion smoothly continues the previous one without restarting
+	 *
+	 * @param slot slot of the motion
+	 * @param toX X-axis value to end at
+	 * @param toY Y-axis value to end at
+	 * @param duration motion duration in ms
+	 */
+	public void retarget(int slot, float toX, float toY, long duration) {
+		fromXs[slot] = xs[slot];
+		fromYs[slot] = ys[slot];
+		toXs[slot] = toX;
+		toYs[slot] = toY;
+		startVelocityXs[slot] = velocityXs[slot];
+		startVelocityYs[slot] = velocityYs[slot];
+		fractions[slot] = 0.0f;
+		startTimes[slot] = NOT_STARTED;
+		durations[slot] = duration;
+		states[slot] = MOVING;
+	}
+
+	/**
+	 * Removes the motion and puts its slot to the free list
+	 *
+	 * @param slot slot of the motion
+	 */
+	public void remove(int slot) {
+		if (states[slot] == FREE) {
+			return;
+		}
+		states[slot] = FREE;
+		nextFreeSlots[slot] = freeSlot;
+		freeSlot = slot;
+		activeCount--;
+	}
+
+	/**
+	 * Steps all the motions in progress to the frame time
+	 * <p>
+	 * The values are interpolated between the start and the end values, and the start
+	 * velocity contribution, which fades out by the end of the motion, is added to them.
+	 * The velocities are calculated from the change since the last step. The motions,
+	 * which reach their end values, are marked as ended until removed
+	 *
+	 * @param frameTimeNanos frame time in nanoseconds
+	 * @param easing easing curve applied to the linear fraction of the motion durations
+	 */
+	public void step(long frameTimeNanos, InterpolationTable easing) {
+		for (int slot = 0; slot < slotCount; slot++) {
+			if (states[slot] != MOVING) {
+				continue;
+			}
+			if (startTimes[slot] == NOT_STARTED) {
+				startTimes[slot] = frameTimeNanos;
+			}
+			float fraction = FrameTiming.fraction(FrameTiming.elapsedMillis(startTimes[slot], frameTimeNanos),
+					durations[slot]);
+			float interpolation = easing.interpolate(fraction);
+			float remaining = 1.0f - fraction;
+			float velocityFactor = durations[slot] * fraction * remaining * remaining;
+			float x = fromXs[slot] + (toXs[slot] - fromXs[slot]) * interpolation + startVelocityXs[slot] * velocityFactor;
+			float y = fromYs[slot] + (toYs[slot] - fromYs[slot]) * interpolation + startVelocityYs[slot] * velocityFactor;
+			float elapsedTime = (fraction - fractions[slot]) * durations[slot];
+			if (elapsedTime > 0.0f) {
+				velocityXs[slot] = (x - xs[slot]) / elapsedTime;
+				velocityYs[slot] = (y - ys[slot]) / elapsedTime;
+			}
+			fractions[slot] = fraction;
+			xs[slot] = x;
+			ys[slot] = y;
+			if (fraction >= 1.0f) {
+				states[slot] = ENDED;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of the slots to iterate over, which are either occupied or free
+	 *
+	 * @return number of the slots ever used
+	 */
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * Returns the number of the motions, which are either in progress or ended but not removed
+	 *
+	 * @return number of the occupied slots
+	 */
+	public int getActiveCount() {
+		return activeCount;
+	}
+
+	/**
+	 * Checks whether the slot is occupied by the motion
+	 *
+	 * @param slot slot to check
+	 * @return true if the slot is occupied, otherwise false
+	 */
+	public boolean isActive(int slot) {
+		return states[slot] != FREE;
+	}
+
+	/**
+	 * Checks whether the motion ended on the last step
+	 *
+	 * @param slot slot of the motion
+	 * @return true if the motion ended, otherwise false
+	 */
+	public boolean isEnded(int slot) {
+		return states[slot] == ENDED;
+	}
+
+	/**
+	 * Returns the current X-axis value of the motion
+	 *
+	 * @param slot slot of the motion
+	 * @return current X-axis value
+	 */
+	public float getX(int slot) {
+		return xs[slot];
+	}
+
+	/**
+	 * Returns the current Y-axis value of the motion
+	 *
+	 * @param slot slot of the motion
+	 * @return current Y-axis value
+	 */
+	public float getY(int slot) {
+		return ys[slot];
+	}
+
+	/**
+	 * Returns the X-axis value the motion ends at
+	 *
+	 * @param slot slot of the motion
+	 * @return X-axis value the motion ends at
+	 */
+	public float getToX(int slot) {
+		return toXs[slot];
+	}
+
+	/**
+	 * Returns the Y-axis value the motion ends at
+	 *
+	 * @param slot slot of the motion
+	 * @return Y-axis value the motion ends at
+	 */
+	public float getToY(int slot) {
+		return toYs[slot];
+	}
+
+	/**
+	 * Returns the current X-axis velocity of the motion
+	 *
+	 * @param slot slot of the motion
+	 * @return current X-axis velocity in pixels per ms
+	 */
+	public float getVelocityX(int slot) {
+		return velocityXs[slot];
+	}
+
+	/**
+	 * Returns the current Y-axis velocity of the motion
+	 *
+	 * @param slot slot of the motion
+	 * @return current Y-axis velocity in pixels per ms
+	 */
+	public float getVelocityY(int slot) {
+		return velocityYs[slot];
+	}
+
+	/**
+	 * Doubles the number of the slots
+	 */
+	private void grow() {
+		int capacity = states.length * 2;
+		fromXs = Arrays.copyOf(fromXs, capacity);
+		fromYs = Arrays.copyOf(fromYs, capacity);
+		toXs = Arrays.copyOf(toXs, capacity);
+		toYs = Arrays.copyOf(toYs, capacity);
+		xs = Arrays.copyOf(xs, capacity);
+		ys = Arrays.copyOf(ys, capacity);
+		startVelocityXs = Arrays.copyOf(startVelocityXs, capacity);
+		startVelocityYs = Arrays.copyOf(startVelocityYs, capacity);
+		velocityXs = Arrays.copyOf(velocityXs, capacity);
+		velocityYs = Arrays.copyOf(velocityYs, capacity);
+		fractions = Arrays.copyOf(fractions, capacity);
+		startTimes = Arrays.copyOf(startTimes, capacity);
+		durations = Arrays.copyOf(durations, capacity);
+		states = Arrays.copyOf(states, capacity);
+		nextFreeSlots = Arrays.copyOf(nextFreeSlots, capacity);
+	}
+
+}
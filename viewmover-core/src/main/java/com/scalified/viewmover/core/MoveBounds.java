@@ -0,0 +1,208 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Bounds class, which contains the range of the deltas the view can be moved at
+ * staying within its parent container, and verifies the move deltas against it
+ * <p>
+ * The range is relative to the view's current position, so it is shifted each time
+ * the view is moved
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MoveBounds {
+
+	/**
+	 * Minimum X-axis delta in actual pixels
+	 */
+	private float minXAxisDelta;
+
+	/**
+	 * Maximum X-axis delta in actual pixels
+	 */
+	private float maxXAxisDelta;
+
+	/**
+	 * Minimum Y-axis delta in actual pixels
+	 */
+	private float minYAxisDelta;
+
+	/**
+	 * Maximum Y-axis delta in actual pixels
+	 */
+	private float maxYAxisDelta;
+
+	/**
+	 * Sets the range of the deltas based on the view bounds within its parent container
+	 *
+	 * @param left X coordinate of the view's left bound
+	 * @param top Y coordinate of the view's top bound
+	 * @param right X coordinate of the view's right bound
+	 * @param bottom Y coordinate of the view's bottom bound
+	 * @param parentWidth width of the parent container
+	 * @param parentHeight height of the parent container
+	 */
+	public void set(int left, int top, int right, int bottom, int parentWidth, int parentHeight) {
+		minXAxisDelta = -left;
+		maxXAxisDelta = parentWidth - right;
+		minYAxisDelta = -top;
+		maxYAxisDelta = parentHeight - bottom;
+	}
+
+	/**
+	 * Shifts the range of the deltas after the view is moved at the given deltas
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels the view is moved at
+	 * @param yAxisDelta Y-axis delta in actual pixels the view is moved at
+	 */
+	public void shift(float xAxisDelta, float yAxisDelta) {
+		minXAxisDelta -= xAxisDelta;
+		maxXAxisDelta -= xAxisDelta;
+		minYAxisDelta -= yAxisDelta;
+		maxYAxisDelta -= yAxisDelta;
+	}
+
+	/**
+	 * Verifies the X-axis delta
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param clamp true to clamp the delta to the range, otherwise false
+	 * @return X-axis delta if there is enough space to move the view horizontally,
+	 *         otherwise either the clamped delta or {@code zero}
+	 * @see #verifyDelta(float, float, float, boolean)
+	 */
+	public float verifyXAxisDelta(float xAxisDelta, boolean clamp) {
+		return verifyDelta(xAxisDelta, minXAxisDelta, maxXAxisDelta, clamp);
+	}
+
+	/**
+	 * Verifies the Y-axis delta
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param clamp true to clamp the delta to the range, otherwise false
+	 * @return Y-axis delta if there is enough space to move the view vertically,
+	 *         otherwise either the clamped delta or {@code zero}
+	 * @see #verifyDelta(float, float, float, boolean)
+	 */
+	public float verifyYAxisDelta(float yAxisDelta, boolean clamp) {
+		return verifyDelta(yAxisDelta, minYAxisDelta, maxYAxisDelta, clamp);
+	}
+
+	/**
+	 * Checks whether the path stays within the range along both axes
+	 * <p>
+	 * The path's bounding box is checked rather than its end point, so that the view
+	 * doesn't leave the parent container in the middle of the move
+	 *
+	 * @param path path relative to the view's current position
+	 * @return true if the path's bounding box is within the range, otherwise false
+	 */
+	public boolean contains(MovePath path) {
+		return contains(path.getMinX(), path.getMinY(), path.getMaxX(), path.getMaxY());
+	}
+
+	/**
+	 * Checks whether all the keyframes of the track stay within the range along both axes
+	 * <p>
+	 * The track is verified once as a whole, so that none of its keyframes moves the view
+	 * out of the parent container
+	 *
+	 * @param track keyframe track relative to the view's current position
+	 * @return true if the offsets of all the keyframes are within the range, otherwise false
+	 */
+	public boolean contains(KeyframeTrack track) {
+		return contains(track.getMinX(), track.getMinY(), track.getMaxX(), track.getMaxY());
+	}
+
+	/**
+	 * Checks whether the bounding box of the offsets is within the range
+	 *
+	 * @param minX minimum X-axis offset in actual pixels
+	 * @param minY minimum Y-axis offset in actual pixels
+	 * @param maxX maximum X-axis offset in actual pixels
+	 * @param maxY maximum Y-axis offset in actual pixels
+	 * @return true if the bounding box is within the range, otherwise false
+	 */
+	private boolean contains(float minX, float minY, float maxX, float maxY) {
+		return minX >= minXAxisDelta && maxX <= maxXAxisDelta && minY >= minYAxisDelta && maxY <= maxYAxisDelta;
+	}
+
+	/**
+	 * Verifies the axis delta against the range along that axis
+	 * <p>
+	 * If clamping is requested, the delta is clamped to the range, unless this would
+	 * move the view in the opposite direction
+	 *
+	 * @param delta axis delta in actual pixels
+	 * @param minDelta minimum axis delta in actual pixels
+	 * @param maxDelta maximum axis delta in actual pixels
+	 * @param clamp true to clamp the delta to the range, otherwise false
+	 * @return verified axis delta in actual pixels
+	 */
+	private static float verifyDelta(float delta, float minDelta, float maxDelta, boolean clamp) {
+		if (delta >= minDelta && delta <= maxDelta) {
+			return delta;
+		}
+		if (clamp) {
+			float clampedDelta = Math.max(minDelta, Math.min(maxDelta, delta));
+			if (clampedDelta * delta > 0.0f) {
+				return clampedDelta;
+			}
+		}
+		return 0.0f;
+	}
+
+	/**
+	 * Returns the minimum X-axis delta
+	 *
+	 * @return minimum X-axis delta in actual pixels
+	 */
+	public float getMinXAxisDelta() {
+		return minXAxisDelta;
+	}
+
+	/**
+	 * Returns the maximum X-axis delta
+	 *
+	 * @return maximum X-axis delta in actual pixels
+	 */
+	public float getMaxXAxisDelta() {
+		return maxXAxisDelta;
+	}
+
+	/**
+	 * Returns the minimum Y-axis delta
+	 *
+	 * @return minimum Y-axis delta in actual pixels
+	 */
+	public float getMinYAxisDelta() {
+		return minYAxisDelta;
+	}
+
+	/**
+	 * Returns the maximum Y-axis delta
+	 *
+	 * @return maximum Y-axis delta in actual pixels
+	 */
+	public float getMaxYAxisDelta() {
+		return maxYAxisDelta;
+	}
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Motion class, which calculates the view offset during the move
+ * <p>
+ * The offset is calculated relative to the view position when the move started,
+ * based on the linear fraction of the move duration and its interpolation. The
+ * interpolation is blended by the motion itself, so that the motion could be
+ * retargeted keeping its velocity
+ * <p>
+ * The motion either follows the straight line to its end offset, the {@link MovePath}
+ * or the {@link KeyframeTrack}.
+ * The interpolation of the path motion is the fraction of the path's arc length, so
+ * that the view moves along the path at a constant speed unless the interpolation
+ * changes it
+ * <p>
+ * The motion state is kept in primitive fields, so that a single instance is
+ * reused for all moves of the view
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MoveMotion {
+
+	/**
+	 * X-axis offset the motion starts from in actual pixels
+	 */
+	private float fromX;
+
+	/**
+	 * Y-axis offset the motion starts from in actual pixels
+	 */
+	private float fromY;
+
+	/**
+	 * X-axis offset the motion ends at in actual pixels
+	 */
+	private float toX;
+
+	/**
+	 * Y-axis offset the motion ends at in actual pixels
+	 */
+	private float toY;
+
+	/**
+	 * X-axis velocity the motion starts with in pixels per ms
+	 */
+	private float startVelocityX;
+
+	/**
+	 * Y-axis velocity the motion starts with in pixels per ms
+	 */
+	private float startVelocityY;
+
+	/**
+	 * Path the motion follows or {@code null} if the motion follows the straight line
+	 */
+	private MovePath path;
+
+	/**
+	 * Keyframe track the motion follows or {@code null} if the motion doesn't follow
+	 * the keyframe track
+	 */
+	private KeyframeTrack track;
+
+	/**
+	 * Keyframe, which is currently in progress
+	 */
+	private int keyframe;
+
+	/**
+	 * Motion duration in ms
+	 */
+	private long duration;
+
+	/**
+	 * Last fraction the motion was updated with
+	 */
+	private float fraction;
+
+	/**
+	 * Current X-axis offset in actual pixels
+	 */
+	private float x;
+
+	/**
+	 * Current Y-axis offset in actual pixels
+	 */
+	private float y;
+
+	/**
+	 * Current X-axis velocity in pixels per ms
+	 */
+	private float velocityX;
+
+	/**
+	 * Current Y-axis velocity in pixels per ms
+	 */
+	private float velocityY;
+
+	/**
+	 * Starts the motion from the view position when the move started
+	 *
+	 * @param toX X-axis offset to end at in actual pixels
+	 * @param toY Y-axis offset to end at in actual pixels
+	 * @param duration motion duration in ms
+	 */
+	public void start(float toX, float toY, long duration) {
+		this.x = 0.0f;
+		this.y = 0.0f;
+		this.velocityX = 0.0f;
+		this.velocityY = 0.0f;
+		retarget(toX, toY, duration);
+	}
+
+	/**
+	 * Starts the motion along the path from the view position when the move started
+	 *
+	 * @param path path to follow
+	 * @param duration motion duration in ms
+	 */
+	public void start(MovePath path, long duration) {
+		start(path.getEndX(), path.getEndY(), duration);
+		this.path = path;
+	}
+
+	/**
+	 * Starts the motion along the keyframe track from the view position when the move started
+	 * <p>
+	 * The keyframe track motion is updated by {@link #updateKeyframe(float, float)} with
+	 * the interpolation of the keyframe, which is in progress
+	 *
+	 * @param track keyframe track to follow
+	 */
+	public void start(KeyframeTrack track) {
+		start(track.getEndX(), track.getEndY(), track.getDuration());
+		this.track = track;
+	}
+
+	/**
+	 * Restarts the motion from the current offset keeping the current velocity
+	 * <p>
+	 * The retargeted motion follows the straight line to the new end offset, even if
+	 * the previous one followed the path
+	 * <p>
+	 * The current velocity decays to {@code zero} by the end of the motion, so that
+	 * the retargeted motion smoothly continues the previous one without restarting
+	 *
+	 * @param toX X-axis offset to end at in actual pixels
+	 * @param toY Y-axis offset to end at in actual pixels
+	 * @param duration motion duration in ms
+	 */
+	public void retarget(float toX, float toY, long duration) {
+		this.fromX = x;
+		this.fromY = y;
+		this.toX = toX;
+		this.toY = toY;
+		this.startVelocityX = velocityX;
+		this.startVelocityY = velocityY;
+		this.path = null;
+		this.track = null;
+		this.keyframe = 0;
+		this.duration = duration;
+		this.fraction = 0.0f;
+	}
+
+	/**
+	 * Updates the current offset and velocity
+	 * <p>
+	 * The offset is interpolated between the start and the end offsets, and the start
+	 * velocity contribution, which fades out by the end of the motion, is added to it.
+	 * The path motion offset is found at the interpolated distance along the path
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @param interpolation interpolation of the fraction
+	 */
+	public void update(float fraction, float interpolation) {
+		float newX;
+		float newY;
+		if (path != null) {
+			float distance = path.getLength() * interpolation;
+			int segment = path.findSegment(distance);
+			newX = path.getX(segment, distance);
+			newY = path.getY(segment, distance);
+		} else {
+			float remaining = 1.0f - fraction;
+			float velocityFactor = duration * fraction * remaining * remaining;
+			newX = fromX + (toX - fromX) * interpolation + startVelocityX * velocityFactor;
+			newY = fromY + (toY - fromY) * interpolation + startVelocityY * velocityFactor;
+		}
+		apply(fraction, newX, newY);
+	}
+
+	/**
+	 * Finds the keyframe of the keyframe track motion, which is in progress at the given fraction
+	 * <p>
+	 * Must be called before {@link #updateKeyframe(float, float)}
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @return fraction of the keyframe duration from {@code 0} to {@code 1}
+	 */
+	public float findKeyframe(float fraction) {
+		keyframe = track.findKeyframe(fraction);
+		return track.getKeyframeFraction(keyframe, fraction);
+	}
+
+	/**
+	 * Returns the keyframe found by the last {@link #findKeyframe(float)} call
+	 *
+	 * @return index of the keyframe
+	 */
+	public int getKeyframe() {
+		return keyframe;
+	}
+
+	/**
+	 * Updates the current offset and velocity of the keyframe track motion
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @param interpolation interpolation of the keyframe fraction
+	 */
+	public void updateKeyframe(float fraction, float interpolation) {
+		apply(fraction, track.getX(keyframe, interpolation), track.getY(keyframe, interpolation));
+	}
+
+	/**
+	 * Checks whether the motion follows the keyframe track
+	 *
+	 * @return true if the motion follows the keyframe track, otherwise false
+	 */
+	public boolean hasKeyframes() {
+		return track != null;
+	}
+
+	/**
+	 * Applies the new offset, calculating the velocity from the change since the last update
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @param newX new X-axis offset in actual pixels
+	 * @param newY new Y-axis offset in actual pixels
+	 */
+	private void apply(float fraction, float newX, float newY) {
+		float elapsedTime = (fraction - this.fraction) * duration;
+		if (elapsedTime > 0.0f) {
+			velocityX = (newX - x) / elapsedTime;
+			velocityY = (newY - y) / elapsedTime;
+		}
+		this.fraction = fraction;
+		this.x = newX;
+		this.y = newY;
+	}
+
+	/**
+	 * Returns the X-axis offset the motion ends at
+	 *
+	 * @return X-axis offset the motion ends at in actual pixels
+	 */
+	public float getToX() {
+		return toX;
+	}
+
+	/**
+	 * Returns the Y-axis offset the motion ends at
+	 *
+	 * @return Y-axis offset the motion ends at in actual pixels
+	 */
+	public float getToY() {
+		return toY;
+	}
+
+	/**
+	 * Returns the current X-axis offset
+	 *
+	 * @return current X-axis offset in actual pixels
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the current Y-axis offset
+	 *
+	 * @return current Y-axis offset in actual pixels
+	 */
+	public float getY() {
+		return y;
+	}
+
+	/**
+	 * Returns the current X-axis velocity
+	 *
+	 * @return current X-axis velocity in pixels per ms
+	 */
+	public float getVelocityX() {
+		return velocityX;
+	}
+
+	/**
+	 * Returns the current Y-axis velocity
+	 *
+	 * @return current Y-axis velocity in pixels per ms
+	 */
+	public float getVelocityY() {
+		return velocityY;
+	}
+
+}
@@ -0,0 +1,424 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+import java.util.Arrays;
+
+/**
+ * Path class, which contains the curve the view is moved along
+ * <p>
+ * The path starts at the view position when the move starts and consists of lines,
+ * quadratic and cubic Bezier curves and circular arcs, all relative to that position.
+ * When built, the path is flattened once into a polyline, which is stored in primitive
+ * arrays together with the cumulative arc length of its vertices. The position at the
+ * given distance along the path is then found by a single binary search followed by a
+ * linear interpolation, so that the view moves at a constant speed along the curves
+ * <p>
+ * The path is immutable and may be shared by any number of moves
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MovePath {
+
+	/**
+	 * Maximum length of the control polygon or the arc in actual pixels, which is
+	 * flattened into a single line
+	 */
+	private static final float FLATTENING_STEP = 2.0f;
+
+	/**
+	 * Maximum number of lines a single curve or arc is flattened into
+	 */
+	private static final int MAX_CURVE_SEGMENTS = 256;
+
+	/**
+	 * X coordinates of the polyline vertices in actual pixels
+	 */
+	private final float[] xs;
+
+	/**
+	 * Y coordinates of the polyline vertices in actual pixels
+	 */
+	private final float[] ys;
+
+	/**
+	 * Cumulative arc length of the polyline vertices in actual pixels
+	 */
+	private final float[] lengths;
+
+	/**
+	 * Minimum X coordinate of the polyline in actual pixels
+	 */
+	private final float minX;
+
+	/**
+	 * Maximum X coordinate of the polyline in actual pixels
+	 */
+	private final float maxX;
+
+	/**
+	 * Minimum Y coordinate of the polyline in actual pixels
+	 */
+	private final float minY;
+
+	/**
+	 * Maximum Y coordinate of the polyline in actual pixels
+	 */
+	private final float maxY;
+
+	/**
+	 * Creates the {@link MovePath} instance from the flattened polyline
+	 *
+	 * @param builder builder, which contains the polyline vertices
+	 */
+	private MovePath(Builder builder) {
+		int count = builder.count;
+		this.xs = Arrays.copyOf(builder.xs, count);
+		this.ys = Arrays.copyOf(builder.ys, count);
+		this.lengths = new float[count];
+		float minX = 0.0f;
+		float maxX = 0.0f;
+		float minY = 0.0f;
+		float maxY = 0.0f;
+		for (int i = 1; i < count; i++) {
+			lengths[i] = lengths[i - 1] + distance(xs[i - 1], ys[i - 1], xs[i], ys[i]);
+			minX = Math.min(minX, xs[i]);
+			maxX = Math.max(maxX, xs[i]);
+			minY = Math.min(minY, ys[i]);
+			maxY = Math.max(maxY, ys[i]);
+		}
+		this.minX = minX;
+		this.maxX = maxX;
+		this.minY = minY;
+		this.maxY = maxY;
+	}
+
+	/**
+	 * Returns the arc length of the path
+	 *
+	 * @return arc length of the path in actual pixels
+	 */
+	public float getLength() {
+		return lengths[lengths.length - 1];
+	}
+
+	/**
+	 * Returns the X coordinate the path ends at
+	 *
+	 * @return X coordinate the path ends at in actual pixels
+	 */
+	public float getEndX() {
+		return xs[xs.length - 1];
+	}
+
+	/**
+	 * Returns the Y coordinate the path ends at
+	 *
+	 * @return Y coordinate the path ends at in actual pixels
+	 */
+	public float getEndY() {
+		return ys[ys.length - 1];
+	}
+
+	/**
+	 * Returns the minimum X coordinate of the path's bounding box
+	 *
+	 * @return minimum X coordinate in actual pixels
+	 */
+	public float getMinX() {
+		return minX;
+	}
+
+	/**
+	 * Returns the maximum X coordinate of the path's bounding box
+	 *
+	 * @return maximum X coordinate in actual pixels
+	 */
+	public float getMaxX() {
+		return maxX;
+	}
+
+	/**
+	 * Returns the minimum Y coordinate of the path's bounding box
+	 *
+	 * @return minimum Y coordinate in actual pixels
+	 */
+	public float getMinY() {
+		return minY;
+	}
+
+	/**
+	 * Returns the maximum Y coordinate of the path's bounding box
+	 *
+	 * @return maximum Y coordinate in actual pixels
+	 */
+	public float getMaxY() {
+		return maxY;
+	}
+
+	/**
+	 * Finds the polyline segment, which contains the given distance along the path
+	 * <p>
+	 * The distances beyond the path's ends are attributed to its first or last segment,
+	 * so that the position is extrapolated along them
+	 *
+	 * @param distance distance along the path in actual pixels
+	 * @return index of the segment's starting vertex
+	 */
+	int findSegment(float distance) {
+		int low = 0;
+		int high = lengths.length - 2;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (lengths[middle] <= distance) {
+				low = middle;
+			} else {
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the X coordinate at the given distance along the given segment
+	 *
+	 * @param segment index of the segment's starting vertex
+	 * @param distance distance along the path in actual pixels
+	 * @return X coordinate in actual pixels
+	 */
+	float getX(int segment, float distance) {
+		return xs[segment] + (xs[segment + 1] - xs[segment]) * segmentFraction(segment, distance);
+	}
+
+	/**
+	 * Returns the Y coordinate at the given distance along the given segment
+	 *
+	 * @param segment index of the segment's starting vertex
+	 * @param distance distance along the path in actual pixels
+	 * @return Y coordinate in actual pixels
+	 */
+	float getY(int segment, float distance) {
+		return ys[segment] + (ys[segment + 1] - ys[segment]) * segmentFraction(segment, distance);
+	}
+
+	/**
+	 * Returns the fraction of the segment at the given distance along the path
+	 *
+	 * @param segment index of the segment's starting vertex
+	 * @param distance distance along the path in actual pixels
+	 * @return fraction of the segment, which is outside {@code [0, 1]} beyond the path's ends
+	 */
+	private float segmentFraction(int segment, float distance) {
+		return (distance - lengths[segment]) / (lengths[segment + 1] - lengths[segment]);
+	}
+
+	/**
+	 * Returns the distance between the points
+	 *
+	 * @param x1 X coordinate of the first point
+	 * @param y1 Y coordinate of the first point
+	 * @param x2 X coordinate of the second point
+	 * @param y2 Y coordinate of the second point
+	 * @return distance between the points
+	 */
+	private static float distance(float x1, float y1, float x2, float y2) {
+		return (float) Math.hypot(x2 - x1, y2 - y1);
+	}
+
+	/**
+	 * Returns the number of lines the curve is flattened into
+	 *
+	 * @param length length of the curve's control polygon or arc in actual pixels
+	 * @return number of lines
+	 */
+	private static int segmentCount(float length) {
+		return Math.max(1, Math.min(MAX_CURVE_SEGMENTS, (int) Math.ceil(length / FLATTENING_STEP)));
+	}
+
+	/**
+	 * Builder class, which is used to create the {@link MovePath} instance
+	 * <p>
+	 * The path starts at {@code (0, 0)}, which is the view position when the move starts.
+	 * Each segment starts at the point the previous one ends at. Coordinates are in
+	 * actual pixels
+	 */
+	public static final class Builder {
+
+		/**
+		 * Initial capacity of the vertex arrays
+		 */
+		private static final int INITIAL_CAPACITY = 16;
+
+		/**
+		 * X coordinates of the polyline vertices
+		 */
+		private float[] xs = new float[INITIAL_CAPACITY];
+
+		/**
+		 * Y coordinates of the polyline vertices
+		 */
+		private float[] ys = new float[INITIAL_CAPACITY];
+
+		/**
+		 * Number of the polyline vertices
+		 */
+		private int count = 1;
+
+		/**
+		 * Adds the line from the current point
+		 *
+		 * @param x X coordinate of the line's end
+		 * @param y Y coordinate of the line's end
+		 * @return this builder
+		 */
+		public Builder lineTo(float x, float y) {
+			addVertex(x, y);
+			return this;
+		}
+
+		/**
+		 * Adds the quadratic Bezier curve from the current point
+		 *
+		 * @param controlX X coordinate of the control point
+		 * @param controlY Y coordinate of the control point
+		 * @param x X coordinate of the curve's end
+		 * @param y Y coordinate of the curve's end
+		 * @return this builder
+		 */
+		public Builder quadTo(float controlX, float controlY, float x, float y) {
+			float startX = getCurrentX();
+			float startY = getCurrentY();
+			int segments = segmentCount(distance(startX, startY, controlX, controlY)
+					+ distance(controlX, controlY, x, y));
+			for (int i = 1; i <= segments; i++) {
+				float t = (float) i / segments;
+				float u = 1.0f - t;
+				addVertex(u * u * startX + 2.0f * u * t * controlX + t * t * x,
+						u * u * startY + 2.0f * u * t * controlY + t * t * y);
+			}
+			return this;
+		}
+
+		/**
+		 * Adds the cubic Bezier curve from the current point
+		 *
+		 * @param controlX1 X coordinate of the first control point
+		 * @param controlY1 Y coordinate of the first control point
+		 * @param controlX2 X coordinate of the second control point
+		 * @param controlY2 Y coordinate of the second control point
+		 * @param x X coordinate of the curve's end
+		 * @param y Y coordinate of the curve's end
+		 * @return this builder
+		 */
+		public Builder cubicTo(float controlX1, float controlY1, float controlX2, float controlY2, float x, float y) {
+			float startX = getCurrentX();
+			float startY = getCurrentY();
+			int segments = segmentCount(distance(startX, startY, controlX1, controlY1)
+					+ distance(controlX1, controlY1, controlX2, controlY2) + distance(controlX2, controlY2, x, y));
+			for (int i = 1; i <= segments; i++) {
+				float t = (float) i / segments;
+				float u = 1.0f - t;
+				float a = u * u * u;
+				float b = 3.0f * u * u * t;
+				float c = 3.0f * u * t * t;
+				float d = t * t * t;
+				addVertex(a * startX + b * controlX1 + c * controlX2 + d * x,
+						a * startY + b * controlY1 + c * controlY2 + d * y);
+			}
+			return this;
+		}
+
+		/**
+		 * Adds the circular arc from the current point around the given center
+		 * <p>
+		 * Since the Y-axis points down, the positive sweep angle turns clockwise on the display
+		 *
+		 * @param centerX X coordinate of the arc's center
+		 * @param centerY Y coordinate of the arc's center
+		 * @param sweepAngle sweep angle in degrees
+		 * @return this builder
+		 */
+		public Builder arcTo(float centerX, float centerY, float sweepAngle) {
+			float startX = getCurrentX();
+			float startY = getCurrentY();
+			double radius = Math.hypot(startX - centerX, startY - centerY);
+			double startAngle = Math.atan2(startY - centerY, startX - centerX);
+			double sweep = Math.toRadians(sweepAngle);
+			int segments = segmentCount((float) (Math.abs(sweep) * radius));
+			for (int i = 1; i <= segments; i++) {
+				double angle = startAngle + sweep * i / segments;
+				addVertex((float) (centerX + radius * Math.cos(angle)), (float) (centerY + radius * Math.sin(angle)));
+			}
+			return this;
+		}
+
+		/**
+		 * Creates the {@link MovePath} instance
+		 *
+		 * @return {@link MovePath} instance
+		 * @throws IllegalStateException if the path has zero length
+		 */
+		public MovePath build() {
+			if (count < 2) {
+				throw new IllegalStateException("Path must have non-zero length");
+			}
+			return new MovePath(this);
+		}
+
+		/**
+		 * Returns the X coordinate of the current point
+		 *
+		 * @return X coordinate of the current point
+		 */
+		private float getCurrentX() {
+			return xs[count - 1];
+		}
+
+		/**
+		 * Returns the Y coordinate of the current point
+		 *
+		 * @return Y coordinate of the current point
+		 */
+		private float getCurrentY() {
+			return ys[count - 1];
+		}
+
+		/**
+		 * Adds the polyline vertex unless it coincides with the current point, so that
+		 * the polyline has no zero length segments
+		 *
+		 * @param x X coordinate of the vertex
+		 * @param y Y coordinate of the vertex
+		 */
+		private void addVertex(float x, float y) {
+			if (x == getCurrentX() && y == getCurrentY()) {
+				return;
+			}
+			if (count == xs.length) {
+				xs = Arrays.copyOf(xs, count * 2);
+				ys = Arrays.copyOf(ys, count * 2);
+			}
+			xs[count] = x;
+			ys[count] = y;
+			count++;
+		}
+
+	}
+
+}
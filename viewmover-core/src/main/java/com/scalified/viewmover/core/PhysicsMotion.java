@@ -0,0 +1,327 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.core;
+
+/**
+ * Physics based motion class, which calculates the view offset during the spring
+ * or fling move
+ * <p>
+ * The motion is integrated with the fixed time step, so that it behaves the same
+ * regardless of the frame rate. The motion ends when the view comes to rest at the
+ * target rather than after a fixed duration
+ * <p>
+ * The motion state is kept in primitive fields, so that a single instance is
+ * reused for all moves of the view
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class PhysicsMotion {
+
+	/**
+	 * Spring motion type
+	 */
+	private static final int TYPE_SPRING = 0;
+
+	/**
+	 * Fling motion type
+	 */
+	private static final int TYPE_FLING = 1;
+
+	/**
+	 * Integration time step in seconds
+	 */
+	private static final float TIME_STEP = 1.0f / 240.0f;
+
+	/**
+	 * Maximum time in seconds, which is integrated per single advance
+	 * <p>
+	 * Limits the integration cost after a long pause between frames
+	 */
+	private static final float MAX_ADVANCE_TIME = 0.1f;
+
+	/**
+	 * Distance to the target in actual pixels, which is considered as rest
+	 */
+	private static final float REST_DISPLACEMENT = 0.5f;
+
+	/**
+	 * Velocity in pixels per second, which is considered as rest
+	 */
+	private static final float REST_VELOCITY = 30.0f;
+
+	/**
+	 * Velocity in pixels per second, which stops the fling motion even if it is not near
+	 * the target due to the accumulated rounding errors
+	 */
+	private static final float FLING_STOP_VELOCITY = 1.0f;
+
+	/**
+	 * Motion type
+	 */
+	private int type;
+
+	/**
+	 * Spring stiffness
+	 */
+	private float stiffness;
+
+	/**
+	 * Spring damping coefficient
+	 */
+	private float damping;
+
+	/**
+	 * Fling velocity decay per integration step
+	 */
+	private float decay;
+
+	/**
+	 * X-axis offset the motion ends at in actual pixels
+	 */
+	private float targetX;
+
+	/**
+	 * Y-axis offset the motion ends at in actual pixels
+	 */
+	private float targetY;
+
+	/**
+	 * Current X-axis offset in actual pixels
+	 */
+	private float x;
+
+	/**
+	 * Current Y-axis offset in actual pixels
+	 */
+	private float y;
+
+	/**
+	 * Current X-axis velocity in pixels per second
+	 */
+	private float velocityX;
+
+	/**
+	 * Current Y-axis velocity in pixels per second
+	 */
+	private float velocityY;
+
+	/**
+	 * X-axis velocity in pixels per second, which is carried over by the retargeted fling
+	 * motion and fades out faster than the fling velocity
+	 */
+	private float carriedVelocityX;
+
+	/**
+	 * Y-axis velocity in pixels per second, which is carried over by the retargeted fling
+	 * motion and fades out faster than the fling velocity
+	 */
+	private float carriedVelocityY;
+
+	/**
+	 * Time in seconds, which is not integrated yet
+	 */
+	private float pendingTime;
+
+	/**
+	 * Starts the spring motion from the view position when the move started
+	 *
+	 * @param targetX X-axis offset to end at in actual pixels
+	 * @param targetY Y-axis offset to end at in actual pixels
+	 * @param stiffness spring stiffness
+	 * @param dampingRatio spring damping ratio, {@code 1} means critical damping
+	 */
+	public void startSpring(float targetX, float targetY, float stiffness, float dampingRatio) {
+		reset();
+		this.type = TYPE_SPRING;
+		this.stiffness = stiffness;
+		this.damping = 2.0f * dampingRatio * (float) Math.sqrt(stiffness);
+		retarget(targetX, targetY);
+	}
+
+	/**
+	 * Starts the fling motion from the view position when the move started
+	 *
+	 * @param targetX X-axis offset to end at in actual pixels
+	 * @param targetY Y-axis offset to end at in actual pixels
+	 * @param friction fling friction in 1 per second
+	 */
+	public void startFling(float targetX, float targetY, float friction) {
+		reset();
+		this.type = TYPE_FLING;
+		this.decay = (float) Math.exp(-friction * TIME_STEP);
+		this.targetX = targetX;
+		this.targetY = targetY;
+		float coverage = getCoverage(decay);
+		velocityX = targetX / coverage;
+		velocityY = targetY / coverage;
+	}
+
+	/**
+	 * Changes the target the motion ends at, keeping the current offset and velocity
+	 * <p>
+	 * The spring motion is pulled to the new target by the spring. The fling motion keeps
+	 * its current velocity as the carried velocity, which fades out twice as fast as the
+	 * fling velocity, and gets the fling velocity, which brings it to rest at the new target
+	 * together with the carried one
+	 *
+	 * @param targetX X-axis offset to end at in actual pixels
+	 * @param targetY Y-axis offset to end at in actual pixels
+	 */
+	public void retarget(float targetX, float targetY) {
+		this.targetX = targetX;
+		this.targetY = targetY;
+		if (type == TYPE_FLING) {
+			float currentVelocityX = velocityX + carriedVelocityX;
+			float currentVelocityY = velocityY + carriedVelocityY;
+			float coverage = getCoverage(decay);
+			float carriedCoverage = getCoverage(decay * decay);
+			velocityX = (targetX - x - currentVelocityX * carriedCoverage) / (coverage - carriedCoverage);
+			velocityY = (targetY - y - currentVelocityY * carriedCoverage) / (coverage - carriedCoverage);
+			carriedVelocityX = currentVelocityX - velocityX;
+			carriedVelocityY = currentVelocityY - velocityY;
+		}
+	}
+
+	/**
+	 * Returns the distance covered by the unit velocity, which decays per integration step
+	 * until it comes to rest
+	 *
+	 * @param decay velocity decay per integration step
+	 * @return distance in actual pixels covered by the velocity of 1 pixel per second
+	 */
+	private static float getCoverage(float decay) {
+		// Velocity decaying per step covers velocity * step * decay / (1 - decay)
+		return decay * TIME_STEP / (1.0f - decay);
+	}
+
+	/**
+	 * Advances the motion by the given time
+	 * <p>
+	 * The time is integrated in fixed steps, and the remainder is carried to the
+	 * next advance
+	 *
+	 * @param time time to advance by in seconds
+	 * @return true if the motion came to rest, otherwise false
+	 */
+	public boolean advance(float time) {
+		pendingTime = Math.min(pendingTime + time, MAX_ADVANCE_TIME);
+		while (pendingTime >= TIME_STEP) {
+			step();
+			pendingTime -= TIME_STEP;
+		}
+		if (isAtRest()) {
+			x = targetX;
+			y = targetY;
+			velocityX = 0.0f;
+			velocityY = 0.0f;
+			carriedVelocityX = 0.0f;
+			carriedVelocityY = 0.0f;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Performs a single integration step
+	 * <p>
+	 * The spring motion is integrated using the semi-implicit Euler method, and the fling
+	 * velocity decays exponentially
+	 */
+	private void step() {
+		if (type == TYPE_SPRING) {
+			velocityX += (-stiffness * (x - targetX) - damping * velocityX) * TIME_STEP;
+			velocityY += (-stiffness * (y - targetY) - damping * velocityY) * TIME_STEP;
+			x += velocityX * TIME_STEP;
+			y += velocityY * TIME_STEP;
+		} else {
+			velocityX *= decay;
+			velocityY *= decay;
+			carriedVelocityX *= decay * decay;
+			carriedVelocityY *= decay * decay;
+			x += (velocityX + carriedVelocityX) * TIME_STEP;
+			y += (velocityY + carriedVelocityY) * TIME_STEP;
+		}
+	}
+
+	/**
+	 * Checks whether the motion came to rest at the target
+	 *
+	 * @return true if the motion came to rest, otherwise false
+	 */
+	private boolean isAtRest() {
+		boolean nearTarget = Math.abs(targetX - x) < REST_DISPLACEMENT
+				&& Math.abs(targetY - y) < REST_DISPLACEMENT;
+		if (type == TYPE_FLING) {
+			return nearTarget || Math.abs(velocityX) < FLING_STOP_VELOCITY && Math.abs(velocityY) < FLING_STOP_VELOCITY
+					&& Math.abs(carriedVelocityX) < FLING_STOP_VELOCITY
+					&& Math.abs(carriedVelocityY) < FLING_STOP_VELOCITY;
+		}
+		return nearTarget && Math.abs(velocityX) < REST_VELOCITY && Math.abs(velocityY) < REST_VELOCITY;
+	}
+
+	/**
+	 * Resets the motion to the view position when the move started
+	 */
+	private void reset() {
+		x = 0.0f;
+		y = 0.0f;
+		velocityX = 0.0f;
+		velocityY = 0.0f;
+		carriedVelocityX = 0.0f;
+		carriedVelocityY = 0.0f;
+		pendingTime = 0.0f;
+	}
+
+	/**
+	 * Returns the X-axis offset the motion ends at
+	 *
+	 * @return X-axis offset the motion ends at in actual pixels
+	 */
+	public float getTargetX() {
+		return targetX;
+	}
+
+	/**
+	 * Returns the Y-axis offset the motion ends at
+	 *
+	 * @return Y-axis offset the motion ends at in actual pixels
+	 */
+	public float getTargetY() {
+		return targetY;
+	}
+
+	/**
+	 * Returns the current X-axis offset
+	 *
+	 * @return current X-axis offset in actual pixels
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the current Y-axis offset
+	 *
+	 * @return current Y-axis offset in actual pixels
+	 */
+	public float getY() {
+		return y;
+	}
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.configuration;
+
+/**
+ * Enumeration of policies, which are applied when the move delta would take the view
+ * out of its parent container
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum EdgePolicy {
+
+	/**
+	 * The view is not moved along the axis, which has not enough space to move
+	 * <p>
+	 * This is the default policy
+	 */
+	CANCEL_AXIS,
+
+	/**
+	 * The view is moved along the axis, which has not enough space to move, as far as
+	 * the edge of its parent container
+	 */
+	CLAMP
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.configuration;
+
+/**
+ * Enumeration of motion types, which define how the view moves
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum MotionType {
+
+	/**
+	 * The view moves during the move animation duration according to the
+	 * move animation interpolator
+	 */
+	TWEEN,
+
+	/**
+	 * The view is pulled to the target by a damped spring and the move ends
+	 * when the view comes to rest
+	 */
+	SPRING,
+
+	/**
+	 * The view is thrown towards the target and decelerates by friction, so that
+	 * it comes to rest at the target
+	 */
+	FLING
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.configuration;
+
+import android.view.animation.Animation;
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.core.KeyframeTrack;
+
+import java.util.Arrays;
+
+/**
+ * Entity class, which contains the sequence of keyframes the view is moved through
+ * by a single move
+ * <p>
+ * Unlike the moves chained by the animation listeners, the whole sequence is run as
+ * a single animation: the bounds are verified once for all the keyframes, there is no
+ * gap between the keyframes, and the view position is changed once when the last
+ * keyframe ends
+ * <p>
+ * Instances are immutable and are created by the {@link Builder}, so that a single
+ * instance can be shared and reused for any number of moves and views
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MoveTimeline {
+
+	/**
+	 * Keyframe track, which contains the offsets and timing of the keyframes
+	 */
+	private final KeyframeTrack track;
+
+	/**
+	 * Interpolators of the keyframes, {@code null} elements stand for the default one
+	 */
+	private final Interpolator[] interpolators;
+
+	/**
+	 * Move animation listener
+	 * <p>
+	 * By default is not set and is {@code null}
+	 */
+	private final Animation.AnimationListener animationListener;
+
+	/**
+	 * Creates the {@link MoveTimeline} instance from the builder
+	 *
+	 * @param builder builder, which contains the keyframes
+	 */
+	private MoveTimeline(Builder builder) {
+		this.track = new KeyframeTrack(builder.xAxisDeltas, builder.yAxisDeltas, builder.durations, builder.count);
+		this.interpolators = Arrays.copyOf(builder.interpolators, builder.count);
+		this.animationListener = builder.animationListener;
+	}
+
+	/**
+	 * Returns the keyframe track, which contains the offsets and timing of the keyframes
+	 *
+	 * @return keyframe track
+	 */
+	public KeyframeTrack getTrack() {
+		return track;
+	}
+
+	/**
+	 * Returns the interpolator of the keyframe
+	 *
+	 * @param keyframe index of the keyframe
+	 * @return interpolator of the keyframe or {@code null} if the default one is used
+	 */
+	public Interpolator getInterpolator(int keyframe) {
+		return interpolators[keyframe];
+	}
+
+	/**
+	 * Returns the move animation listener, which is notified when the first keyframe
+	 * starts and when the last one ends
+	 *
+	 * @return move animation listener or {@code null} if not set
+	 */
+	public Animation.AnimationListener getAnimationListener() {
+		return animationListener;
+	}
+
+	/**
+	 * Builder class, which is used to create the {@link MoveTimeline} instances
+	 * <p>
+	 * Keyframes are run in the order they are added. Each keyframe starts at the offset
+	 * the previous one ends at. Deltas are in actual pixels
+	 */
+	public static final class Builder {
+
+		/**
+		 * Initial capacity of the keyframe arrays
+		 */
+		private static final int INITIAL_CAPACITY = 4;
+
+		/**
+		 * X-axis deltas of the keyframes
+		 */
+		private float[] xAxisDeltas = new float[INITIAL_CAPACITY];
+
+		/**
+		 * Y-axis deltas of the keyframes
+		 */
+		private float[] yAxisDeltas = new float[INITIAL_CAPACITY];
+
+		/**
+		 * Durations of the keyframes in ms
+		 */
+		private long[] durations = new long[INITIAL_CAPACITY];
+
+		/**
+		 * Interpolators of the keyframes
+		 */
+		private Interpolator[] interpolators = new Interpolator[INITIAL_CAPACITY];
+
+		/**
+		 * Number of the keyframes
+		 */
+		private int count;
+
+		/**
+		 * Move animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Adds the keyframe, which moves the view with the default interpolator
+		 *
+		 * @param xAxisDelta X-axis delta in actual pixels
+		 * @param yAxisDelta Y-axis delta in actual pixels
+		 * @param duration keyframe duration in ms, must be positive
+		 * @return this builder
+		 */
+		public Builder addKeyframe(float xAxisDelta, float yAxisDelta, long duration) {
+			return addKeyframe(xAxisDelta, yAxisDelta, duration, null);
+		}
+
+		/**
+		 * Adds the keyframe
+		 *
+		 * @param xAxisDelta X-axis delta in actual pixels
+		 * @param yAxisDelta Y-axis delta in actual pixels
+		 * @param duration keyframe duration in ms, must be positive
+		 * @param interpolator keyframe interpolator, {@code null} for the default one
+		 * @return this builder
+		 */
+		public Builder addKeyframe(float xAxisDelta, float yAxisDelta, long duration, Interpolator interpolator) {
+			if (duration <= 0L) {
+				throw new IllegalArgumentException("Keyframe duration must be positive");
+			}
+			if (count == durations.length) {
+				xAxisDeltas = Arrays.copyOf(xAxisDeltas, count * 2);
+				yAxisDeltas = Arrays.copyOf(yAxisDeltas, count * 2);
+				durations = Arrays.copyOf(durations, count * 2);
+				interpolators = Arrays.copyOf(interpolators, count * 2);
+			}
+			xAxisDeltas[count] = xAxisDelta;
+			yAxisDeltas[count] = yAxisDelta;
+			durations[count] = duration;
+			interpolators[count] = interpolator;
+			count++;
+			return this;
+		}
+
+		/**
+		 * Adds the keyframe, which holds the view at the offset the previous keyframe ends at
+		 *
+		 * @param duration hold duration in ms, must be positive
+		 * @return this builder
+		 */
+		public Builder addHold(long duration) {
+			return addKeyframe(0.0f, 0.0f, duration, null);
+		}
+
+		/**
+		 * Sets the move animation listener, which is notified when the first keyframe
+		 * starts and when the last one ends
+		 *
+		 * @param animationListener move animation listener, may be {@code null}
+		 * @return this builder
+		 */
+		public Builder setAnimationListener(Animation.AnimationListener animationListener) {
+			this.animationListener = animationListener;
+			return this;
+		}
+
+		/**
+		 * Creates the {@link MoveTimeline} instance with the keyframes added to this builder
+		 *
+		 * @return move timeline
+		 * @throws IllegalStateException if no keyframes are added
+		 */
+		public MoveTimeline build() {
+			if (count == 0) {
+				throw new IllegalStateException("Move timeline must contain at least one keyframe");
+			}
+			return new MoveTimeline(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.configuration;
+
+/**
+ * Enumeration of strategies, which the view movers move the view by
+ * <p>
+ * The strategies are listed from the cheapest to the most expensive one
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum MoverStrategy {
+
+	/**
+	 * The view is moved by animating its translation properties on the main thread, which
+	 * only updates the properties of the view's display list without redrawing the view
+	 * or requesting a layout
+	 * <p>
+	 * Requires {@code TargetApi} {@link android.os.Build.VERSION_CODES#LOLLIPOP} and higher.
+	 * Works within any parent container
+	 */
+	PROPERTY,
+
+	/**
+	 * The view is moved by changing its visual position, i.e. its translation, without
+	 * requesting a layout
+	 * <p>
+	 * Requires {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher.
+	 * Works within any parent container, however for {@link android.os.Build.VERSION_CODES#KITKAT}
+	 * is chosen only within the parent containers, which don't position the view by its margins,
+	 * because of its rendering issues
+	 */
+	TRANSLATION,
+
+	/**
+	 * The view is moved by offsetting its bounds, and its margins are written back without
+	 * requesting a layout
+	 * <p>
+	 * Requires the parent container, which positions the view by its margins, e.g.
+	 * {@link android.widget.FrameLayout} or {@link android.widget.RelativeLayout}
+	 */
+	OFFSET,
+
+	/**
+	 * The view is moved by changing its margins, which requests a layout after each move
+	 * <p>
+	 * Requires the parent container, which positions the view by its margins, e.g.
+	 * {@link android.widget.FrameLayout} or {@link android.widget.RelativeLayout}
+	 */
+	MARGIN
+
+}
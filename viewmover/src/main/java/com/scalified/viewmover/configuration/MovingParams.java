@@ -17,36 +17,55 @@
 package com.scalified.viewmover.configuration;
 
 import android.content.Context;
+import android.content.res.Resources;
 import android.view.animation.Animation;
 import android.view.animation.Interpolator;
-import com.scalified.uitools.convert.DensityConverter;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.scalified.viewmover.core.MovePath;
+import com.scalified.viewmover.tracing.Tracing;
 
 /**
  * Entity class, which contains such moving parameters like
  * X-, Y-axis etc.
+ * <p>
+ * Instances are created by the {@link Builder} and are never changed by the library. They
+ * keep no reference to a context, so that a single instance can be shared and reused for
+ * any number of moves and views. The modified copy is created by the {@link Builder#Builder(MovingParams)}.
+ * The deprecated constructors are kept for compatibility only
  *
  * @author shell
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
-public class MovingParams {
+public final class MovingParams {
 
 	/**
-	 * Logger
+	 * Move animation duration, which is used by default
 	 */
-	private static final Logger LOGGER = LoggerFactory.getLogger(MovingParams.class);
+	private static final long DEFAULT_ANIMATION_DURATION = 500L;
 
 	/**
-	 * Move animation duration, which is used by default
+	 * Spring stiffness, which is used by default
 	 */
-	private static final long DEFAULT_ANIMATION_DURATION = 500L;
+	private static final float DEFAULT_SPRING_STIFFNESS = 1500.0f;
+
+	/**
+	 * Spring damping ratio, which is used by default
+	 * <p>
+	 * Critically damps the spring, so that the view doesn't overshoot the target
+	 */
+	private static final float DEFAULT_SPRING_DAMPING_RATIO = 1.0f;
 
 	/**
-	 * Context the view is running in
+	 * Fling friction, which is used by default
 	 */
-	private final Context context;
+	private static final float DEFAULT_FLING_FRICTION = 8.0f;
+
+	/**
+	 * Display density of the system resources, which is read once and cached
+	 * <p>
+	 * {@code zero} until read for the first time
+	 */
+	private static float systemDensity;
 
 	/**
 	 * An X-axis delta in actual pixels
@@ -54,7 +73,7 @@ public class MovingParams {
 	 * Positive value means that view is moving to the right.
 	 * Negative value means that view is moving to the left
 	 */
-	private float xAxisDelta;
+	private final float xAxisDelta;
 
 	/**
 	 * An Y-axis delta in actual pixels
@@ -62,28 +81,72 @@ public class MovingParams {
 	 * Positive value means that view is moving down.
 	 * Negative value means that view is moving up
 	 */
-	private float yAxisDelta;
+	private final float yAxisDelta;
 
 	/**
 	 * Move animation duration
 	 * <p>
 	 * By default set to {@link #DEFAULT_ANIMATION_DURATION}
 	 */
-	private long animationDuration = DEFAULT_ANIMATION_DURATION;
+	private final long animationDuration;
 
 	/**
 	 * Move animation interpolator
 	 * <p>
 	 * By default is not set and is {@code null}
 	 */
-	private Interpolator animationInterpolator;
+	private final Interpolator animationInterpolator;
 
 	/**
 	 * Move animation listener
 	 * <p>
 	 * By default is not set and is {@code null}
 	 */
-	private Animation.AnimationListener animationListener;
+	private final Animation.AnimationListener animationListener;
+
+	/**
+	 * Motion type
+	 * <p>
+	 * By default set to {@link MotionType#TWEEN}
+	 */
+	private final MotionType motionType;
+
+	/**
+	 * Spring stiffness used by the {@link MotionType#SPRING} motion
+	 * <p>
+	 * By default set to {@link #DEFAULT_SPRING_STIFFNESS}
+	 */
+	private final float springStiffness;
+
+	/**
+	 * Spring damping ratio used by the {@link MotionType#SPRING} motion
+	 * <p>
+	 * By default set to {@link #DEFAULT_SPRING_DAMPING_RATIO}
+	 */
+	private final float springDampingRatio;
+
+	/**
+	 * Fling friction in 1 per second used by the {@link MotionType#FLING} motion
+	 * <p>
+	 * By default set to {@link #DEFAULT_FLING_FRICTION}
+	 */
+	private final float flingFriction;
+
+	/**
+	 * Path the view is moved along by the {@link MotionType#TWEEN} motion
+	 * <p>
+	 * By default is not set and is {@code null}, which means the view is moved along
+	 * the straight line
+	 */
+	private final MovePath path;
+
+	/**
+	 * Display density scale the density-independent pixels were converted with
+	 * <p>
+	 * Copied by the {@link Builder#Builder(MovingParams)}, so that the copy converts the
+	 * density-independent pixels the same way the original did
+	 */
+	private final float density;
 
 	/**
 	 * Creates the {@link MovingParams} instance
@@ -98,21 +161,14 @@ public class MovingParams {
 	 * @param animationDuration move animation duration
 	 * @param animationInterpolator move animation interpolator
 	 * @param animationListener move animation listener
+	 * @deprecated use the {@link Builder} instead
 	 */
+	@Deprecated
 	public MovingParams(Context context, float xAxisDelta, float yAxisDelta, long animationDuration,
 	                    Interpolator animationInterpolator, Animation.AnimationListener animationListener) {
-		this.context = context;
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		this.animationDuration = animationDuration;
-		this.animationInterpolator = animationInterpolator;
-		this.animationListener = animationListener;
-		LOGGER.trace("Moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}, " +
-				"animationDuration = {}, animationInterpolator is an instance of {} class, " +
-				"animationListener is instance of {} class",
-				getXAxisDelta(), getYAxisDelta(), getAnimationDuration(),
-				getAnimationInterpolator().getClass().getSimpleName(),
-				getAnimationListener().getClass().getSimpleName());
+		this(new Builder(context).setXAxisDeltaDp(xAxisDelta).setYAxisDeltaDp(yAxisDelta)
+				.setAnimationDuration(animationDuration).setAnimationInterpolator(animationInterpolator)
+				.setAnimationListener(animationListener));
 	}
 
 	/**
@@ -127,19 +183,12 @@ public class MovingParams {
 	 *                   Negative value means that view is moving up
 	 * @param animationDuration move animation duration
 	 * @param animationListener move animation listener
+	 * @deprecated use the {@link Builder} instead
 	 */
+	@Deprecated
 	public MovingParams(Context context, float xAxisDelta, float yAxisDelta, long animationDuration,
 	                    Animation.AnimationListener animationListener) {
-		this.context = context;
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		this.animationDuration = animationDuration;
-		this.animationListener = animationListener;
-		LOGGER.trace("Moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}, " +
-						"animationDuration = {}, animationInterpolator is an instance of {} class, " +
-						"animationListener is instance of {} class",
-				getXAxisDelta(), getYAxisDelta(), getAnimationDuration(),
-				getAnimationListener().getClass().getSimpleName());
+		this(context, xAxisDelta, yAxisDelta, animationDuration, null, animationListener);
 	}
 
 	/**
@@ -154,18 +203,12 @@ public class MovingParams {
 	 *                   Negative value means that view is moving up
 	 * @param animationDuration move animation duration
 	 * @param animationInterpolator move animation interpolator
+	 * @deprecated use the {@link Builder} instead
 	 */
+	@Deprecated
 	public MovingParams(Context context, float xAxisDelta, float yAxisDelta, long animationDuration,
 	                    Interpolator animationInterpolator) {
-		this.context = context;
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		this.animationDuration = animationDuration;
-		this.animationInterpolator = animationInterpolator;
-		LOGGER.trace("Moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}, " +
-				"animationDuration = {}, animationInterpolator is an instance of {} class",
-				getXAxisDelta(), getYAxisDelta(), getAnimationDuration(),
-				getAnimationInterpolator().getClass().getSimpleName());
+		this(context, xAxisDelta, yAxisDelta, animationDuration, animationInterpolator, null);
 	}
 
 	/**
@@ -179,14 +222,11 @@ public class MovingParams {
 	 *                   Positive value means that view is moving down.
 	 *                   Negative value means that view is moving up
 	 * @param animationDuration move animation duration
+	 * @deprecated use the {@link Builder} instead
 	 */
+	@Deprecated
 	public MovingParams(Context context, float xAxisDelta, float yAxisDelta, long animationDuration) {
-		this.context = context;
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		this.animationDuration = animationDuration;
-		LOGGER.trace("Moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}, animationDuration = {}",
-				getXAxisDelta(), getYAxisDelta(), getAnimationDuration());
+		this(context, xAxisDelta, yAxisDelta, animationDuration, null, null);
 	}
 
 	/**
@@ -199,39 +239,49 @@ public class MovingParams {
 	 * @param yAxisDelta Y-axis delta in density-independent pixels.
 	 *                   Positive value means that view is moving down.
 	 *                   Negative value means that view is moving up
+	 * @deprecated use the {@link Builder} instead
 	 */
+	@Deprecated
 	public MovingParams(Context context, float xAxisDelta, float yAxisDelta) {
-		this.context = context;
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		LOGGER.trace("Moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}",
-				getXAxisDelta(), getYAxisDelta());
+		this(context, xAxisDelta, yAxisDelta, DEFAULT_ANIMATION_DURATION, null, null);
 	}
 
 	/**
 	 * Creates the {@link MovingParams} instance by cloning it
 	 *
 	 * @param params moving params, which cloning is performed of
+	 * @deprecated instances are immutable and may be shared, use {@link Builder#Builder(MovingParams)}
+	 *             to create the modified copy
 	 */
+	@Deprecated
 	public MovingParams(MovingParams params) {
-		this.context = params.getContext();
-		this.xAxisDelta = params.getXAxisDelta();
-		this.yAxisDelta = params.getYAxisDelta();
-		this.animationDuration = params.getAnimationDuration();
-		this.animationInterpolator = params.getAnimationInterpolator();
-		LOGGER.trace("Cloned moving params initialized with values: xAxisDelta = {}, yAxisDelta = {}, " +
-				"animationDuration = {}, animation interpolator is an instance of {} class", getXAxisDelta(),
-				getYAxisDelta(), getAnimationDuration(), getAnimationInterpolator() == null ? "null" :
-						getAnimationInterpolator().getClass().getSimpleName());
+		this(new Builder(params));
 	}
 
 	/**
-	 * Returns a context the view is running in
+	 * Creates the {@link MovingParams} instance from the builder
 	 *
-	 * @return context the view is running in
+	 * @param builder builder, which contains the moving parameters
 	 */
-	private Context getContext() {
-		return context;
+	private MovingParams(Builder builder) {
+		this.xAxisDelta = builder.xAxisDelta;
+		this.yAxisDelta = builder.yAxisDelta;
+		this.animationDuration = builder.animationDuration;
+		this.animationInterpolator = builder.animationInterpolator;
+		this.animationListener = builder.animationListener;
+		this.motionType = builder.motionType;
+		this.springStiffness = builder.springStiffness;
+		this.springDampingRatio = builder.springDampingRatio;
+		this.flingFriction = builder.flingFriction;
+		this.path = builder.path;
+		this.density = builder.density;
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MovingParams.class, "Moving params initialized with values: xAxisDelta = {}, " +
+					"yAxisDelta = {}, animationDuration = {}, animationInterpolator is an instance of {} class, " +
+					"animationListener is an instance of {} class, motionType = {}", xAxisDelta, yAxisDelta,
+					animationDuration, getSimpleClassName(animationInterpolator),
+					getSimpleClassName(animationListener), motionType);
+		}
 	}
 
 	/**
@@ -243,15 +293,6 @@ public class MovingParams {
 		return xAxisDelta;
 	}
 
-	/**
-	 * Sets an X-axis delta
-	 *
-	 * @param xAxisDelta X-axis delta in density-independent pixels
-	 */
-	public void setXAxisDelta(float xAxisDelta) {
-		this.xAxisDelta = dpToPx(xAxisDelta);
-		LOGGER.trace("Moving params xAxisDelta set to: {}", getXAxisDelta());
-	}
 
 	/**
 	 * Returns an Y-axis delta in actual pixels
@@ -262,15 +303,6 @@ public class MovingParams {
 		return yAxisDelta;
 	}
 
-	/**
-	 * Sets an Y-axis delta
-	 *
-	 * @param yAxisDelta Y-axis delta in density-independent pixels
-	 */
-	public void setYAxisDelta(float yAxisDelta) {
-		this.yAxisDelta = dpToPx(yAxisDelta);
-		LOGGER.trace("Moving params yAxisDelta set to: {}", getYAxisDelta());
-	}
 
 	/**
 	 * Returns the move animation duration in ms
@@ -300,13 +332,372 @@ public class MovingParams {
 	}
 
 	/**
-	 * Converts the density-independent value into density-dependent one
+	 * Returns the motion type
+	 *
+	 * @return motion type
+	 */
+	public MotionType getMotionType() {
+		return motionType;
+	}
+
+	/**
+	 * Returns the spring stiffness used by the {@link MotionType#SPRING} motion
 	 *
-	 * @param dp density-independent value
-	 * @return density-dependent value
+	 * @return spring stiffness
 	 */
-	private float dpToPx(float dp) {
-		return DensityConverter.dpToPx(getContext(), dp);
+	public float getSpringStiffness() {
+		return springStiffness;
+	}
+
+	/**
+	 * Returns the spring damping ratio used by the {@link MotionType#SPRING} motion
+	 *
+	 * @return spring damping ratio
+	 */
+	public float getSpringDampingRatio() {
+		return springDampingRatio;
+	}
+
+	/**
+	 * Returns the fling friction used by the {@link MotionType#FLING} motion
+	 *
+	 * @return fling friction in 1 per second
+	 */
+	public float getFlingFriction() {
+		return flingFriction;
+	}
+
+	/**
+	 * Returns the path the view is moved along by the {@link MotionType#TWEEN} motion
+	 * <p>
+	 * The X- and Y-axis deltas are the coordinates the path ends at
+	 *
+	 * @return path the view is moved along or {@code null} if the view is moved along the straight line
+	 */
+	public MovePath getPath() {
+		return path;
+	}
+
+	/**
+	 * Returns the simple class name of the object
+	 *
+	 * @param object object, may be {@code null}
+	 * @return simple class name of the object or {@code null} if the object is {@code null}
+	 */
+	private static String getSimpleClassName(Object object) {
+		return object == null ? null : object.getClass().getSimpleName();
+	}
+
+	/**
+	 * Returns the display density of the system resources
+	 * <p>
+	 * The density is read once and cached
+	 *
+	 * @return display density of the system resources
+	 */
+	private static float getSystemDensity() {
+		if (systemDensity == 0.0f) {
+			systemDensity = Resources.getSystem().getDisplayMetrics().density;
+		}
+		return systemDensity;
+	}
+
+	/**
+	 * Builder class, which is used to create the {@link MovingParams} instances
+	 * <p>
+	 * X- and Y-axis deltas are set either in actual pixels or in density-independent pixels.
+	 * The latter are converted into actual pixels once when set, using the density scale
+	 * read when the builder is created
+	 * <p>
+	 * A single builder may be used to create any number of the {@link MovingParams} instances
+	 */
+	public static final class Builder {
+
+		/**
+		 * Display density scale used to convert the density-independent pixels
+		 */
+		private final float density;
+
+		/**
+		 * An X-axis delta in actual pixels
+		 */
+		private float xAxisDelta;
+
+		/**
+		 * An Y-axis delta in actual pixels
+		 */
+		private float yAxisDelta;
+
+		/**
+		 * Move animation duration in ms
+		 */
+		private long animationDuration = DEFAULT_ANIMATION_DURATION;
+
+		/**
+		 * Move animation interpolator
+		 */
+		private Interpolator animationInterpolator;
+
+		/**
+		 * Move animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Motion type
+		 */
+		private MotionType motionType = MotionType.TWEEN;
+
+		/**
+		 * Spring stiffness
+		 */
+		private float springStiffness = DEFAULT_SPRING_STIFFNESS;
+
+		/**
+		 * Spring damping ratio
+		 */
+		private float springDampingRatio = DEFAULT_SPRING_DAMPING_RATIO;
+
+		/**
+		 * Fling friction in 1 per second
+		 */
+		private float flingFriction = DEFAULT_FLING_FRICTION;
+
+		/**
+		 * Path the view is moved along
+		 */
+		private MovePath path;
+
+		/**
+		 * Creates the {@link Builder} instance, which converts the density-independent pixels
+		 * using the display density of the system resources
+		 */
+		public Builder() {
+			this.density = getSystemDensity();
+		}
+
+		/**
+		 * Creates the {@link Builder} instance, which converts the density-independent pixels
+		 * using the display density of the context
+		 * <p>
+		 * The context is not retained
+		 *
+		 * @param context context the view is running in
+		 */
+		public Builder(Context context) {
+			this.density = context.getResources().getDisplayMetrics().density;
+		}
+
+		/**
+		 * Creates the {@link Builder} instance initialized with the values of the moving params
+		 * <p>
+		 * The density-independent pixels are converted using the display density the moving
+		 * params were created with
+		 *
+		 * @param params moving params to initialize the builder with
+		 */
+		public Builder(MovingParams params) {
+			this.density = params.density;
+			this.xAxisDelta = params.getXAxisDelta();
+			this.yAxisDelta = params.getYAxisDelta();
+			this.animationDuration = params.getAnimationDuration();
+			this.animationInterpolator = params.getAnimationInterpolator();
+			this.animationListener = params.getAnimationListener();
+			this.motionType = params.getMotionType();
+			this.springStiffness = params.getSpringStiffness();
+			this.springDampingRatio = params.getSpringDampingRatio();
+			this.flingFriction = params.getFlingFriction();
+			this.path = params.getPath();
+		}
+
+		/**
+		 * Sets an X-axis delta
+		 * <p>
+		 * Discards the path if set
+		 *
+		 * @param xAxisDelta X-axis delta in actual pixels.
+		 *                   Positive value means that view is moving right.
+		 *                   Negative value means that view is moving left
+		 * @return this builder
+		 */
+		public Builder setXAxisDelta(float xAxisDelta) {
+			this.xAxisDelta = xAxisDelta;
+			this.path = null;
+			return this;
+		}
+
+		/**
+		 * Sets an Y-axis delta
+		 * <p>
+		 * Discards the path if set
+		 *
+		 * @param yAxisDelta Y-axis delta in actual pixels.
+		 *                   Positive value means that view is moving down.
+		 *                   Negative value means that view is moving up
+		 * @return this builder
+		 */
+		public Builder setYAxisDelta(float yAxisDelta) {
+			this.yAxisDelta = yAxisDelta;
+			this.path = null;
+			return this;
+		}
+
+		/**
+		 * Sets an X-axis delta
+		 * <p>
+		 * Discards the path if set
+		 *
+		 * @param xAxisDelta X-axis delta in density-independent pixels.
+		 *                   Positive value means that view is moving right.
+		 *                   Negative value means that view is moving left
+		 * @return this builder
+		 */
+		public Builder setXAxisDeltaDp(float xAxisDelta) {
+			this.xAxisDelta = xAxisDelta * density;
+			this.path = null;
+			return this;
+		}
+
+		/**
+		 * Sets an Y-axis delta
+		 * <p>
+		 * Discards the path if set
+		 *
+		 * @param yAxisDelta Y-axis delta in density-independent pixels.
+		 *                   Positive value means that view is moving down.
+		 *                   Negative value means that view is moving up
+		 * @return this builder
+		 */
+		public Builder setYAxisDeltaDp(float yAxisDelta) {
+			this.yAxisDelta = yAxisDelta * density;
+			this.path = null;
+			return this;
+		}
+
+		/**
+		 * Sets the path the view is moved along instead of the straight line
+		 * <p>
+		 * The view moves along the path at a constant speed, unless the move animation
+		 * interpolator changes it. The X- and Y-axis deltas are set to the coordinates the
+		 * path ends at. The path is supported by the tween motion only
+		 *
+		 * @param path path the view is moved along, coordinates are in actual pixels
+		 * @return this builder
+		 */
+		public Builder setPath(MovePath path) {
+			if (path == null) {
+				throw new IllegalArgumentException("Path must not be null");
+			}
+			this.path = path;
+			this.xAxisDelta = path.getEndX();
+			this.yAxisDelta = path.getEndY();
+			return this;
+		}
+
+		/**
+		 * Sets the move animation duration
+		 * <p>
+		 * By default set to {@code 500 ms}
+		 *
+		 * @param animationDuration move animation duration in ms
+		 * @return this builder
+		 */
+		public Builder setAnimationDuration(long animationDuration) {
+			this.animationDuration = animationDuration;
+			return this;
+		}
+
+		/**
+		 * Sets the move animation interpolator
+		 *
+		 * @param animationInterpolator move animation interpolator, may be {@code null}
+		 * @return this builder
+		 */
+		public Builder setAnimationInterpolator(Interpolator animationInterpolator) {
+			this.animationInterpolator = animationInterpolator;
+			return this;
+		}
+
+		/**
+		 * Sets the move animation listener
+		 *
+		 * @param animationListener move animation listener, may be {@code null}
+		 * @return this builder
+		 */
+		public Builder setAnimationListener(Animation.AnimationListener animationListener) {
+			this.animationListener = animationListener;
+			return this;
+		}
+
+		/**
+		 * Makes the view move during the move animation duration according to the
+		 * move animation interpolator
+		 * <p>
+		 * This is the default motion
+		 *
+		 * @return this builder
+		 */
+		public Builder setTweenMotion() {
+			this.motionType = MotionType.TWEEN;
+			return this;
+		}
+
+		/**
+		 * Makes the view be pulled to the target by a damped spring
+		 * <p>
+		 * The move ends when the view comes to rest, so the move animation duration and
+		 * interpolator are not used. The damping ratio of {@code 1} makes the view stop at the
+		 * target without overshooting, lower values make it bounce around the target
+		 *
+		 * @param stiffness spring stiffness, must be positive
+		 * @param dampingRatio spring damping ratio, must be positive
+		 * @return this builder
+		 */
+		public Builder setSpringMotion(float stiffness, float dampingRatio) {
+			if (stiffness <= 0.0f) {
+				throw new IllegalArgumentException("Spring stiffness must be positive");
+			}
+			if (dampingRatio <= 0.0f) {
+				throw new IllegalArgumentException("Spring damping ratio must be positive");
+			}
+			this.motionType = MotionType.SPRING;
+			this.springStiffness = stiffness;
+			this.springDampingRatio = dampingRatio;
+			return this;
+		}
+
+		/**
+		 * Makes the view be thrown towards the target and decelerate by friction, so that
+		 * it comes to rest at the target
+		 * <p>
+		 * The move ends when the view comes to rest, so the move animation duration and
+		 * interpolator are not used. The higher the friction, the faster the view comes to rest
+		 *
+		 * @param friction fling friction in 1 per second, must be positive
+		 * @return this builder
+		 */
+		public Builder setFlingMotion(float friction) {
+			if (friction <= 0.0f) {
+				throw new IllegalArgumentException("Fling friction must be positive");
+			}
+			this.motionType = MotionType.FLING;
+			this.flingFriction = friction;
+			return this;
+		}
+
+		/**
+		 * Creates the {@link MovingParams} instance with the values set to this builder
+		 *
+		 * @return moving params
+		 * @throws IllegalStateException if the path is set for the spring or fling motion
+		 */
+		public MovingParams build() {
+			if (path != null && motionType != MotionType.TWEEN) {
+				throw new IllegalStateException("Path is supported by the tween motion only");
+			}
+			return new MovingParams(this);
+		}
+
 	}
 
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.configuration;
+
+/**
+ * Enumeration of policies, which define what happens when a move is requested
+ * while the view is being moved and the move queue is full
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public enum QueueOverflowPolicy {
+
+	/**
+	 * The requested move delta is added to the last queued move, the moving params
+	 * of which are replaced with the requested ones
+	 */
+	COALESCE,
+
+	/**
+	 * The first queued move is dropped and the requested move is queued
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * The last queued move is replaced with the requested move
+	 */
+	REPLACE
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.interpolation;
+
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.core.InterpolationTable;
+
+/**
+ * Interpolator class, which follows the CSS-like cubic Bezier easing curve
+ * <p>
+ * The curve starts at {@code (0, 0)} and ends at {@code (1, 1)}. It is solved into the
+ * {@link InterpolationTable} once, rather than by the iterative solver on each frame,
+ * so that each frame costs a table lookup and a linear interpolation. The error
+ * against the exact curve is bounded as described in {@link InterpolationTable}
+ * <p>
+ * The tables of the recently created curves are cached, so that the interpolators
+ * of the same curve share a single table
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class CubicBezierInterpolator implements Interpolator {
+
+	/**
+	 * Number of the cached curve tables
+	 */
+	private static final int CACHE_SIZE = 8;
+
+	/**
+	 * Control points of the cached curves, four per curve
+	 */
+	private static final float[] CACHED_CURVES = new float[CACHE_SIZE * 4];
+
+	/**
+	 * Tables of the cached curves
+	 */
+	private static final InterpolationTable[] CACHED_TABLES = new InterpolationTable[CACHE_SIZE];
+
+	/**
+	 * Index of the cache entry, which is replaced next
+	 */
+	private static int nextCacheIndex;
+
+	/**
+	 * Solved curve
+	 */
+	private final InterpolationTable table;
+
+	/**
+	 * Creates the {@link CubicBezierInterpolator} instance
+	 *
+	 * @param x1 X coordinate of the first control point from {@code 0} to {@code 1}
+	 * @param y1 Y coordinate of the first control point
+	 * @param x2 X coordinate of the second control point from {@code 0} to {@code 1}
+	 * @param y2 Y coordinate of the second control point
+	 * @throws IllegalArgumentException if X coordinate of any control point is outside {@code [0, 1]}
+	 */
+	public CubicBezierInterpolator(float x1, float y1, float x2, float y2) {
+		this.table = getTable(x1, y1, x2, y2);
+	}
+
+	/**
+	 * Returns the solved curve
+	 *
+	 * @return solved curve
+	 */
+	InterpolationTable getTable() {
+		return table;
+	}
+
+	/**
+	 * Returns the table of the curve, solving the curve unless it is cached
+	 *
+	 * @param x1 X coordinate of the first control point
+	 * @param y1 Y coordinate of the first control point
+	 * @param x2 X coordinate of the second control point
+	 * @param y2 Y coordinate of the second control point
+	 * @return table of the curve
+	 */
+	private static synchronized InterpolationTable getTable(float x1, float y1, float x2, float y2) {
+		for (int i = 0; i < CACHE_SIZE; i++) {
+			int offset = i * 4;
+			if (CACHED_TABLES[i] != null && CACHED_CURVES[offset] == x1 && CACHED_CURVES[offset + 1] == y1
+					&& CACHED_CURVES[offset + 2] == x2 && CACHED_CURVES[offset + 3] == y2) {
+				return CACHED_TABLES[i];
+			}
+		}
+		InterpolationTable table = InterpolationTable.cubicBezier(x1, y1, x2, y2, InterpolationTable.DEFAULT_INTERVALS);
+		int offset = nextCacheIndex * 4;
+		CACHED_CURVES[offset] = x1;
+		CACHED_CURVES[offset + 1] = y1;
+		CACHED_CURVES[offset + 2] = x2;
+		CACHED_CURVES[offset + 3] = y2;
+		CACHED_TABLES[nextCacheIndex] = table;
+		nextCacheIndex = (nextCacheIndex + 1) % CACHE_SIZE;
+		return table;
+	}
+
+	@Override
+	public float getInterpolation(float input) {
+		return table.interpolate(input);
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.interpolation;
+
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.core.InterpolationTable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Interpolator class, which evaluates the sampled curve of another interpolator
+ * <p>
+ * The original interpolator is sampled once into the {@link InterpolationTable}, so
+ * that each frame costs a table lookup and a linear interpolation no matter how
+ * expensive the original curve is. For the curve with the continuous second derivative
+ * the error against the original one is bounded by {@code max|f''| / 524288}, e.g.
+ * below {@code 1e-5} for {@link android.view.animation.AccelerateDecelerateInterpolator}.
+ * Curves with the discontinuous slope, like the bounce one, are followed less precisely
+ * around their corners
+ * <p>
+ * The sampled interpolators are shared through the cache keyed by the original
+ * interpolator instance, which doesn't prevent the latter from being garbage collected.
+ * The original interpolator must be stateless, i.e. return the same value for the same
+ * fraction
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class SampledInterpolator implements Interpolator {
+
+	/**
+	 * Sampled interpolators keyed by the original interpolator instances
+	 */
+	private static final Map<Interpolator, SampledInterpolator> CACHE =
+			new WeakHashMap<Interpolator, SampledInterpolator>();
+
+	/**
+	 * Sampled curve
+	 */
+	private final InterpolationTable table;
+
+	/**
+	 * Creates the {@link SampledInterpolator} instance
+	 *
+	 * @param table sampled curve
+	 */
+	private SampledInterpolator(InterpolationTable table) {
+		this.table = table;
+	}
+
+	/**
+	 * Returns the sampled interpolator of the original one, sampling the latter unless
+	 * it was already sampled
+	 *
+	 * @param interpolator original interpolator
+	 * @return sampled interpolator, or the given one if it is already sampled
+	 */
+	public static synchronized Interpolator of(Interpolator interpolator) {
+		if (interpolator instanceof SampledInterpolator || interpolator instanceof CubicBezierInterpolator) {
+			return interpolator;
+		}
+		SampledInterpolator sampledInterpolator = CACHE.get(interpolator);
+		if (sampledInterpolator == null) {
+			sampledInterpolator = new SampledInterpolator(sample(interpolator));
+			CACHE.put(interpolator, sampledInterpolator);
+		}
+		return sampledInterpolator;
+	}
+
+	/**
+	 * Returns the sampled curve of the interpolator, sampling the latter unless it was
+	 * already sampled
+	 * <p>
+	 * Used to step many motions with the same curve without calling the interpolator
+	 *
+	 * @param interpolator interpolator
+	 * @return sampled curve of the interpolator
+	 */
+	public static synchronized InterpolationTable tableOf(Interpolator interpolator) {
+		if (interpolator instanceof CubicBezierInterpolator) {
+			return ((CubicBezierInterpolator) interpolator).getTable();
+		}
+		return ((SampledInterpolator) of(interpolator)).table;
+	}
+
+	/**
+	 * Samples the interpolator at evenly spaced fractions
+	 *
+	 * @param interpolator interpolator to sample
+	 * @return sampled curve
+	 */
+	private static InterpolationTable sample(Interpolator interpolator) {
+		int intervals = InterpolationTable.DEFAULT_INTERVALS;
+		float[] samples = new float[intervals + 1];
+		for (int i = 0; i <= intervals; i++) {
+			samples[i] = interpolator.getInterpolation((float) i / intervals);
+		}
+		return new InterpolationTable(samples);
+	}
+
+	@Override
+	public float getInterpolation(float input) {
+		return table.interpolate(input);
+	}
+
+}
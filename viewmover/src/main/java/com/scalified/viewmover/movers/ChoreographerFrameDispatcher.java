@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.Choreographer;
+
+/**
+ * Frame callback class, which posts itself to the {@link android.view.Choreographer}
+ * and dispatches the frames to the {@link FrameScheduler}
+ * <p>
+ * Kept apart from the {@link FrameScheduler}, since it implements the interface, which
+ * doesn't exist prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN}, hence must
+ * not be loaded there
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+final class ChoreographerFrameDispatcher implements Choreographer.FrameCallback {
+
+	/**
+	 * Frame scheduler, which the frames are dispatched to
+	 */
+	private final FrameScheduler frameScheduler;
+
+	/**
+	 * Creates the {@link ChoreographerFrameDispatcher} instance
+	 *
+	 * @param frameScheduler frame scheduler, which the frames are dispatched to
+	 */
+	ChoreographerFrameDispatcher(FrameScheduler frameScheduler) {
+		this.frameScheduler = frameScheduler;
+	}
+
+	/**
+	 * Posts the frame callback
+	 */
+	void post() {
+		Choreographer.getInstance().postFrameCallback(this);
+	}
+
+	/**
+	 * Dispatches the frame to the frame scheduler
+	 *
+	 * @param frameTimeNanos frame time in nanoseconds
+	 */
+	@Override
+	public void doFrame(long frameTimeNanos) {
+		frameScheduler.dispatchFrame(frameTimeNanos);
+	}
+
+}
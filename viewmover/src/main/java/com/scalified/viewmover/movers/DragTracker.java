@@ -0,0 +1,326 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.animation.Animation;
+import android.view.animation.DecelerateInterpolator;
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.core.MoveBounds;
+import com.scalified.viewmover.tracing.Tracing;
+
+/**
+ * Drag tracker class, which makes the view follow the finger
+ * <p>
+ * Touch events are coalesced, so that the view is visually moved at most once per
+ * display frame no matter how many touch events arrive. The drag offset is clamped,
+ * so that the view stays within its parent container. When the finger is released,
+ * the view position is changed once and the view settles with the release velocity
+ * <p>
+ * The view mover is in the {@link ViewMover#MOVE_STATE_MOVING} state while the view is
+ * dragged and settles, so that the moves requested meanwhile are queued or dropped
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class DragTracker implements View.OnTouchListener, FrameScheduler.FrameListener {
+
+	/**
+	 * Settle animation duration in ms
+	 */
+	private static final long SETTLE_DURATION = 300L;
+
+	/**
+	 * Settle animation interpolator
+	 * <p>
+	 * Its initial slope is {@code 2}, so that the settle distance of half the release
+	 * velocity multiplied by {@link #SETTLE_DURATION} keeps the release velocity
+	 */
+	private static final Interpolator SETTLE_INTERPOLATOR = new DecelerateInterpolator();
+
+	/**
+	 * Number of milliseconds in second
+	 */
+	private static final int MILLIS_PER_SECOND = 1000;
+
+	/**
+	 * View mover of the dragged view
+	 */
+	private final ViewMover mover;
+
+	/**
+	 * Settle animation listener, may be {@code null}
+	 */
+	private final Animation.AnimationListener settleListener;
+
+	/**
+	 * Minimum fling velocity in pixels per second
+	 */
+	private final int minimumFlingVelocity;
+
+	/**
+	 * Maximum fling velocity in pixels per second
+	 */
+	private final int maximumFlingVelocity;
+
+	/**
+	 * Velocity tracker of the current drag or {@code null} if the view is not dragged
+	 */
+	private VelocityTracker velocityTracker;
+
+	/**
+	 * Raw X coordinate of the finger when the drag started
+	 */
+	private float downRawX;
+
+	/**
+	 * Raw Y coordinate of the finger when the drag started
+	 */
+	private float downRawY;
+
+	/**
+	 * Raw X coordinate of the finger reported by the last touch event
+	 */
+	private float lastRawX;
+
+	/**
+	 * Raw Y coordinate of the finger reported by the last touch event
+	 */
+	private float lastRawY;
+
+	/**
+	 * Minimum X-axis drag offset in actual pixels
+	 */
+	private float minOffsetX;
+
+	/**
+	 * Maximum X-axis drag offset in actual pixels
+	 */
+	private float maxOffsetX;
+
+	/**
+	 * Minimum Y-axis drag offset in actual pixels
+	 */
+	private float minOffsetY;
+
+	/**
+	 * Maximum Y-axis drag offset in actual pixels
+	 */
+	private float maxOffsetY;
+
+	/**
+	 * Whether the frame is requested to apply the last touch event
+	 */
+	private boolean frameRequested;
+
+	/**
+	 * Creates the {@link DragTracker} instance
+	 *
+	 * @param mover view mover of the dragged view
+	 * @param settleListener settle animation listener, may be {@code null}
+	 */
+	DragTracker(ViewMover mover, Animation.AnimationListener settleListener) {
+		this.mover = mover;
+		this.settleListener = settleListener;
+		ViewConfiguration configuration = ViewConfiguration.get(mover.getView().getContext());
+		this.minimumFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+		this.maximumFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+	}
+
+	/**
+	 * Is called when a touch event is dispatched to the view
+	 *
+	 * @param view dragged view
+	 * @param event touch event
+	 * @return true if the touch event is consumed, otherwise false
+	 */
+	@Override
+	public boolean onTouch(View view, MotionEvent event) {
+		switch (event.getActionMasked()) {
+			case MotionEvent.ACTION_DOWN:
+				return startDrag(event);
+			case MotionEvent.ACTION_MOVE:
+				if (velocityTracker != null) {
+					trackMovement(event);
+					requestFrame();
+				}
+				return velocityTracker != null;
+			case MotionEvent.ACTION_UP:
+				if (velocityTracker != null) {
+					trackMovement(event);
+					endDrag(true);
+				}
+				return true;
+			case MotionEvent.ACTION_CANCEL:
+				if (velocityTracker != null) {
+					endDrag(false);
+				}
+				return true;
+			default:
+				return velocityTracker != null;
+		}
+	}
+
+	/**
+	 * Is called on the display frame requested after the touch event
+	 * <p>
+	 * Visually moves the view by the drag offset of the last touch event
+	 *
+	 * @param frameTimeNanos frame time in nanoseconds
+	 * @return always false, since the frame is requested for each touch event
+	 */
+	@Override
+	public boolean onFrame(long frameTimeNanos) {
+		frameRequested = false;
+		mover.applyFrameOffset(getOffsetX(), getOffsetY());
+		return false;
+	}
+
+	/**
+	 * Stops tracking the current drag if any, leaving the view at its current drag offset
+	 */
+	void release() {
+		if (velocityTracker != null) {
+			endDrag(false);
+		}
+	}
+
+	/**
+	 * Starts the drag unless the view is being currently moved
+	 * <p>
+	 * Calculates the drag offset bounds, so that the view stays within its parent container
+	 *
+	 * @param event touch event
+	 * @return true if the drag started, otherwise false
+	 */
+	private boolean startDrag(MotionEvent event) {
+		if (mover.isMoveInProgress()) {
+			Tracing.warn(DragTracker.class, "Unable to drag the view. View is being currently moving");
+			return false;
+		}
+		MoveBounds bounds = mover.getBounds();
+		minOffsetX = bounds.getMinXAxisDelta();
+		maxOffsetX = bounds.getMaxXAxisDelta();
+		minOffsetY = bounds.getMinYAxisDelta();
+		maxOffsetY = bounds.getMaxYAxisDelta();
+		downRawX = lastRawX = event.getRawX();
+		downRawY = lastRawY = event.getRawY();
+		velocityTracker = VelocityTracker.obtain();
+		trackMovement(event);
+		mover.beginDrag();
+		return true;
+	}
+
+	/**
+	 * Ends the drag
+	 * <p>
+	 * Changes the view position by the drag offset and, if the finger is released
+	 * fast enough, settles the view with the release velocity. Otherwise the next
+	 * queued move starts if any
+	 *
+	 * @param settle true to settle the view, otherwise false
+	 */
+	private void endDrag(boolean settle) {
+		if (frameRequested) {
+			frameRequested = false;
+			FrameScheduler.getInstance().removeFrameListener(this);
+		}
+		float offsetX = getOffsetX();
+		float offsetY = getOffsetY();
+		mover.endFrameMove();
+		mover.changeViewPosition(offsetX, offsetY);
+		mover.onViewPositionChanged(offsetX, offsetY);
+		velocityTracker.computeCurrentVelocity(MILLIS_PER_SECOND, maximumFlingVelocity);
+		float velocityX = velocityTracker.getXVelocity();
+		float velocityY = velocityTracker.getYVelocity();
+		velocityTracker.recycle();
+		velocityTracker = null;
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(DragTracker.class, "Drag ended at offset: X = {}, Y = {} with velocity: X = {}, Y = {}",
+					offsetX, offsetY, velocityX, velocityY);
+		}
+		float settleX = 0.0f;
+		float settleY = 0.0f;
+		if (settle && Math.max(Math.abs(velocityX), Math.abs(velocityY)) >= minimumFlingVelocity) {
+			float settleFactor = SETTLE_DURATION / 2.0f / MILLIS_PER_SECOND;
+			settleX = clamp(offsetX + velocityX * settleFactor, minOffsetX, maxOffsetX) - offsetX;
+			settleY = clamp(offsetY + velocityY * settleFactor, minOffsetY, maxOffsetY) - offsetY;
+		}
+		mover.endDrag(settleX, settleY, SETTLE_DURATION, SETTLE_INTERPOLATOR, settleListener);
+	}
+
+	/**
+	 * Adds the touch event to the velocity tracker in raw coordinates, since the view's
+	 * local coordinates change while it is dragged
+	 *
+	 * @param event touch event
+	 */
+	private void trackMovement(MotionEvent event) {
+		lastRawX = event.getRawX();
+		lastRawY = event.getRawY();
+		float deltaX = lastRawX - event.getX();
+		float deltaY = lastRawY - event.getY();
+		event.offsetLocation(deltaX, deltaY);
+		velocityTracker.addMovement(event);
+		event.offsetLocation(-deltaX, -deltaY);
+	}
+
+	/**
+	 * Requests the display frame to apply the last touch event unless it is already requested
+	 */
+	private void requestFrame() {
+		if (!frameRequested) {
+			frameRequested = true;
+			FrameScheduler.getInstance().addFrameListener(this);
+		}
+	}
+
+	/**
+	 * Returns the clamped X-axis drag offset of the last touch event
+	 *
+	 * @return X-axis drag offset in actual pixels
+	 */
+	private float getOffsetX() {
+		return clamp(lastRawX - downRawX, minOffsetX, maxOffsetX);
+	}
+
+	/**
+	 * Returns the clamped Y-axis drag offset of the last touch event
+	 *
+	 * @return Y-axis drag offset in actual pixels
+	 */
+	private float getOffsetY() {
+		return clamp(lastRawY - downRawY, minOffsetY, maxOffsetY);
+	}
+
+	/**
+	 * Clamps the value within the given bounds
+	 *
+	 * @param value value to clamp
+	 * @param min lower bound
+	 * @param max upper bound
+	 * @return clamped value
+	 */
+	private static float clamp(float value, float min, float max) {
+		return Math.max(min, Math.min(max, value));
+	}
+
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.Arrays;
+
+/**
+ * Frame scheduler class, which dispatches display frames to the registered
+ * frame listeners
+ * <p>
+ * All the frame listeners are driven by a single frame callback. For
+ * {@code TargetApi} {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher
+ * {@link android.view.Choreographer} is used, otherwise frames are emulated by
+ * means of {@link android.os.Handler}. The choreographer frame callback is kept in a
+ * separate class, which is loaded only when the choreographer is available
+ * <p>
+ * The display frame interval is estimated from the vsync timestamps of the consecutive
+ * frames, so that the scheduler adapts to 60, 90 and 120 Hz displays and to the refresh
+ * rate changes. The frames, which came later than expected, are counted as skipped. The
+ * frame listeners calculate their progress from the frame time rather than from the
+ * number of frames, so that they catch up after a skipped frame instead of slowing down
+ * <p>
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class FrameScheduler {
+
+	/**
+	 * Frame interval in nanoseconds, which is assumed until estimated
+	 */
+	private static final long DEFAULT_FRAME_INTERVAL_NANOS = 16666667L;
+
+	/**
+	 * Number of nanoseconds in millisecond
+	 */
+	private static final long NANOS_PER_MILLI = 1000000L;
+
+	/**
+	 * Ratio of the frame time delta to the frame interval, which a frame is considered late above
+	 */
+	private static final float LATE_FRAME_RATIO = 1.5f;
+
+	/**
+	 * Number of the consecutive late frames with the same delta, after which the frame
+	 * interval is considered changed, e.g. when the display switches to a lower refresh rate
+	 */
+	private static final int REFRESH_RATE_CHANGE_FRAMES = 4;
+
+	/**
+	 * Weight of the frame time delta in the estimated frame interval
+	 */
+	private static final int FRAME_INTERVAL_SMOOTHING = 8;
+
+	/**
+	 * Frame scheduler instance
+	 */
+	private static FrameScheduler instance;
+
+	/**
+	 * Registered frame listeners, the unregistered ones are replaced with {@code null}
+	 * until the array is compacted after the next frame
+	 */
+	private FrameListener[] frameListeners = new FrameListener[4];
+
+	/**
+	 * Number of the used elements of the frame listeners array
+	 */
+	private int frameListenerCount;
+
+	/**
+	 * Frame callback, which is posted to the {@link android.view.Choreographer},
+	 * created on the first frame for {@code TargetApi}
+	 * {@link android.os.Build.VERSION_CODES#JELLY_BEAN} and higher only
+	 */
+	private ChoreographerFrameDispatcher choreographerDispatcher;
+
+	/**
+	 * Frame callback, which is posted to the {@link android.os.Handler}, created on the
+	 * first frame prior to {@link android.os.Build.VERSION_CODES#JELLY_BEAN} only
+	 */
+	private HandlerFrameDispatcher handlerDispatcher;
+
+	/**
+	 * Whether the next frame is already scheduled
+	 */
+	private boolean frameScheduled;
+
+	/**
+	 * Time of the last dispatched frame in nanoseconds or {@code zero} if the frames
+	 * were not dispatched continuously
+	 */
+	private long lastFrameTimeNanos;
+
+	/**
+	 * Estimated display frame interval in nanoseconds
+	 */
+	private long frameIntervalNanos = DEFAULT_FRAME_INTERVAL_NANOS;
+
+	/**
+	 * Number of the consecutive late frames
+	 */
+	private int lateFrameCount;
+
+	/**
+	 * Frame time delta of the last late frame in nanoseconds
+	 */
+	private long lateFrameDeltaNanos;
+
+	/**
+	 * Restricts instantiation
+	 */
+	private FrameScheduler() {
+	}
+
+	/**
+	 * Returns the frame scheduler instance
+	 *
+	 * @return frame scheduler instance
+	 */
+	static FrameScheduler getInstance() {
+		if (instance == null) {
+			instance = new FrameScheduler();
+		}
+		return instance;
+	}
+
+	/**
+	 * Registers the frame listener and schedules the next frame if needed
+	 * <p>
+	 * Does nothing if the frame listener is already registered
+	 *
+	 * @param frameListener frame listener to register
+	 */
+	void addFrameListener(FrameListener frameListener) {
+		for (int i = 0; i < frameListenerCount; i++) {
+			if (frameListeners[i] == frameListener) {
+				return;
+			}
+		}
+		if (frameListenerCount == frameListeners.length) {
+			frameListeners = Arrays.copyOf(frameListeners, frameListenerCount * 2);
+		}
+		frameListeners[frameListenerCount++] = frameListener;
+		scheduleFrame();
+	}
+
+	/**
+	 * Unregisters the frame listener
+	 *
+	 * @param frameListener frame listener to unregister
+	 */
+	void removeFrameListener(FrameListener frameListener) {
+		for (int i = 0; i < frameListenerCount; i++) {
+			if (frameListeners[i] == frameListener) {
+				frameListeners[i] = null;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns the estimated display frame interval
+	 *
+	 * @return estimated display frame interval in nanoseconds
+	 */
+	long getFrameIntervalNanos() {
+		return frameIntervalNanos;
+	}
+
+	/**
+	 * Schedules the next frame unless it is already scheduled
+	 */
+	private void scheduleFrame() {
+		if (!frameScheduled) {
+			frameScheduled = true;
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+				if (choreographerDispatcher == null) {
+					choreographerDispatcher = new ChoreographerFrameDispatcher(this);
+				}
+				choreographerDispatcher.post();
+			} else {
+				if (handlerDispatcher == null) {
+					handlerDispatcher = new HandlerFrameDispatcher();
+				}
+				handlerDispatcher.post();
+			}
+		}
+	}
+
+	/**
+	 * Dispatches the frame to the frame listeners, unregistering the ones,
+	 * which don't need frames anymore
+	 * <p>
+	 * The frame is dispatched to the frame listeners registered before dispatching.
+	 * The frame listeners registered while dispatching are appended and receive frames
+	 * starting from the next one, the ones unregistered while dispatching are replaced
+	 * with {@code null} and don't receive the current frame if they were not reached yet.
+	 * The unregistered frame listeners are then removed in a single pass
+	 *
+	 * @param frameTimeNanos frame time in nanoseconds
+	 */
+	void dispatchFrame(long frameTimeNanos) {
+		frameScheduled = false;
+		trackFrameTime(frameTimeNanos);
+		int count = frameListenerCount;
+		for (int i = 0; i < count; i++) {
+			FrameListener frameListener = frameListeners[i];
+			if (frameListener != null && !frameListener.onFrame(frameTimeNanos) && frameListeners[i] == frameListener) {
+				frameListeners[i] = null;
+			}
+		}
+		int registeredCount = 0;
+		for (int i = 0; i < frameListenerCount; i++) {
+			FrameListener frameListener = frameListeners[i];
+			if (frameListener != null) {
+				frameListeners[i] = null;
+				frameListeners[registeredCount++] = frameListener;
+			}
+		}
+		frameListenerCount = registeredCount;
+		if (registeredCount == 0) {
+			lastFrameTimeNanos = 0L;
+		} else {
+			scheduleFrame();
+		}
+	}
+
+	/**
+	 * Updates the estimated frame interval and counts the skipped frames based on the
+	 * time delta from the previous frame
+	 * <p>
+	 * The deltas of the late frames are excluded from the estimation, unless several
+	 * consecutive frames are late by the same delta, which means the refresh rate changed
+	 *
+	 * @param frameTimeNanos frame time in nanoseconds
+	 */
+	private void trackFrameTime(long frameTimeNanos) {
+		MoveStats.onFrameDispatched();
+		long deltaNanos = frameTimeNanos - lastFrameTimeNanos;
+		boolean continuous = lastFrameTimeNanos != 0L && deltaNanos > 0L;
+		lastFrameTimeNanos = frameTimeNanos;
+		if (!continuous) {
+			return;
+		}
+		if (deltaNanos <= frameIntervalNanos * LATE_FRAME_RATIO) {
+			lateFrameCount = 0;
+			frameIntervalNanos += (deltaNanos - frameIntervalNanos) / FRAME_INTERVAL_SMOOTHING;
+			return;
+		}
+		if (lateFrameCount > 0 && Math.abs(deltaNanos - lateFrameDeltaNanos) <= frameIntervalNanos / 2) {
+			lateFrameCount++;
+		} else {
+			lateFrameCount = 1;
+		}
+		lateFrameDeltaNanos = deltaNanos;
+		if (lateFrameCount >= REFRESH_RATE_CHANGE_FRAMES) {
+			lateFrameCount = 0;
+			frameIntervalNanos = deltaNanos;
+			return;
+		}
+		MoveStats.onFramesSkipped(Math.round((float) deltaNanos / frameIntervalNanos) - 1);
+	}
+
+	/**
+	 * Frame listener interface
+	 */
+	interface FrameListener {
+
+		/**
+		 * Is called on each display frame
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return true to receive the next frame, otherwise false
+		 */
+		boolean onFrame(long frameTimeNanos);
+
+	}
+
+	/**
+	 * Frame callback class, which posts itself to the {@link android.os.Handler}
+	 * with the estimated frame interval
+	 */
+	private class HandlerFrameDispatcher implements Runnable {
+
+		/**
+		 * Handler of the main thread
+		 */
+		private final Handler handler = new Handler(Looper.getMainLooper());
+
+		/**
+		 * Posts the frame callback
+		 */
+		private void post() {
+			handler.postDelayed(this, Math.max(1L, frameIntervalNanos / NANOS_PER_MILLI));
+		}
+
+		@Override
+		public void run() {
+			dispatchFrame(System.nanoTime());
+		}
+
+	}
+
+}
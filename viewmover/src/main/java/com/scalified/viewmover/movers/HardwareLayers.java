@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.DisplayMetrics;
+import android.view.View;
+import com.scalified.viewmover.R;
+import com.scalified.viewmover.tracing.Tracing;
+
+/**
+ * Hardware layers class, which promotes the moved views to hardware layers and caps the
+ * memory used by the promoted layers across all the concurrent moves
+ * <p>
+ * The view is promoted only if it is hardware accelerated, has no layer yet and is not
+ * larger than the display, and if its layer fits into the remaining budget. By default
+ * the budget is the memory of two full screen layers
+ * <p>
+ * The memory is accounted per view in the layer record kept by the view's tag, so that
+ * promoting or releasing the view twice doesn't change the used memory. The layer is
+ * released when the view is detached, so that the memory isn't leaked by the moves,
+ * which never complete
+ * <p>
+ * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#HONEYCOMB} and higher.
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+final class HardwareLayers {
+
+	/**
+	 * Number of bytes per layer pixel
+	 */
+	private static final int BYTES_PER_PIXEL = 4;
+
+	/**
+	 * Number of full screen layers the default budget is enough for
+	 */
+	private static final int DEFAULT_BUDGET_SCREENS = 2;
+
+	/**
+	 * Memory budget of the promoted layers in bytes or {@code -1} until set or calculated
+	 */
+	private static long budget = -1L;
+
+	/**
+	 * Memory used by the promoted layers in bytes
+	 */
+	private static long usedBytes;
+
+	/**
+	 * Listener, which releases the layer of the view once it is detached
+	 */
+	private static View.OnAttachStateChangeListener detachListener;
+
+	/**
+	 * Prevents instantiation
+	 */
+	private HardwareLayers() {
+	}
+
+	/**
+	 * Sets the memory budget of the promoted layers
+	 * <p>
+	 * The layers promoted before keep their memory until released
+	 *
+	 * @param budget memory budget in bytes
+	 */
+	static void setBudget(long budget) {
+		HardwareLayers.budget = budget;
+	}
+
+	/**
+	 * Promotes the view to the hardware layer if possible
+	 *
+	 * @param view view to promote
+	 * @return memory used by the promoted layer in bytes or {@code zero} if the view
+	 *         is not promoted or is already promoted
+	 */
+	static long promote(View view) {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB || !view.isHardwareAccelerated()
+				|| view.getLayerType() != View.LAYER_TYPE_NONE) {
+			return 0L;
+		}
+		Layer layer = (Layer) view.getTag(R.id.viewmover_layer);
+		if (layer != null && layer.bytes > 0L) {
+			return 0L;
+		}
+		DisplayMetrics metrics = view.getResources().getDisplayMetrics();
+		long area = (long) view.getWidth() * view.getHeight();
+		if (area == 0L || area > (long) metrics.widthPixels * metrics.heightPixels) {
+			return 0L;
+		}
+		long bytes = area * BYTES_PER_PIXEL;
+		if (usedBytes + bytes > getBudget(metrics)) {
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(HardwareLayers.class, "Layer of {} bytes exceeds the budget, {} bytes used",
+						bytes, usedBytes);
+			}
+			return 0L;
+		}
+		if (layer == null) {
+			layer = new Layer();
+			view.setTag(R.id.viewmover_layer, layer);
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB_MR1) {
+				view.addOnAttachStateChangeListener(getDetachListener());
+			}
+		}
+		view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+		layer.bytes = bytes;
+		usedBytes += bytes;
+		return bytes;
+	}
+
+	/**
+	 * Restores the view's layer type, which it had before the promotion, and releases
+	 * the memory of its layer at once
+	 * <p>
+	 * Does nothing if the view is not promoted or is already released
+	 *
+	 * @param view promoted view
+	 */
+	static void release(View view) {
+		Layer layer = (Layer) view.getTag(R.id.viewmover_layer);
+		if (layer == null || layer.bytes == 0L) {
+			return;
+		}
+		view.setLayerType(View.LAYER_TYPE_NONE, null);
+		usedBytes -= layer.bytes;
+		layer.bytes = 0L;
+	}
+
+	/**
+	 * Returns the listener, which releases the layer of the view once it is detached,
+	 * creating it once
+	 *
+	 * @return detach listener
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private static View.OnAttachStateChangeListener getDetachListener() {
+		if (detachListener == null) {
+			detachListener = new View.OnAttachStateChangeListener() {
+				@Override
+				public void onViewAttachedToWindow(View view) {
+				}
+
+				@Override
+				public void onViewDetachedFromWindow(View view) {
+					release(view);
+				}
+			};
+		}
+		return detachListener;
+	}
+
+	/**
+	 * Returns the memory budget, calculating the default one unless set
+	 *
+	 * @param metrics display metrics
+	 * @return memory budget in bytes
+	 */
+	private static long getBudget(DisplayMetrics metrics) {
+		if (budget < 0L) {
+			budget = (long) metrics.widthPixels * metrics.heightPixels * BYTES_PER_PIXEL * DEFAULT_BUDGET_SCREENS;
+		}
+		return budget;
+	}
+
+	/**
+	 * Layer record of the promoted view, which is kept by the view's tag
+	 */
+	private static final class Layer {
+
+		/**
+		 * Memory used by the layer in bytes or {@code zero} if the view is not promoted
+		 */
+		private long bytes;
+
+	}
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+/**
+ * Entity class, which contains the logical position of the view within its parent
+ * container, i.e. the position the view ends up at once all its pending moves complete
+ * <p>
+ * Is filled by {@link ViewMover#getLogicalPosition(LogicalPosition)}, so that a single
+ * instance can be reused for any number of queries
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class LogicalPosition {
+
+	/**
+	 * X coordinate of the view's left bound in actual pixels
+	 */
+	private float x;
+
+	/**
+	 * Y coordinate of the view's top bound in actual pixels
+	 */
+	private float y;
+
+	/**
+	 * Sets the logical position
+	 *
+	 * @param x X coordinate of the view's left bound in actual pixels
+	 * @param y Y coordinate of the view's top bound in actual pixels
+	 */
+	void set(float x, float y) {
+		this.x = x;
+		this.y = y;
+	}
+
+	/**
+	 * Returns the X coordinate of the view's left bound within its parent container
+	 *
+	 * @return X coordinate of the view's left bound in actual pixels
+	 */
+	public float getX() {
+		return x;
+	}
+
+	/**
+	 * Returns the Y coordinate of the view's top bound within its parent container
+	 *
+	 * @return Y coordinate of the view's top bound in actual pixels
+	 */
+	public float getY() {
+		return y;
+	}
+
+}
@@ -16,10 +16,11 @@
 
 package com.scalified.viewmover.movers;
 
+import android.os.Build;
 import android.view.View;
 import android.view.ViewGroup;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import android.view.ViewTreeObserver;
+import com.scalified.viewmover.tracing.Tracing;
 
 /**
  * View mover class, which is used to move the view, based on the view's margins
@@ -27,6 +28,13 @@ import org.slf4j.LoggerFactory;
  * <p>
  * While moving the view, the actual view margins are changed
  * <p>
+ * In layout-free mode the view is moved by offsetting its left, top, right and bottom
+ * positions. The offsets are accumulated and written back into the view's margins once
+ * per frame, right before the frame is drawn, without requesting a layout, so that the
+ * next real layout of the parent container, whenever it happens, keeps the view at its
+ * moved position. If the layout of the parent container is already requested, the
+ * margins are written back immediately, so that the pending layout applies them
+ * <p>
  * Used for {@code TargetApi} lower than {@link android.os.Build.VERSION_CODES#JELLY_BEAN}
  * <p>
  * The mover works as expected with {@link android.widget.FrameLayout} and {@link android.widget.RelativeLayout}.
@@ -39,9 +47,53 @@ import org.slf4j.LoggerFactory;
 class MarginViewMover extends ViewMover {
 
 	/**
-	 * Logger
+	 * Whether the view is moved without requesting a layout
+	 */
+	private final boolean layoutFree;
+
+	/**
+	 * Listener, which writes the accumulated offsets back into the view's margins before
+	 * the frame is drawn, {@code null} unless in layout-free mode
+	 */
+	private final MarginWriter marginWriter;
+
+	/**
+	 * View tree observer the margin writer is registered with, {@code null} if the
+	 * margin writer is not registered
+	 */
+	private ViewTreeObserver marginWriterObserver;
+
+	/**
+	 * X-axis offset, which is not written back into the view's margins yet
+	 */
+	private int pendingXAxisOffset;
+
+	/**
+	 * Y-axis offset, which is not written back into the view's margins yet
+	 */
+	private int pendingYAxisOffset;
+
+	/**
+	 * Whether the view is left aligned, captured when the first pending offset is accumulated
+	 */
+	private boolean pendingLeftAligned;
+
+	/**
+	 * Whether the view is top aligned, captured when the first pending offset is accumulated
+	 */
+	private boolean pendingTopAligned;
+
+	/**
+	 * View's left position after the last offset, used to detect the layout, which
+	 * reverted the pending offsets
+	 */
+	private int offsetLeft;
+
+	/**
+	 * View's top position after the last offset, used to detect the layout, which
+	 * reverted the pending offsets
 	 */
-	private static final Logger LOGGER = LoggerFactory.getLogger(MarginViewMover.class);
+	private int offsetTop;
 
 	/**
 	 * Creates the {@link MarginViewMover} instance
@@ -49,17 +101,68 @@ class MarginViewMover extends ViewMover {
 	 * @param view view to be moved
 	 */
 	MarginViewMover(View view) {
+		this(view, false);
+	}
+
+	/**
+	 * Creates the {@link MarginViewMover} instance
+	 *
+	 * @param view view to be moved
+	 * @param layoutFree true to move the view without requesting a layout, otherwise false
+	 */
+	MarginViewMover(View view, boolean layoutFree) {
 		super(view);
+		this.layoutFree = layoutFree;
+		this.marginWriter = layoutFree ? new MarginWriter() : null;
 	}
 
 	/**
 	 * Changes the position of the view, based on view's margins within its parent container
+	 * <p>
+	 * In layout-free mode the view is offset by the difference between the changed and
+	 * the original margins, and the changed margins are written back before the frame is
+	 * drawn instead of calling {@link View#setLayoutParams(ViewGroup.LayoutParams)}, which
+	 * would request a layout
 	 *
 	 * @param xAxisDelta X-axis delta in actual pixels
 	 * @param yAxisDelta Y-axis delta in actual pixels
 	 */
 	@Override
 	void changeViewPosition(float xAxisDelta, float yAxisDelta) {
+		if (changeViewMargins(xAxisDelta, yAxisDelta)) {
+			getView().setLayoutParams(getView().getLayoutParams());
+			MoveStats.onLayoutRequested();
+		}
+	}
+
+	/**
+	 * Changes the position of the view, based on view's margins within its parent container,
+	 * without requesting a layout
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return true if a layout of the parent container must be requested to apply
+	 *         the changed margins, otherwise false
+	 */
+	@Override
+	boolean changeViewPositionWithoutLayout(float xAxisDelta, float yAxisDelta) {
+		return changeViewMargins(xAxisDelta, yAxisDelta);
+	}
+
+	/**
+	 * Changes the view's margins in its layout parameters
+	 * <p>
+	 * In layout-free mode the view is offset instead and the margins are written back later
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return true if a layout must be requested to apply the changed margins, otherwise false
+	 */
+	private boolean changeViewMargins(float xAxisDelta, float yAxisDelta) {
+		if (layoutFree) {
+			offsetViewMargins(xAxisDelta, yAxisDelta);
+			return false;
+		}
 		ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) getView().getLayoutParams();
 		if (isViewLeftAligned(layoutParams)) {
 			layoutParams.leftMargin += xAxisDelta;
@@ -71,9 +174,107 @@ class MarginViewMover extends ViewMover {
 		} else {
 			layoutParams.bottomMargin -= yAxisDelta;
 		}
-		LOGGER.trace("Updated view margins: left = {}, top = {}, right = {}, bottom = {}",
-				layoutParams.leftMargin, layoutParams.topMargin, layoutParams.rightMargin, layoutParams.bottomMargin);
-		getView().setLayoutParams(layoutParams);
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MarginViewMover.class, "Updated view margins: left = {}, top = {}, right = {}, bottom = {}",
+					layoutParams.leftMargin, layoutParams.topMargin, layoutParams.rightMargin, layoutParams.bottomMargin);
+		}
+		return true;
+	}
+
+	/**
+	 * Offsets the view by the difference between the changed and the original margins
+	 * and accumulates the offset until it is written back into the view's margins
+	 * <p>
+	 * The changed margins are calculated from the margins, which include the pending
+	 * offsets, so that they are rounded the same way as if they were written on each move
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	private void offsetViewMargins(float xAxisDelta, float yAxisDelta) {
+		ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) getView().getLayoutParams();
+		if (marginWriterObserver == null) {
+			pendingLeftAligned = isViewLeftAligned(layoutParams);
+			pendingTopAligned = isViewTopAligned(layoutParams);
+		}
+		int xAxisOffset;
+		if (pendingLeftAligned) {
+			int leftMargin = layoutParams.leftMargin + pendingXAxisOffset;
+			xAxisOffset = (int) (leftMargin + xAxisDelta) - leftMargin;
+		} else {
+			int rightMargin = layoutParams.rightMargin - pendingXAxisOffset;
+			xAxisOffset = rightMargin - (int) (rightMargin - xAxisDelta);
+		}
+		int yAxisOffset;
+		if (pendingTopAligned) {
+			int topMargin = layoutParams.topMargin + pendingYAxisOffset;
+			yAxisOffset = (int) (topMargin + yAxisDelta) - topMargin;
+		} else {
+			int bottomMargin = layoutParams.bottomMargin - pendingYAxisOffset;
+			yAxisOffset = bottomMargin - (int) (bottomMargin - yAxisDelta);
+		}
+		pendingXAxisOffset += xAxisOffset;
+		pendingYAxisOffset += yAxisOffset;
+		offsetView(xAxisOffset, yAxisOffset);
+		offsetLeft = getView().getLeft();
+		offsetTop = getView().getTop();
+		if (getParentView().isLayoutRequested()) {
+			writeMargins();
+		} else if (marginWriterObserver == null) {
+			marginWriterObserver = getView().getViewTreeObserver();
+			marginWriterObserver.addOnPreDrawListener(marginWriter);
+		}
+	}
+
+	/**
+	 * Writes the pending offsets back into the view's margins without requesting a layout
+	 * and unregisters the margin writer
+	 */
+	private void writeMargins() {
+		ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) getView().getLayoutParams();
+		if (pendingLeftAligned) {
+			layoutParams.leftMargin += pendingXAxisOffset;
+		} else {
+			layoutParams.rightMargin -= pendingXAxisOffset;
+		}
+		if (pendingTopAligned) {
+			layoutParams.topMargin += pendingYAxisOffset;
+		} else {
+			layoutParams.bottomMargin -= pendingYAxisOffset;
+		}
+		pendingXAxisOffset = 0;
+		pendingYAxisOffset = 0;
+		if (marginWriterObserver != null) {
+			ViewTreeObserver observer = marginWriterObserver.isAlive()
+					? marginWriterObserver : getView().getViewTreeObserver();
+			observer.removeOnPreDrawListener(marginWriter);
+			marginWriterObserver = null;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MarginViewMover.class, "Written view margins: left = {}, top = {}, right = {}, bottom = {}",
+					layoutParams.leftMargin, layoutParams.topMargin, layoutParams.rightMargin, layoutParams.bottomMargin);
+		}
+	}
+
+	/**
+	 * Offsets the view's left, top, right and bottom positions without requesting a layout
+	 * <p>
+	 * Prior to {@link android.os.Build.VERSION_CODES#HONEYCOMB} offsetting doesn't invalidate
+	 * the view, hence the parent container is invalidated explicitly
+	 *
+	 * @param xAxisOffset X-axis offset in actual pixels
+	 * @param yAxisOffset Y-axis offset in actual pixels
+	 */
+	private void offsetView(int xAxisOffset, int yAxisOffset) {
+		getView().offsetLeftAndRight(xAxisOffset);
+		getView().offsetTopAndBottom(yAxisOffset);
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+			getParentView().invalidate();
+			MoveStats.onInvalidated();
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MarginViewMover.class, "View offset by: X-axis = {}, Y-axis = {}", xAxisOffset, yAxisOffset);
+		}
 	}
 
 	/**
@@ -83,9 +284,11 @@ class MarginViewMover extends ViewMover {
 	 * @return true if the view is left aligned, otherwise false
 	 */
 	private boolean isViewLeftAligned(ViewGroup.MarginLayoutParams layoutParams) {
-		final int left =  getView().getLeft();
+		final int left = getView().getLeft();
 		boolean viewLeftAligned = left == 0 || left == layoutParams.leftMargin;
-		LOGGER.trace("View is {} aligned", viewLeftAligned ? "LEFT" : "RIGHT");
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MarginViewMover.class, "View is {} aligned", viewLeftAligned ? "LEFT" : "RIGHT");
+		}
 		return viewLeftAligned;
 	}
 
@@ -98,7 +301,9 @@ class MarginViewMover extends ViewMover {
 	private boolean isViewTopAligned(ViewGroup.MarginLayoutParams layoutParams) {
 		final int top = getView().getTop();
 		boolean viewTopAligned = top == 0 || top == layoutParams.topMargin;
-		LOGGER.trace("View is {} aligned", viewTopAligned ? "TOP" : "BOTTOM");
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(MarginViewMover.class, "View is {} aligned", viewTopAligned ? "TOP" : "BOTTOM");
+		}
 		return viewTopAligned;
 	}
 
@@ -150,4 +355,38 @@ class MarginViewMover extends ViewMover {
 		return getView().getBottom() + (int) yAxisDelta;
 	}
 
+	/**
+	 * Pre-draw listener class, which writes the offsets accumulated during the frame back
+	 * into the view's margins once per frame
+	 */
+	private class MarginWriter implements ViewTreeObserver.OnPreDrawListener {
+
+		/**
+		 * Is called right before the frame is drawn
+		 * <p>
+		 * If a layout of the parent container has been performed since the view was offset,
+		 * the view has been put back to its original margins. In this case the margins are
+		 * written back, the layout is requested and the frame is skipped, so that the view
+		 * is never drawn at its original position
+		 *
+		 * @return true to proceed with the frame, otherwise false
+		 */
+		@Override
+		public boolean onPreDraw() {
+			boolean reverted = (pendingXAxisOffset != 0 || pendingYAxisOffset != 0)
+					&& (getView().getLeft() != offsetLeft || getView().getTop() != offsetTop);
+			writeMargins();
+			if (reverted) {
+				getView().requestLayout();
+				MoveStats.onLayoutRequested();
+				if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+					Tracing.trace(MarginViewMover.class, "View offsets reverted by layout, layout requested");
+				}
+				return false;
+			}
+			return true;
+		}
+
+	}
+
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+/**
+ * Entity class, which contains the range of the deltas the view can be moved at
+ * staying within its parent container
+ * <p>
+ * Is filled by {@link ViewMover#getMovableRange(MovableRange)}, so that a single
+ * instance can be reused for any number of queries
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MovableRange {
+
+	/**
+	 * Minimum X-axis delta in actual pixels
+	 */
+	private float minXAxisDelta;
+
+	/**
+	 * Maximum X-axis delta in actual pixels
+	 */
+	private float maxXAxisDelta;
+
+	/**
+	 * Minimum Y-axis delta in actual pixels
+	 */
+	private float minYAxisDelta;
+
+	/**
+	 * Maximum Y-axis delta in actual pixels
+	 */
+	private float maxYAxisDelta;
+
+	/**
+	 * Sets the range of the deltas
+	 *
+	 * @param minXAxisDelta minimum X-axis delta in actual pixels
+	 * @param maxXAxisDelta maximum X-axis delta in actual pixels
+	 * @param minYAxisDelta minimum Y-axis delta in actual pixels
+	 * @param maxYAxisDelta maximum Y-axis delta in actual pixels
+	 */
+	void set(float minXAxisDelta, float maxXAxisDelta, float minYAxisDelta, float maxYAxisDelta) {
+		this.minXAxisDelta = minXAxisDelta;
+		this.maxXAxisDelta = maxXAxisDelta;
+		this.minYAxisDelta = minYAxisDelta;
+		this.maxYAxisDelta = maxYAxisDelta;
+	}
+
+	/**
+	 * Returns the minimum X-axis delta, which is negative or {@code zero} unless the view
+	 * is already out of its parent container
+	 *
+	 * @return minimum X-axis delta in actual pixels
+	 */
+	public float getMinXAxisDelta() {
+		return minXAxisDelta;
+	}
+
+	/**
+	 * Returns the maximum X-axis delta, which is positive or {@code zero} unless the view
+	 * is already out of its parent container
+	 *
+	 * @return maximum X-axis delta in actual pixels
+	 */
+	public float getMaxXAxisDelta() {
+		return maxXAxisDelta;
+	}
+
+	/**
+	 * Returns the minimum Y-axis delta, which is negative or {@code zero} unless the view
+	 * is already out of its parent container
+	 *
+	 * @return minimum Y-axis delta in actual pixels
+	 */
+	public float getMinYAxisDelta() {
+		return minYAxisDelta;
+	}
+
+	/**
+	 * Returns the maximum Y-axis delta, which is positive or {@code zero} unless the view
+	 * is already out of its parent container
+	 *
+	 * @return maximum Y-axis delta in actual pixels
+	 */
+	public float getMaxYAxisDelta() {
+		return maxYAxisDelta;
+	}
+
+}
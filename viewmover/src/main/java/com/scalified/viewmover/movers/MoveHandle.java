@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+/**
+ * Move handle class, which controls the move of the view, which is in progress
+ * <p>
+ * A single handle is reused for all moves of the view mover and always refers to the
+ * current move, so that no object is allocated per move. If no move is in progress, the
+ * handle methods do nothing
+ * <p>
+ * The tween moves driven by display frames and the property animation moves support all
+ * the operations. The spring and fling moves can't be sought, and the legacy view
+ * animation moves can only be cancelled, ended and reversed
+ * <p>
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MoveHandle {
+
+	/**
+	 * View mover, which moves are controlled
+	 */
+	private final ViewMover mover;
+
+	/**
+	 * Creates the {@link MoveHandle} instance
+	 *
+	 * @param mover view mover, which moves are controlled
+	 */
+	MoveHandle(ViewMover mover) {
+		this.mover = mover;
+	}
+
+	/**
+	 * Cancels the current move leaving the view at its current position
+	 * <p>
+	 * The view position is changed to the current one, the external animation listener is
+	 * notified about the end and the queued moves are discarded. The view mover switches
+	 * to the {@link ViewMover#MOVE_STATE_CANCELLED} state
+	 */
+	public void cancel() {
+		mover.cancelMove(false);
+	}
+
+	/**
+	 * Ends the current move moving the view to its final position at once
+	 * <p>
+	 * The move is completed the same way it completes by itself, so that the next queued
+	 * move starts if any
+	 */
+	public void end() {
+		mover.cancelMove(true);
+	}
+
+	/**
+	 * Pauses the current move
+	 * <p>
+	 * No display frames are spent on the paused move. Retargeting the paused move
+	 * resumes it
+	 */
+	public void pause() {
+		mover.pauseMove();
+	}
+
+	/**
+	 * Resumes the paused move from the point it was paused at
+	 */
+	public void resume() {
+		mover.resumeMove();
+	}
+
+	/**
+	 * Seeks the current tween move to the given fraction of its duration
+	 * <p>
+	 * The view is visually moved to the offset at the given fraction at once. The running
+	 * move continues from the given fraction, the paused one stays paused there, so that
+	 * the move can be scrubbed interactively
+	 *
+	 * @param fraction fraction of the move duration from {@code 0} to {@code 1}
+	 */
+	public void seek(float fraction) {
+		mover.seekMove(fraction);
+	}
+
+	/**
+	 * Reverses the current move from the view's current offset back to the position the
+	 * move started at
+	 * <p>
+	 * The reversed tween move follows the straight line and takes as long as the move
+	 * took so far. The spring or fling move carries its momentum towards the start
+	 * position. Resumes the paused move
+	 */
+	public void reverse() {
+		mover.reverseMove();
+	}
+
+	/**
+	 * Checks whether the move is in progress
+	 *
+	 * @return true if the move is in progress, otherwise false
+	 */
+	public boolean isActive() {
+		return mover.isMoveInProgress();
+	}
+
+	/**
+	 * Checks whether the move is paused
+	 *
+	 * @return true if the move is paused, otherwise false
+	 */
+	public boolean isPaused() {
+		return mover.isMovePaused();
+	}
+
+}
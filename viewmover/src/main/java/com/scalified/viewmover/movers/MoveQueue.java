@@ -0,0 +1,309 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import com.scalified.viewmover.configuration.MovingParams;
+import com.scalified.viewmover.configuration.QueueOverflowPolicy;
+
+/**
+ * Bounded queue of moves, which are requested while the view is being moved
+ * <p>
+ * Backed by the ring buffer of primitive deltas, so that no objects are allocated
+ * when moves are queued and dequeued
+ * <p>
+ * A queued move either moves the view at the deltas or to the target. The target is kept
+ * as the coordinates within the parent container and is resolved into the deltas when
+ * the move is dequeued, so that it doesn't depend on the moves queued before it, which
+ * may be coalesced, replaced or dropped by the overflow policy
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class MoveQueue {
+
+	/**
+	 * X-axis deltas or target X coordinates of the queued moves in actual pixels
+	 */
+	private final float[] xAxisDeltas;
+
+	/**
+	 * Y-axis deltas or target Y coordinates of the queued moves in actual pixels
+	 */
+	private final float[] yAxisDeltas;
+
+	/**
+	 * Whether the queued moves move the view to the target rather than at the deltas
+	 */
+	private final boolean[] targets;
+
+	/**
+	 * Moving params of the queued moves
+	 */
+	private final MovingParams[] params;
+
+	/**
+	 * Policy, which is applied when the queue is full
+	 */
+	private final QueueOverflowPolicy overflowPolicy;
+
+	/**
+	 * Index of the first queued move
+	 */
+	private int head;
+
+	/**
+	 * Number of the queued moves
+	 */
+	private int size;
+
+	/**
+	 * Creates the {@link MoveQueue} instance
+	 *
+	 * @param capacity maximum number of the queued moves
+	 * @param overflowPolicy policy, which is applied when the queue is full
+	 */
+	MoveQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+		this.xAxisDeltas = new float[capacity];
+		this.yAxisDeltas = new float[capacity];
+		this.targets = new boolean[capacity];
+		this.params = new MovingParams[capacity];
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Checks whether the queue is empty
+	 *
+	 * @return true if the queue is empty, otherwise false
+	 */
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the number of the queued moves
+	 *
+	 * @return number of the queued moves
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Queues the move at the deltas, applying the overflow policy if the queue is full
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param params moving params
+	 */
+	void offer(float xAxisDelta, float yAxisDelta, MovingParams params) {
+		offer(xAxisDelta, yAxisDelta, false, params);
+	}
+
+	/**
+	 * Queues the move to the target, applying the overflow policy if the queue is full
+	 *
+	 * @param x X coordinate of the view's left bound to end at in actual pixels
+	 * @param y Y coordinate of the view's top bound to end at in actual pixels
+	 * @param params moving params
+	 */
+	void offerTarget(float x, float y, MovingParams params) {
+		offer(x, y, true, params);
+	}
+
+	/**
+	 * Queues the move, applying the overflow policy if the queue is full
+	 * <p>
+	 * When coalesced, the target replaces the last queued move, while the deltas shift the
+	 * last queued move, keeping it the move to the target if it was
+	 *
+	 * @param x X-axis delta or target X coordinate in actual pixels
+	 * @param y Y-axis delta or target Y coordinate in actual pixels
+	 * @param target true if the move is to the target, otherwise false
+	 * @param params moving params
+	 */
+	private void offer(float x, float y, boolean target, MovingParams params) {
+		if (size < xAxisDeltas.length) {
+			set(size++, x, y, target, params);
+			return;
+		}
+		switch (overflowPolicy) {
+			case COALESCE:
+				int tail = index(size - 1);
+				if (target) {
+					set(size - 1, x, y, true, params);
+				} else {
+					set(size - 1, xAxisDeltas[tail] + x, yAxisDeltas[tail] + y, targets[tail], params);
+				}
+				break;
+			case DROP_OLDEST:
+				remove();
+				set(size++, x, y, target, params);
+				break;
+			case REPLACE:
+				set(size - 1, x, y, target, params);
+				break;
+		}
+	}
+
+	/**
+	 * Checks whether the first queued move is to the target rather than at the deltas
+	 *
+	 * @return true if the first queued move is to the target, otherwise false
+	 */
+	boolean peekTarget() {
+		return targets[head];
+	}
+
+	/**
+	 * Returns the X-axis delta or the target X coordinate of the first queued move
+	 *
+	 * @return X-axis delta or target X coordinate of the first queued move in actual pixels
+	 */
+	float peekXAxisDelta() {
+		return xAxisDeltas[head];
+	}
+
+	/**
+	 * Returns the Y-axis delta or the target Y coordinate of the first queued move
+	 *
+	 * @return Y-axis delta or target Y coordinate of the first queued move in actual pixels
+	 */
+	float peekYAxisDelta() {
+		return yAxisDeltas[head];
+	}
+
+	/**
+	 * Returns the moving params of the first queued move
+	 *
+	 * @return moving params of the first queued move
+	 */
+	MovingParams peekParams() {
+		return params[head];
+	}
+
+	/**
+	 * Returns the position of the last queued move to the target
+	 *
+	 * @return position relative to the first queued move or {@code -1} if no move to the
+	 *         target is queued
+	 */
+	int findLastTarget() {
+		for (int i = size - 1; i >= 0; i--) {
+			if (targets[index(i)]) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the target X coordinate of the queued move to the target
+	 *
+	 * @param position position relative to the first queued move
+	 * @return target X coordinate in actual pixels
+	 */
+	float getTargetX(int position) {
+		return xAxisDeltas[index(position)];
+	}
+
+	/**
+	 * Returns the target Y coordinate of the queued move to the target
+	 *
+	 * @param position position relative to the first queued move
+	 * @return target Y coordinate in actual pixels
+	 */
+	float getTargetY(int position) {
+		return yAxisDeltas[index(position)];
+	}
+
+	/**
+	 * Returns the sum of the X-axis deltas of the queued moves starting from the given position,
+	 * which must follow the last queued move to the target
+	 *
+	 * @param fromPosition position relative to the first queued move to start from
+	 * @return sum of the X-axis deltas in actual pixels
+	 */
+	float sumXAxisDeltas(int fromPosition) {
+		float sum = 0.0f;
+		for (int i = fromPosition; i < size; i++) {
+			sum += xAxisDeltas[index(i)];
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns the sum of the Y-axis deltas of the queued moves starting from the given position,
+	 * which must follow the last queued move to the target
+	 *
+	 * @param fromPosition position relative to the first queued move to start from
+	 * @return sum of the Y-axis deltas in actual pixels
+	 */
+	float sumYAxisDeltas(int fromPosition) {
+		float sum = 0.0f;
+		for (int i = fromPosition; i < size; i++) {
+			sum += yAxisDeltas[index(i)];
+		}
+		return sum;
+	}
+
+	/**
+	 * Removes the first queued move
+	 */
+	void remove() {
+		params[head] = null;
+		head = index(1);
+		size--;
+	}
+
+	/**
+	 * Removes all the queued moves
+	 */
+	void clear() {
+		while (size > 0) {
+			remove();
+		}
+	}
+
+	/**
+	 * Sets the queued move at the position relative to the first queued move
+	 *
+	 * @param position position relative to the first queued move
+	 * @param x X-axis delta or target X coordinate in actual pixels
+	 * @param y Y-axis delta or target Y coordinate in actual pixels
+	 * @param target true if the move is to the target, otherwise false
+	 * @param params moving params
+	 */
+	private void set(int position, float x, float y, boolean target, MovingParams params) {
+		int index = index(position);
+		this.xAxisDeltas[index] = x;
+		this.yAxisDeltas[index] = y;
+		this.targets[index] = target;
+		this.params[index] = params;
+	}
+
+	/**
+	 * Converts the position relative to the first queued move into the buffer index
+	 *
+	 * @param position position relative to the first queued move
+	 * @return buffer index
+	 */
+	private int index(int position) {
+		return (head + position) % xAxisDeltas.length;
+	}
+
+}
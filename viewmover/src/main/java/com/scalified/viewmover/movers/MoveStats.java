@@ -0,0 +1,310 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+/**
+ * Static counters of the work the view movers cause the view system to do
+ * <p>
+ * Counts the layout requests, the explicit invalidations, the per-view frame updates
+ * and the view position changes performed by all the view movers, the display frames
+ * dispatched and skipped by the frame scheduler, as well as the frames and the moves culled
+ * for the views, which are not visible. Layout is the most
+ * expensive part of moving the view, so that the counters may be used to guard the
+ * layout cost of a move: reset the counters, perform the move and compare the counts
+ * against the expected ones
+ * <p>
+ * Counting is disabled by default, so that the counters cost nothing but a flag check.
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class MoveStats {
+
+	/**
+	 * Number of nanoseconds in second
+	 */
+	private static final float NANOS_PER_SECOND = 1.0e9f;
+
+	/**
+	 * Whether counting is enabled
+	 */
+	private static boolean enabled;
+
+	/**
+	 * Number of layouts requested
+	 */
+	private static int layoutRequestCount;
+
+	/**
+	 * Number of explicit invalidations
+	 */
+	private static int invalidationCount;
+
+	/**
+	 * Number of per-view frame updates
+	 */
+	private static int frameCount;
+
+	/**
+	 * Number of view position changes
+	 */
+	private static int positionChangeCount;
+
+	/**
+	 * Number of display frames dispatched by the frame scheduler
+	 */
+	private static int dispatchedFrameCount;
+
+	/**
+	 * Number of display frames skipped between the dispatched ones
+	 */
+	private static int skippedFrameCount;
+
+	/**
+	 * Number of per-view frame updates skipped since the view is not visible
+	 */
+	private static int culledFrameCount;
+
+	/**
+	 * Number of moves completed at once since the view is not visible
+	 */
+	private static int culledMoveCount;
+
+	/**
+	 * Prevents instantiation
+	 */
+	private MoveStats() {
+	}
+
+	/**
+	 * Enables or disables counting
+	 * <p>
+	 * The counters keep their values when counting is disabled
+	 *
+	 * @param enabled true to enable counting, otherwise false
+	 */
+	public static void setEnabled(boolean enabled) {
+		MoveStats.enabled = enabled;
+	}
+
+	/**
+	 * Checks whether counting is enabled
+	 *
+	 * @return true if counting is enabled, otherwise false
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Resets all the counters to zero
+	 */
+	public static void reset() {
+		layoutRequestCount = 0;
+		invalidationCount = 0;
+		frameCount = 0;
+		positionChangeCount = 0;
+		dispatchedFrameCount = 0;
+		skippedFrameCount = 0;
+		culledFrameCount = 0;
+		culledMoveCount = 0;
+	}
+
+	/**
+	 * Returns the number of layouts requested by the view movers, either by applying
+	 * the changed layout parameters of the view or by requesting the layout of the
+	 * parent container explicitly
+	 *
+	 * @return number of layouts requested
+	 */
+	public static int getLayoutRequestCount() {
+		return layoutRequestCount;
+	}
+
+	/**
+	 * Returns the number of the parent containers explicitly invalidated by the view movers
+	 * <p>
+	 * Explicit invalidations are performed prior to
+	 * {@link android.os.Build.VERSION_CODES#HONEYCOMB} only, where offsetting the view
+	 * doesn't invalidate it
+	 *
+	 * @return number of explicit invalidations
+	 */
+	public static int getInvalidationCount() {
+		return invalidationCount;
+	}
+
+	/**
+	 * Returns the number of frames, on which the view movers visually moved their views
+	 * <p>
+	 * Each moved view is counted separately, so that moving two views on the same frame
+	 * counts two frame updates
+	 *
+	 * @return number of per-view frame updates
+	 */
+	public static int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Returns the number of view position changes, which are performed once per completed
+	 * move, drag or batch entry
+	 *
+	 * @return number of view position changes
+	 */
+	public static int getPositionChangeCount() {
+		return positionChangeCount;
+	}
+
+	/**
+	 * Returns the number of display frames dispatched by the frame scheduler, which
+	 * drives the frame driven moves, the spring and fling moves, the drags, the view mover
+	 * groups and the view mover engines
+	 * <p>
+	 * Each frame is counted once no matter how many views are moved on it
+	 *
+	 * @return number of dispatched display frames
+	 */
+	public static int getDispatchedFrameCount() {
+		return dispatchedFrameCount;
+	}
+
+	/**
+	 * Returns the number of display frames skipped between the dispatched ones, e.g. due to
+	 * the main thread being busy
+	 * <p>
+	 * The moves catch up on the skipped frames, since their progress is calculated from
+	 * the frame time, but the skipped frames are visible as jank
+	 *
+	 * @return number of skipped display frames
+	 */
+	public static int getSkippedFrameCount() {
+		return skippedFrameCount;
+	}
+
+	/**
+	 * Returns the number of per-view frame updates skipped, since the parent container of
+	 * the moved view was fully clipped or off-screen
+	 * <p>
+	 * The motion of such a move still advances, so that the view is visually moved again
+	 * once its parent container becomes visible
+	 *
+	 * @return number of culled frame updates
+	 */
+	public static int getCulledFrameCount() {
+		return culledFrameCount;
+	}
+
+	/**
+	 * Returns the number of moves completed at once, since the moved view was detached
+	 * or not shown
+	 *
+	 * @return number of culled moves
+	 */
+	public static int getCulledMoveCount() {
+		return culledMoveCount;
+	}
+
+	/**
+	 * Returns the display refresh rate estimated from the dispatched frames
+	 * <p>
+	 * Is available regardless of whether counting is enabled. Until the frames are
+	 * dispatched, {@code 60 Hz} is assumed
+	 *
+	 * @return estimated display refresh rate in Hz
+	 */
+	public static float getRefreshRate() {
+		return NANOS_PER_SECOND / FrameScheduler.getInstance().getFrameIntervalNanos();
+	}
+
+	/**
+	 * Is called when the view mover requests a layout
+	 */
+	static void onLayoutRequested() {
+		if (enabled) {
+			layoutRequestCount++;
+		}
+	}
+
+	/**
+	 * Is called when the view mover explicitly invalidates the parent container
+	 */
+	static void onInvalidated() {
+		if (enabled) {
+			invalidationCount++;
+		}
+	}
+
+	/**
+	 * Is called when the view mover visually moves its view on the display frame
+	 */
+	static void onFrame() {
+		if (enabled) {
+			frameCount++;
+		}
+	}
+
+	/**
+	 * Is called when the frame scheduler dispatches a display frame
+	 */
+	static void onFrameDispatched() {
+		if (enabled) {
+			dispatchedFrameCount++;
+		}
+	}
+
+	/**
+	 * Is called when the frame scheduler detects the skipped display frames
+	 *
+	 * @param count number of skipped display frames
+	 */
+	static void onFramesSkipped(int count) {
+		if (enabled) {
+			skippedFrameCount += count;
+		}
+	}
+
+	/**
+	 * Is called when the view mover skips the frame update of its view, which is not visible
+	 */
+	static void onFrameCulled() {
+		if (enabled) {
+			culledFrameCount++;
+		}
+	}
+
+	/**
+	 * Is called when the view mover completes the move of its view, which is not shown, at once
+	 */
+	static void onMoveCulled() {
+		if (enabled) {
+			culledMoveCount++;
+		}
+	}
+
+	/**
+	 * Is called when the view mover changes the position of its view
+	 */
+	static void onPositionChanged() {
+		if (enabled) {
+			positionChangeCount++;
+		}
+	}
+
+}
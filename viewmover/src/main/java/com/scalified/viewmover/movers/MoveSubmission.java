@@ -0,0 +1,270 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Move submission class, which collects the moves submitted for the view from any thread
+ * and applies them on the main thread once per display frame
+ * <p>
+ * The pending moves are kept in an immutable {@link PendingMove} record, which is replaced
+ * by compare-and-set on each submission: the submitted deltas are added to the deltas of the
+ * record and the submitted target replaces the record as a whole. The drain takes the record
+ * by a single atomic swap, so that it never sees a target with the deltas submitted before it,
+ * and neither the submitting threads nor the main thread are ever blocked. A submission
+ * allocates a single short-lived record on the submitting thread, while the drain on the main
+ * thread allocates nothing. The submissions, which have pending moves, are linked into a
+ * lock-free stack, which is detached as a whole and drained on the next display frame.
+ * The main thread is woken up once per frame only, when the stack becomes non-empty
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class MoveSubmission {
+
+	/**
+	 * Top of the stack of the submissions, which have pending moves, or {@code null}
+	 * if the stack is empty
+	 */
+	private static final AtomicReference<MoveSubmission> PENDING_SUBMISSIONS =
+			new AtomicReference<MoveSubmission>();
+
+	/**
+	 * Drainer, which drains the pending submissions on the main thread
+	 */
+	private static final Drainer DRAINER = new Drainer();
+
+	/**
+	 * View mover, which the submitted moves are applied by
+	 */
+	private final ViewMover mover;
+
+	/**
+	 * Moves submitted since the last drain or {@code null} if there are none
+	 */
+	private final AtomicReference<PendingMove> pendingMove = new AtomicReference<PendingMove>();
+
+	/**
+	 * Whether the submission is linked into the stack of the pending submissions
+	 */
+	private final AtomicBoolean queued = new AtomicBoolean();
+
+	/**
+	 * Next submission in the stack of the pending submissions
+	 * <p>
+	 * Is written before the submission is pushed, and is read after the stack is detached,
+	 * both being ordered by the stack top updates
+	 */
+	private MoveSubmission next;
+
+	/**
+	 * Creates the {@link MoveSubmission} instance
+	 *
+	 * @param mover view mover, which the submitted moves are applied by
+	 */
+	MoveSubmission(ViewMover mover) {
+		this.mover = mover;
+	}
+
+	/**
+	 * Adds the deltas to the sum of the deltas submitted since the last drain
+	 * <p>
+	 * May be called from any thread
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	void submitDeltas(float xAxisDelta, float yAxisDelta) {
+		PendingMove current;
+		PendingMove updated;
+		do {
+			current = pendingMove.get();
+			updated = current == null
+					? new PendingMove(false, 0.0f, 0.0f, xAxisDelta, yAxisDelta)
+					: new PendingMove(current.hasTarget, current.targetX, current.targetY,
+							current.xAxisDelta + xAxisDelta, current.yAxisDelta + yAxisDelta);
+		} while (!pendingMove.compareAndSet(current, updated));
+		enqueue();
+	}
+
+	/**
+	 * Replaces the target submitted since the last drain and discards the deltas
+	 * submitted before it
+	 * <p>
+	 * May be called from any thread. The order of the target and the deltas submitted
+	 * concurrently from different threads is undefined
+	 *
+	 * @param x X coordinate of the view's left bound to end at in actual pixels
+	 * @param y Y coordinate of the view's top bound to end at in actual pixels
+	 */
+	void submitTarget(float x, float y) {
+		pendingMove.set(new PendingMove(true, x, y, 0.0f, 0.0f));
+		enqueue();
+	}
+
+	/**
+	 * Pushes the submission onto the stack of the pending submissions unless it is already
+	 * there, and wakes up the main thread if the stack was empty
+	 */
+	private void enqueue() {
+		if (!queued.compareAndSet(false, true)) {
+			return;
+		}
+		MoveSubmission top;
+		do {
+			top = PENDING_SUBMISSIONS.get();
+			next = top;
+		} while (!PENDING_SUBMISSIONS.compareAndSet(top, this));
+		if (top == null) {
+			DRAINER.wakeUp();
+		}
+	}
+
+	/**
+	 * Detaches the stack of the pending submissions and applies the pending moves of each one
+	 * <p>
+	 * The submission is marked as not queued before its pending moves are taken, so that the
+	 * moves submitted meanwhile push it again and are applied on the next frame
+	 */
+	private static void drain() {
+		MoveSubmission submission = PENDING_SUBMISSIONS.getAndSet(null);
+		while (submission != null) {
+			MoveSubmission nextSubmission = submission.next;
+			submission.next = null;
+			submission.queued.set(false);
+			submission.apply();
+			submission = nextSubmission;
+		}
+	}
+
+	/**
+	 * Takes the pending moves and applies them by the view mover
+	 * <p>
+	 * Nothing is applied if the pending moves were already taken by the previous drain,
+	 * which happens when the moves are submitted while the submission is being drained
+	 */
+	private void apply() {
+		PendingMove move = pendingMove.getAndSet(null);
+		if (move != null) {
+			mover.applySubmittedMove(move.hasTarget, move.targetX, move.targetY, move.xAxisDelta, move.yAxisDelta);
+		}
+	}
+
+	/**
+	 * Pending move class
+	 * <p>
+	 * Immutable record of the target and the deltas submitted since the last drain
+	 */
+	private static final class PendingMove {
+
+		/**
+		 * Whether the target is submitted since the last drain
+		 */
+		private final boolean hasTarget;
+
+		/**
+		 * Last submitted target X coordinate
+		 */
+		private final float targetX;
+
+		/**
+		 * Last submitted target Y coordinate
+		 */
+		private final float targetY;
+
+		/**
+		 * Sum of the X-axis deltas submitted since the last drain or since the target
+		 */
+		private final float xAxisDelta;
+
+		/**
+		 * Sum of the Y-axis deltas submitted since the last drain or since the target
+		 */
+		private final float yAxisDelta;
+
+		/**
+		 * Creates the {@link PendingMove} instance
+		 *
+		 * @param hasTarget whether the target is submitted
+		 * @param targetX target X coordinate
+		 * @param targetY target Y coordinate
+		 * @param xAxisDelta sum of the X-axis deltas
+		 * @param yAxisDelta sum of the Y-axis deltas
+		 */
+		private PendingMove(boolean hasTarget, float targetX, float targetY, float xAxisDelta, float yAxisDelta) {
+			this.hasTarget = hasTarget;
+			this.targetX = targetX;
+			this.targetY = targetY;
+			this.xAxisDelta = xAxisDelta;
+			this.yAxisDelta = yAxisDelta;
+		}
+
+	}
+
+	/**
+	 * Drainer class
+	 * <p>
+	 * Is posted to the main thread when the first submission is pushed after the drain,
+	 * and drains the pending submissions on the next display frame
+	 */
+	private static class Drainer implements Runnable, FrameScheduler.FrameListener {
+
+		/**
+		 * Handler of the main thread
+		 */
+		private final Handler handler = new Handler(Looper.getMainLooper());
+
+		/**
+		 * Wakes up the main thread to drain the pending submissions
+		 * <p>
+		 * May be called from any thread
+		 */
+		private void wakeUp() {
+			handler.post(this);
+		}
+
+		/**
+		 * Is called on the main thread after waking up
+		 * <p>
+		 * Requests the display frame to drain the pending submissions
+		 */
+		@Override
+		public void run() {
+			FrameScheduler.getInstance().addFrameListener(this);
+		}
+
+		/**
+		 * Is called on the display frame requested after waking up
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return always false, since the main thread is woken up for each drain
+		 */
+		@Override
+		public boolean onFrame(long frameTimeNanos) {
+			drain();
+			return false;
+		}
+
+	}
+
+}
@@ -19,8 +19,7 @@ package com.scalified.viewmover.movers;
 import android.annotation.TargetApi;
 import android.os.Build;
 import android.view.View;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.scalified.viewmover.tracing.Tracing;
 
 /**
  * View mover class, which is used to move the view, based on view's visual position
@@ -34,11 +33,6 @@ import org.slf4j.LoggerFactory;
  */
 class PositionViewMover extends ViewMover {
 
-	/**
-	 * Logger
-	 */
-	private static final Logger LOGGER = LoggerFactory.getLogger(PositionViewMover.class);
-
 	/**
 	 * Creates the {@link PositionViewMover} instance
 	 *
@@ -61,7 +55,10 @@ class PositionViewMover extends ViewMover {
 		float endTopBoundPointY = calculateEndTopBound(yAxisDelta);
 		getView().setX(endLeftBoundPointX);
 		getView().setY(endTopBoundPointY);
-		LOGGER.trace("Updated view position: leftX = {}, topY = {}", endLeftBoundPointX, endTopBoundPointY);
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(PositionViewMover.class, "Updated view position: leftX = {}, topY = {}",
+					endLeftBoundPointX, endTopBoundPointY);
+		}
 	}
 
 	/**
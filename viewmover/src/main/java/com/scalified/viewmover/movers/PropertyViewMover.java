@@ -0,0 +1,361 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ValueAnimator;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.animation.Animation;
+import com.scalified.viewmover.core.MoveMotion;
+import com.scalified.viewmover.tracing.Tracing;
+
+/**
+ * View mover class, which is used to move the view by animating its
+ * {@code translationX} and {@code translationY} properties
+ * <p>
+ * Unlike {@link PositionViewMover} the view is moved by means of property
+ * animation, which only updates the view's render properties on each frame and
+ * never invalidates the layout. Since the translation reached at the end of the
+ * animation is the resulting view position, there is no position change
+ * performed when the animation completes
+ * <p>
+ * The move animator and its update listener run on the main thread, so each frame of the
+ * move still costs the main thread the motion update and the translation change. Changing
+ * the translation only updates the properties of the view's display list, so the view
+ * is not redrawn
+ * <p>
+ * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#LOLLIPOP} and higher
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@TargetApi(Build.VERSION_CODES.LOLLIPOP)
+class PropertyViewMover extends ViewMover {
+
+	/**
+	 * Move animators, which are reused for all moves of the view
+	 * <p>
+	 * Two animators are used in turn, since the next move may be started while
+	 * the previous animator is still notifying its listeners about the end, and
+	 * prior to {@link android.os.Build.VERSION_CODES#N} such an animator can't be
+	 * restarted from its listener
+	 */
+	private final ValueAnimator[] moveAnimators = {
+			ValueAnimator.ofFloat(0.0f, 1.0f), ValueAnimator.ofFloat(0.0f, 1.0f)};
+
+	/**
+	 * Move animator listener, which is reused for all moves of the view
+	 */
+	private final MoveAnimatorListener moveAnimatorListener = new MoveAnimatorListener();
+
+	/**
+	 * Index of the move animator used by the last move
+	 */
+	private int moveAnimatorIndex;
+
+	/**
+	 * Creates the {@link PropertyViewMover} instance
+	 *
+	 * @param view view to be moved
+	 */
+	PropertyViewMover(View view) {
+		super(view);
+		for (ValueAnimator moveAnimator : moveAnimators) {
+			moveAnimator.setInterpolator(LINEAR_INTERPOLATOR);
+			moveAnimator.addListener(moveAnimatorListener);
+			moveAnimator.addUpdateListener(moveAnimatorListener);
+		}
+	}
+
+	/**
+	 * Starts the next move animator, which animates the view's translation properties
+	 * according to the motion
+	 * <p>
+	 * When the move starts, the view's translation, which the motion offsets are applied
+	 * relative to, is remembered. If the motion is retargeted, the previous move animator
+	 * is cancelled after the next one starts, and its callbacks are ignored
+	 *
+	 * @param duration move animation duration in ms
+	 * @param animationListener move animation listener, may be {@code null}
+	 * @param retargeting true if the motion is retargeted, otherwise false
+	 */
+	@Override
+	void startMotion(long duration, Animation.AnimationListener animationListener, boolean retargeting) {
+		ValueAnimator previousAnimator = moveAnimators[moveAnimatorIndex];
+		if (!retargeting) {
+			moveAnimatorListener.startTranslationX = getView().getTranslationX();
+			moveAnimatorListener.startTranslationY = getView().getTranslationY();
+		}
+		moveAnimatorListener.prepare(animationListener);
+		moveAnimatorIndex = (moveAnimatorIndex + 1) % moveAnimators.length;
+		ValueAnimator moveAnimator = moveAnimators[moveAnimatorIndex];
+		moveAnimator.setDuration(duration);
+		moveAnimator.start();
+		if (retargeting) {
+			previousAnimator.cancel();
+		}
+	}
+
+	/**
+	 * Pauses the current move animator
+	 *
+	 * @return always true, since the move animator can be paused
+	 */
+	@Override
+	boolean pauseMotion() {
+		moveAnimators[moveAnimatorIndex].pause();
+		return true;
+	}
+
+	/**
+	 * Resumes the current move animator
+	 */
+	@Override
+	void resumeMotion() {
+		moveAnimators[moveAnimatorIndex].resume();
+	}
+
+	/**
+	 * Seeks the current move animator to the given fraction, which updates the view's
+	 * translation properties at once
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @return always true, since the move animator can be sought
+	 */
+	@Override
+	boolean seekMotion(float fraction) {
+		ValueAnimator moveAnimator = moveAnimators[moveAnimatorIndex];
+		moveAnimator.setCurrentPlayTime((long) (fraction * moveAnimator.getDuration()));
+		return true;
+	}
+
+	/**
+	 * Cancels the current move animator ignoring its callbacks and changes the view's
+	 * translation properties, so that the view ends at the given offset from the
+	 * translation the move started at
+	 *
+	 * @param xAxisOffset X-axis offset to change the view position by in actual pixels
+	 * @param yAxisOffset Y-axis offset to change the view position by in actual pixels
+	 * @return external animation listener of the motion, may be {@code null}
+	 */
+	@Override
+	Animation.AnimationListener stopMotion(float xAxisOffset, float yAxisOffset) {
+		Animation.AnimationListener listener = moveAnimatorListener.animationListener;
+		moveAnimatorListener.animationListener = null;
+		ValueAnimator moveAnimator = moveAnimators[moveAnimatorIndex];
+		moveAnimatorIndex = (moveAnimatorIndex + 1) % moveAnimators.length;
+		moveAnimator.cancel();
+		getView().setTranslationX(moveAnimatorListener.startTranslationX + xAxisOffset);
+		getView().setTranslationY(moveAnimatorListener.startTranslationY + yAxisOffset);
+		return listener;
+	}
+
+	/**
+	 * Changes the position of the view by changing the view's translation properties
+	 * <p>
+	 * Is not called when the move animator completes, since the view is
+	 * already at its resulting position
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	@Override
+	void changeViewPosition(float xAxisDelta, float yAxisDelta) {
+		getView().setTranslationX(getView().getTranslationX() + xAxisDelta);
+		getView().setTranslationY(getView().getTranslationY() + yAxisDelta);
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(PropertyViewMover.class, "Updated view translation: X = {}, Y = {}",
+					getView().getTranslationX(), getView().getTranslationY());
+		}
+	}
+
+	/**
+	 * Calculates the resulting X coordinate of the view's left bound based on the
+	 * X position of the view and the X-axis delta
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return resulting X coordinate of the view's left bound
+	 */
+	@Override
+	int calculateEndLeftBound(float xAxisDelta) {
+		return (int) (getView().getX() + xAxisDelta);
+	}
+
+	/**
+	 * Calculates the resulting X coordinate of the view's right bound based on the
+	 * resulting X coordinate of the view's left bound and the view's width
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return resulting X coordinate of the view's right bound
+	 */
+	@Override
+	int calculateEndRightBound(float xAxisDelta) {
+		return calculateEndLeftBound(xAxisDelta) + getView().getWidth();
+	}
+
+	/**
+	 * Calculates the resulting Y coordinate of the view's top bound based on the
+	 * Y position of the view and the Y-axis delta
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return resulting Y coordinate of the view's top bound
+	 */
+	@Override
+	int calculateEndTopBound(float yAxisDelta) {
+		return (int) (getView().getY() + yAxisDelta);
+	}
+
+	/**
+	 * Calculates the resulting Y coordinate of the view's bottom bound based on the
+	 * resulting Y coordinate of the view's top bound and the view's height
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return resulting Y coordinate of the view's bottom bound
+	 */
+	@Override
+	int calculateEndBottomBound(float yAxisDelta) {
+		return calculateEndTopBound(yAxisDelta) + getView().getHeight();
+	}
+
+	/**
+	 * Move animator listener class
+	 * <p>
+	 * Used to update the view's translation properties on each animation frame
+	 * and to notify an external animation listener
+	 * <p>
+	 * Since no view animation is involved, an external animation listener
+	 * receives {@code null} as an animation argument
+	 */
+	private class MoveAnimatorListener extends AnimatorListenerAdapter
+			implements ValueAnimator.AnimatorUpdateListener {
+
+		/**
+		 * View's X-axis translation when the move started
+		 */
+		private float startTranslationX;
+
+		/**
+		 * View's Y-axis translation when the move started
+		 */
+		private float startTranslationY;
+
+		/**
+		 * An external animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Prepares the listener for the next move animator
+		 *
+		 * @param animationListener an external animation listener, may be {@code null}
+		 */
+		private void prepare(Animation.AnimationListener animationListener) {
+			this.animationListener = animationListener;
+		}
+
+		/**
+		 * Checks whether the move animator is the current one
+		 *
+		 * @param animator move animator
+		 * @return true if the move animator is the current one, otherwise false
+		 */
+		private boolean isCurrent(Animator animator) {
+			return animator == moveAnimators[moveAnimatorIndex];
+		}
+
+		/**
+		 * Is called on each animation frame
+		 * <p>
+		 * Updates the motion based on the animated fraction, and the view's translation
+		 * properties based on the motion offset
+		 * <p>
+		 * The move animator of the view, which is not shown, is ended at once. The view's
+		 * translation properties are not updated while the view is fully clipped by its parent
+		 * container or scrolled off-screen, except for the last frame, which leaves the view at
+		 * its resulting position
+		 *
+		 * @param animator move animator
+		 */
+		@Override
+		public void onAnimationUpdate(ValueAnimator animator) {
+			if (!isCurrent(animator)) {
+				return;
+			}
+			float fraction = animator.getAnimatedFraction();
+			updateMotion(fraction);
+			MoveMotion motion = getMotion();
+			if (fraction < 1.0f) {
+				int culling = checkCulling(motion.getX(), motion.getY());
+				if (culling == CULLING_MOVE) {
+					MoveStats.onMoveCulled();
+					animator.end();
+					return;
+				}
+				if (culling == CULLING_FRAME) {
+					MoveStats.onFrameCulled();
+					return;
+				}
+			}
+			getView().setTranslationX(startTranslationX + motion.getX());
+			getView().setTranslationY(startTranslationY + motion.getY());
+			onFrameDisplayed(motion.getX(), motion.getY());
+		}
+
+		@Override
+		public void onAnimationStart(Animator animator) {
+			if (isCurrent(animator) && animationListener != null) {
+				animationListener.onAnimationStart(null);
+			}
+		}
+
+		/**
+		 * Is called when animation completes
+		 * <p>
+		 * The external animation listener is released before being notified, since
+		 * it may start the next move, which prepares this listener again. Then the next
+		 * queued move is started if any
+		 * <p>
+		 * Ignored for the move animators cancelled due to retargeting
+		 *
+		 * @param animator move animator
+		 */
+		@Override
+		public void onAnimationEnd(Animator animator) {
+			if (!isCurrent(animator)) {
+				return;
+			}
+			Animation.AnimationListener listener = animationListener;
+			animationListener = null;
+			endMotion();
+			onViewPositionChanged(getMotion().getToX(), getMotion().getToY());
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(PropertyViewMover.class, "View moved to translation: X = {}, Y = {}",
+						getView().getTranslationX(), getView().getTranslationY());
+			}
+			if (listener != null) {
+				listener.onAnimationEnd(null);
+			}
+			onMoveCompleted();
+		}
+
+	}
+
+}
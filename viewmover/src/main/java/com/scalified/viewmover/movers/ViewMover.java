@@ -16,13 +16,29 @@
 
 package com.scalified.viewmover.movers;
 
+import android.annotation.TargetApi;
+import android.graphics.Point;
+import android.graphics.Rect;
+import android.os.Build;
 import android.view.View;
+import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.Animation;
 import android.view.animation.Interpolator;
-import android.view.animation.TranslateAnimation;
+import android.view.animation.LinearInterpolator;
+import android.view.animation.Transformation;
+import com.scalified.viewmover.configuration.EdgePolicy;
+import com.scalified.viewmover.configuration.MotionType;
+import com.scalified.viewmover.configuration.MoveTimeline;
 import com.scalified.viewmover.configuration.MovingParams;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.scalified.viewmover.configuration.QueueOverflowPolicy;
+import com.scalified.viewmover.core.FrameTiming;
+import com.scalified.viewmover.core.KeyframeTrack;
+import com.scalified.viewmover.core.MoveBounds;
+import com.scalified.viewmover.core.MoveMotion;
+import com.scalified.viewmover.core.MovePath;
+import com.scalified.viewmover.core.PhysicsMotion;
+import com.scalified.viewmover.interpolation.SampledInterpolator;
+import com.scalified.viewmover.tracing.Tracing;
 
 /**
  * Abstract class, which contains the base view movement logic
@@ -36,15 +52,290 @@ import org.slf4j.LoggerFactory;
 public abstract class ViewMover {
 
 	/**
-	 * Logger
+	 * Move state, in which the view is not being moved
 	 */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ViewMover.class);
+	public static final int MOVE_STATE_IDLE = 0;
+
+	/**
+	 * Move state, in which the view is being moved by the tween motion, along the path
+	 * or through the keyframes, or is being dragged
+	 */
+	public static final int MOVE_STATE_MOVING = 1;
+
+	/**
+	 * Move state, in which the view is being moved by the spring or fling motion until
+	 * it comes to rest
+	 */
+	public static final int MOVE_STATE_SETTLING = 2;
+
+	/**
+	 * Move state, in which the view is not being moved, since the last move was cancelled
+	 */
+	public static final int MOVE_STATE_CANCELLED = 3;
+
+	/**
+	 * Move animation interpolator, which is used by default
+	 * <p>
+	 * The same curve as the one {@link android.view.animation.Animation} uses when
+	 * no interpolator is set, sampled so that no trigonometry is evaluated per frame
+	 */
+	static final Interpolator DEFAULT_INTERPOLATOR = SampledInterpolator.of(new AccelerateDecelerateInterpolator());
+
+	/**
+	 * Linear interpolator, which is set to the move animation, since the move interpolator
+	 * is applied by {@link #updateMotion(float)}
+	 */
+	static final Interpolator LINEAR_INTERPOLATOR = new LinearInterpolator();
+
+	/**
+	 * Culling result, which means the view is visible and its frame is to be updated
+	 */
+	static final int CULLING_NONE = 0;
+
+	/**
+	 * Culling result, which means the parent container of the view is fully clipped or
+	 * off-screen, so that the frame update of the view is to be skipped
+	 */
+	static final int CULLING_FRAME = 1;
+
+	/**
+	 * Culling result, which means the view is detached or not shown, so that the move
+	 * is to be completed at once
+	 */
+	static final int CULLING_MOVE = 2;
 
 	/**
 	 * {@link android.view.View}, which is to be moved
 	 */
 	private final View view;
 
+	/**
+	 * Motion of the current move, which is reused for all moves of the view
+	 */
+	private final MoveMotion motion = new MoveMotion();
+
+	/**
+	 * Interpolator of the current move
+	 */
+	private Interpolator motionInterpolator = DEFAULT_INTERPOLATOR;
+
+	/**
+	 * Move timeline of the current move, which provides the keyframe interpolators
+	 * while the motion follows its keyframe track
+	 */
+	private MoveTimeline motionTimeline;
+
+	/**
+	 * Move animation, which is reused for all moves of the view
+	 */
+	private final MoveAnimation moveAnimation = new MoveAnimation(this);
+
+	/**
+	 * Move animation listener, which is reused for all moves of the view
+	 */
+	private final MoveAnimationListener moveAnimationListener = new MoveAnimationListener();
+
+	/**
+	 * Frame listener, which drives the motion of the frame driven move
+	 */
+	private final TweenFrameListener tweenFrameListener = new TweenFrameListener();
+
+	/**
+	 * Whether the moves are driven by display frames rather than by the view animation
+	 */
+	private boolean frameSchedulingEnabled;
+
+	/**
+	 * Current move state
+	 */
+	private int moveState = MOVE_STATE_IDLE;
+
+	/**
+	 * Whether the view is being currently moved by the {@link ViewMoverGroup} or dragged
+	 * rather than by the motion of this mover
+	 */
+	private boolean externalMoveInProgress;
+
+	/**
+	 * Whether the current move settles the view after the drag
+	 */
+	private boolean dragSettling;
+
+	/**
+	 * Whether the current tween motion is driven by display frames
+	 */
+	private boolean motionFrameDriven;
+
+	/**
+	 * Whether the current move is paused
+	 */
+	private boolean movePaused;
+
+	/**
+	 * Linear fraction the current tween motion was last updated with
+	 */
+	private float motionFraction;
+
+	/**
+	 * Duration of the current tween motion in ms
+	 */
+	private long motionDuration;
+
+	/**
+	 * External animation listener of the current tween motion, may be {@code null}
+	 */
+	private Animation.AnimationListener motionAnimationListener;
+
+	/**
+	 * Move handle, which controls the current move
+	 */
+	private final MoveHandle moveHandle = new MoveHandle(this);
+
+	/**
+	 * Whether the moves of the view, which is not visible, are culled
+	 */
+	private boolean cullingEnabled = true;
+
+	/**
+	 * Rectangle, which is reused to hold the view's bounds when checking whether the view is visible
+	 */
+	private final Rect cullingRect = new Rect();
+
+	/**
+	 * Rectangle, which is reused to hold the visible part of the parent container when checking
+	 * whether the view is visible
+	 */
+	private final Rect cullingClipRect = new Rect();
+
+	/**
+	 * Point, which is reused to hold the global offset of the parent container when checking
+	 * whether the view is visible
+	 */
+	private final Point cullingOffset = new Point();
+
+	/**
+	 * X-axis offset of the current move, by which the view is visually moved on the last
+	 * updated display frame
+	 */
+	private float displayedOffsetX;
+
+	/**
+	 * Y-axis offset of the current move, by which the view is visually moved on the last
+	 * updated display frame
+	 */
+	private float displayedOffsetY;
+
+	/**
+	 * Physics motion of the current spring or fling move, which is reused for all moves of the view
+	 */
+	private final PhysicsMotion physicsMotion = new PhysicsMotion();
+
+	/**
+	 * Frame listener, which drives the physics motion
+	 */
+	private final PhysicsFrameListener physicsFrameListener = new PhysicsFrameListener();
+
+	/**
+	 * Queue of the moves requested while the view is being moved or {@code null}
+	 * if such moves are dropped
+	 */
+	private MoveQueue moveQueue;
+
+	/**
+	 * Whether the moves requested while the view is being moved retarget the current move
+	 */
+	private boolean retargetingEnabled;
+
+	/**
+	 * Drag tracker of the view or {@code null} if the view can't be dragged
+	 */
+	private DragTracker dragTracker;
+
+	/**
+	 * Bounds snapshot, which contains the movable range of the view relative to
+	 * its current position
+	 */
+	private final MoveBounds bounds = new MoveBounds();
+
+	/**
+	 * Whether the bounds snapshot is up to date
+	 */
+	private boolean boundsValid;
+
+	/**
+	 * Parent container, which layout changes are listened to invalidate the bounds
+	 * snapshot, or {@code null} if none are listened yet
+	 */
+	private View observedParentView;
+
+	/**
+	 * Layout change listener, which invalidates the bounds snapshot, and attach state change
+	 * listener, which stops listening to the layout changes once the view is detached
+	 * <p>
+	 * Used for {@code TargetApi} {@link android.os.Build.VERSION_CODES#HONEYCOMB_MR1} and higher
+	 */
+	private final BoundsInvalidator boundsInvalidator = new BoundsInvalidator();
+
+	/**
+	 * Policy, which is applied when the move delta would take the view out of its
+	 * parent container
+	 */
+	private EdgePolicy edgePolicy = EdgePolicy.CANCEL_AXIS;
+
+	/**
+	 * Whether the view is promoted to the hardware layer while being moved
+	 */
+	private boolean layerPromotionEnabled;
+
+	/**
+	 * Whether the view is promoted to the hardware layer by this mover
+	 */
+	private boolean layerPromoted;
+
+	/**
+	 * Submission, which collects the moves submitted from any thread
+	 */
+	private final MoveSubmission submission = new MoveSubmission(this);
+
+	/**
+	 * Params of the submitted moves or {@code null} if not created yet
+	 */
+	private MovingParams submissionParams;
+
+	/**
+	 * Verified X-axis delta of the current move in actual pixels
+	 */
+	private float verifiedXAxisDelta;
+
+	/**
+	 * Verified Y-axis delta of the current move in actual pixels
+	 */
+	private float verifiedYAxisDelta;
+
+	/**
+	 * View's X-axis translation when the frame driven move started
+	 */
+	private float frameBaseTranslationX;
+
+	/**
+	 * View's Y-axis translation when the frame driven move started
+	 */
+	private float frameBaseTranslationY;
+
+	/**
+	 * X-axis offset in actual pixels, which is currently applied by the frame driven move
+	 * <p>
+	 * Used for {@code TargetApi} lower than {@link android.os.Build.VERSION_CODES#HONEYCOMB}
+	 */
+	private int frameOffsetX;
+
+	/**
+	 * Y-axis offset in actual pixels, which is currently applied by the frame driven move
+	 * <p>
+	 * Used for {@code TargetApi} lower than {@link android.os.Build.VERSION_CODES#HONEYCOMB}
+	 */
+	private int frameOffsetY;
+
 	/**
 	 * Overrides default constructor
 	 *
@@ -52,6 +343,8 @@ public abstract class ViewMover {
 	 */
 	ViewMover(View view) {
 		this.view = view;
+		moveAnimation.setInterpolator(LINEAR_INTERPOLATOR);
+		moveAnimation.setAnimationListener(moveAnimationListener);
 	}
 
 	/**
@@ -108,6 +401,25 @@ public abstract class ViewMover {
 	 */
 	abstract void changeViewPosition(float xAxisDelta, float yAxisDelta);
 
+	/**
+	 * Is called when a move, which is a part of a batch move, completes
+	 * <p>
+	 * Used to change the view position within its parent container without requesting
+	 * a layout, so that a single layout is requested for all the views moved in a batch
+	 * <p>
+	 * By default calls {@link #changeViewPosition(float, float)}. Subclasses, which
+	 * request a layout to change the view position, must override this method
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return true if a layout of the parent container must be requested to apply
+	 *         the changed view position, otherwise false
+	 */
+	boolean changeViewPositionWithoutLayout(float xAxisDelta, float yAxisDelta) {
+		changeViewPosition(xAxisDelta, yAxisDelta);
+		return false;
+	}
+
 	/**
 	 * Returns the view, which is to be moved
 	 *
@@ -117,6 +429,38 @@ public abstract class ViewMover {
 		return view;
 	}
 
+	/**
+	 * Returns the motion of the current move
+	 *
+	 * @return motion of the current move
+	 */
+	MoveMotion getMotion() {
+		return motion;
+	}
+
+	/**
+	 * Updates the motion of the current move, applying the interpolator of the current move
+	 * to the linear fraction of its duration
+	 * <p>
+	 * If the motion follows the keyframe track, the interpolator of the keyframe in progress
+	 * is applied to the fraction of the keyframe duration instead
+	 *
+	 * @param fraction linear fraction of the move duration from {@code 0} to {@code 1}
+	 */
+	void updateMotion(float fraction) {
+		if (motion.hasKeyframes()) {
+			float keyframeFraction = motion.findKeyframe(fraction);
+			Interpolator interpolator = motionTimeline.getInterpolator(motion.getKeyframe());
+			if (interpolator == null) {
+				interpolator = DEFAULT_INTERPOLATOR;
+			}
+			motion.updateKeyframe(fraction, interpolator.getInterpolation(keyframeFraction));
+		} else {
+			motion.update(fraction, motionInterpolator.getInterpolation(fraction));
+		}
+		motionFraction = fraction;
+	}
+
 	/**
 	 * Returns the parent container of the view, which is to be moved
 	 *
@@ -128,193 +472,1586 @@ public abstract class ViewMover {
 
 	/**
 	 * Moves the view based on the {@link MovingParams}
+	 * <p>
+	 * Once the mover is warmed up no objects are allocated while moving:
+	 * the move animation, the motions and the listeners are reused and the
+	 * verified deltas are kept in primitive fields
 	 *
 	 * @param params params of the move action
+	 * @see #getMoveHandle()
 	 */
 	public void move(MovingParams params) {
-		if (isPreviousAnimationCompleted()) {
-			MovingParams verifiedParams = getVerifiedMovingParams(params);
-			if (isMoveNonZero(verifiedParams)) {
-				final Animation moveAnimation = createAnimation(verifiedParams);
-				LOGGER.trace("View is about to be moved at: delta X-axis = {}, delta Y-axis = {}",
-						verifiedParams.getXAxisDelta(), verifiedParams.getYAxisDelta());
-				view.startAnimation(moveAnimation);
-			}
-		}
+		requestMove(params.getXAxisDelta(), params.getYAxisDelta(), params);
 	}
 
 	/**
-	 * Checks whether previous animation on the view completed
+	 * Moves the view, so that its left and top bounds end up at the given coordinates
+	 * within its parent container
+	 * <p>
+	 * The deltas are calculated from the logical position (see {@link #getLogicalPosition(LogicalPosition)}),
+	 * so that the absolute moves requested in a burst resolve against the targets of the
+	 * moves requested before them, without reading the view properties. The deltas of the
+	 * moving params are ignored, and the path, if set, is replaced with the straight line.
+	 * Otherwise the move is performed the same way as {@link #move(MovingParams)} does
+	 * <p>
+	 * If the move is queued, the target rather than the deltas is queued, and the deltas are
+	 * calculated when the move is dequeued, so that the view ends up at the target even if
+	 * the moves queued before it are coalesced, replaced or dropped by the overflow policy
 	 *
-	 * @return true if previous animation on the view completed, otherwise false
+	 * @param x X coordinate of the view's left bound to end at in actual pixels
+	 * @param y Y coordinate of the view's top bound to end at in actual pixels
+	 * @param params params of the move action
+	 * @see #getMoveHandle()
 	 */
-	boolean isPreviousAnimationCompleted() {
-		Animation previousAnimation = view.getAnimation();
-		boolean previousAnimationCompleted = previousAnimation == null || previousAnimation.hasEnded();
-		if (!previousAnimationCompleted) {
-			LOGGER.warn("Unable to move the view. View is being currently moving");
+	public void moveTo(float x, float y, MovingParams params) {
+		if (isMoveInProgress() && (!retargetingEnabled || isRetargetingBlocked()) && moveQueue != null) {
+			moveQueue.offerTarget(x, y, params);
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "View is being currently moving. Move to target queued, " +
+						"queue size = {}", moveQueue.size());
+			}
+			return;
 		}
-		return previousAnimationCompleted;
+		MoveBounds bounds = getBounds();
+		requestMove(x + bounds.getMinXAxisDelta() - getPendingXAxisDelta(),
+				y + bounds.getMinYAxisDelta() - getPendingYAxisDelta(), params);
 	}
 
 	/**
-	 * Checks whether both X-axis and Y-axis delta of the moving details are not {@code zero}
+	 * Returns the logical position of the view within its parent container
+	 * <p>
+	 * The logical position is the position the view ends up at once the current move and
+	 * all the queued moves complete, assuming the queued deltas are not reduced by the
+	 * verification. It is calculated from the bounds snapshot and the move targets kept
+	 * by this mover, so that neither the view properties are read nor a layout is
+	 * performed, and it is valid while the view is being moved. Dragging and the moves
+	 * performed by {@link ViewMoverGroup} are reflected once they complete
 	 *
-	 * @param details moving details, which needs to be checked
-	 * @return true, if any of the X-axis or Y-axis delta of the moving details are {@code zero},
-	 *         otherwise false
+	 * @param position position to fill
+	 * @return the given position filled with the logical position of the view
 	 */
-	boolean isMoveNonZero(MovingParams details) {
-		boolean moveNonZero = details.getXAxisDelta() != 0.0f
-				|| details.getYAxisDelta() != 0.0f;
-		if (!moveNonZero) {
-			LOGGER.warn("Zero movement detected. No movement will be performed");
-		}
-		return moveNonZero;
+	public LogicalPosition getLogicalPosition(LogicalPosition position) {
+		MoveBounds bounds = getBounds();
+		position.set(getPendingXAxisDelta() - bounds.getMinXAxisDelta(),
+				getPendingYAxisDelta() - bounds.getMinYAxisDelta());
+		return position;
 	}
 
 	/**
-	 * Creates an updated copy of the {@link MovingParams}
-	 * with X-axis and Y-axis deltas updated based on calculations returned from
-	 * {@link #updateXAxisDelta(MovingParams)} and
-	 * {@link #updateYAxisDelta(MovingParams)}
+	 * Returns the logical position of the view within its parent container
 	 *
-	 * @param params moving params, which needs to be updated
+	 * @return logical position of the view
+	 * @see #getLogicalPosition(LogicalPosition)
 	 */
-	private MovingParams getVerifiedMovingParams(final MovingParams params) {
-		MovingParams mParams = new MovingParams(params);
-		updateXAxisDelta(mParams);
-		updateYAxisDelta(mParams);
-		LOGGER.trace("Updated moving details values: X-axis from {} to {}, Y-axis from {} to {}",
-				params.getXAxisDelta(), mParams.getXAxisDelta(), params.getYAxisDelta(), mParams.getYAxisDelta());
-		return mParams;
+	public LogicalPosition getLogicalPosition() {
+		return getLogicalPosition(new LogicalPosition());
 	}
 
 	/**
-	 * Updates the X-axis delta in moving details based on checking whether
-	 * there is enough space left to move the view horizontally
+	 * Submits the move of the view at the given deltas
+	 * <p>
+	 * Unlike {@link #move(MovingParams)}, may be called from any thread. The submission
+	 * never blocks and allocates nothing on the main thread. The moves submitted between two display frames
+	 * are coalesced: their deltas are summed and applied on the main thread by a single
+	 * move on the next frame, which is performed with the submission params (see
+	 * {@link #setSubmissionParams(MovingParams)}) the same way as {@link #move(MovingParams)} does
+	 * <p>
+	 * Since the submitted moves usually arrive while the view is being moved, enabling
+	 * retargeting (see {@link #setRetargetingEnabled(boolean)}) is recommended
 	 *
-	 * @param details moving details, which X-axis delta needs to be updated in
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
 	 */
-	private void updateXAxisDelta(MovingParams details) {
-		if (!hasHorizontalSpaceToMove(details.getXAxisDelta())) {
-			LOGGER.warn("Unable to move the view horizontally. No horizontal space left to move");
-			details.setXAxisDelta(0.0f);
-		}
+	public void submitMove(float xAxisDelta, float yAxisDelta) {
+		submission.submitDeltas(xAxisDelta, yAxisDelta);
 	}
 
 	/**
-	 * Updates the Y-axis delta in moving details based on checking whether
-	 * there is enough space left to move the view vertically
+	 * Submits the move of the view, so that its left and top bounds end up at the given
+	 * coordinates within its parent container
+	 * <p>
+	 * May be called from any thread. The last target submitted before the next display
+	 * frame replaces the previous ones and discards the deltas submitted before it, and
+	 * is applied on the main thread the same way as {@link #moveTo(float, float, MovingParams)}
+	 * does. The deltas submitted after it are added to the target
 	 *
-	 * @param details moving details, which Y-axis delta needs to be updated in
+	 * @param x X coordinate of the view's left bound to end at in actual pixels
+	 * @param y Y coordinate of the view's top bound to end at in actual pixels
+	 * @throws IllegalArgumentException if any of the coordinates is {@code NaN}
+	 * @see #submitMove(float, float)
 	 */
-	private void updateYAxisDelta(MovingParams details) {
-		if (!hasVerticalSpaceToMove(details.getYAxisDelta())) {
-			LOGGER.warn("Unable to move the view vertically. No vertical space left to move");
-			details.setYAxisDelta(0.0f);
+	public void submitMoveTo(float x, float y) {
+		if (Float.isNaN(x) || Float.isNaN(y)) {
+			throw new IllegalArgumentException("Target coordinates must not be NaN");
 		}
+		submission.submitTarget(x, y);
 	}
 
 	/**
-	 * Checks whether there is enough space left to move the view horizontally within
-	 * its parent container
+	 * Sets the params of the submitted moves
 	 * <p>
-	 * Calls {@link #calculateEndLeftBound(float)} and {@link #calculateEndRightBound(float)}
-	 * to calculate the resulting X coordinate of the view's left and right bounds
+	 * The deltas of the params are ignored. By default the tween motion with the default
+	 * duration and interpolator is used
 	 *
-	 * @param xAxisDelta X-axis delta in actual pixels
-	 * @return true if there is enough space to move the view horizontally, otherwise false
+	 * @param submissionParams params of the submitted moves
+	 * @see #submitMove(float, float)
 	 */
-	private boolean hasHorizontalSpaceToMove(float xAxisDelta) {
-		int parentWidth = getParentView().getWidth();
-		LOGGER.trace("Parent view width is: {}", parentWidth);
-		int endLeftBound = calculateEndLeftBound(xAxisDelta);
-		int endRightBound = calculateEndRightBound(xAxisDelta);
-		LOGGER.trace("Calculated end bounds: left = {}, right = {}", endLeftBound, endRightBound);
-		return endLeftBound >= 0 && endRightBound <= parentWidth;
+	public void setSubmissionParams(MovingParams submissionParams) {
+		this.submissionParams = submissionParams;
 	}
 
 	/**
-	 * Checks whether there is enough space left to move the view vertically within
-	 * its parent container
-	 * <p>
-	 * Calls {@link #calculateEndTopBound(float)} and {@link #calculateEndBottomBound(float)}
-	 * to calculate the resulting Y coordinate of the view's top and bottom bounds
+	 * Is called on the main thread to apply the moves submitted since the previous display frame
 	 *
-	 * @param yAxisDelta Y-axis delta in actual pixels
-	 * @return true if there is enough space to move the view vertically, otherwise false
+	 * @param hasTarget true if the target is submitted, otherwise false
+	 * @param x submitted X coordinate of the view's left bound in actual pixels
+	 * @param y submitted Y coordinate of the view's top bound in actual pixels
+	 * @param xAxisDelta sum of the X-axis deltas submitted after the target in actual pixels
+	 * @param yAxisDelta sum of the Y-axis deltas submitted after the target in actual pixels
 	 */
-	private boolean hasVerticalSpaceToMove(float yAxisDelta) {
-		int parentHeight = getParentView().getHeight();
-		LOGGER.trace("Parent view height is: {}", parentHeight);
-		int endTopBound = calculateEndTopBound(yAxisDelta);
-		int endBottomBound = calculateEndBottomBound(yAxisDelta);
-		LOGGER.trace("Calculated end bounds: top = {}, bottom = {}", endTopBound, endBottomBound);
-		return endTopBound >= 0 && endBottomBound <= parentHeight;
+	void applySubmittedMove(boolean hasTarget, float x, float y, float xAxisDelta, float yAxisDelta) {
+		if (submissionParams == null) {
+			submissionParams = new MovingParams.Builder().build();
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Applying submitted move: target = {}, X = {}, Y = {}, " +
+					"delta X-axis = {}, delta Y-axis = {}", hasTarget, x, y, xAxisDelta, yAxisDelta);
+		}
+		if (hasTarget) {
+			moveTo(x + xAxisDelta, y + yAxisDelta, submissionParams);
+		} else if (xAxisDelta != 0.0f || yAxisDelta != 0.0f) {
+			requestMove(xAxisDelta, yAxisDelta, submissionParams);
+		}
 	}
 
 	/**
-	 * Creates the moving animation
-	 * <p>
-	 * Configures the moving animation based on moving params
+	 * Returns the X-axis delta the view is still to be moved at by the current and the queued moves
 	 *
-	 * @param params params, which is used to configure the moving animation
-	 * @return moving animation
+	 * @return pending X-axis delta in actual pixels
 	 */
-	private Animation createAnimation(MovingParams params) {
-		Animation animation = new TranslateAnimation(0, params.getXAxisDelta(), 0, params.getYAxisDelta());
-		animation.setFillEnabled(true);
-		animation.setFillBefore(false);
-		animation.setDuration(params.getAnimationDuration());
-		Interpolator interpolator = params.getAnimationInterpolator();
-		if (interpolator != null) {
-			animation.setInterpolator(interpolator);
+	private float getPendingXAxisDelta() {
+		if (moveQueue == null) {
+			return getCurrentXAxisTarget();
+		}
+		int target = moveQueue.findLastTarget();
+		if (target >= 0) {
+			return moveQueue.getTargetX(target) + getBounds().getMinXAxisDelta()
+					+ moveQueue.sumXAxisDeltas(target + 1);
 		}
-		animation.setAnimationListener(new MoveAnimationListener(params));
-		return animation;
+		return getCurrentXAxisTarget() + moveQueue.sumXAxisDeltas(0);
 	}
 
 	/**
-	 * Move animation listener class
-	 * <p>
-	 * Used to listen the animation and call the {@link #changeViewPosition(float, float)}
-	 * when animation completes
+	 * Returns the X-axis delta the view is still to be moved at by the current move
+	 *
+	 * @return X-axis delta of the current move target in actual pixels
 	 */
-	private class MoveAnimationListener implements Animation.AnimationListener {
-
-		/**
-		 * Moving parameters
-		 */
-		private final MovingParams params;
-
-		/**
-		 * An external animation listener
-		 */
-		private final Animation.AnimationListener animationListener;
+	private float getCurrentXAxisTarget() {
+		if (moveState == MOVE_STATE_SETTLING) {
+			return physicsMotion.getTargetX();
+		} else if (moveState == MOVE_STATE_MOVING) {
+			return motion.getToX();
+		}
+		return 0.0f;
+	}
 
-		/**
-		 * Creates an instance of the
-		 * {@link com.scalified.viewmover.movers.ViewMover.MoveAnimationListener}
-		 *
-		 * @param params moving params
-		 */
-		private MoveAnimationListener(MovingParams params) {
-			this.params = params;
-			this.animationListener = params.getAnimationListener();
+	/**
+	 * Returns the Y-axis delta the view is still to be moved at by the current and the queued moves
+	 *
+	 * @return pending Y-axis delta in actual pixels
+	 */
+	private float getPendingYAxisDelta() {
+		if (moveQueue == null) {
+			return getCurrentYAxisTarget();
 		}
+		int target = moveQueue.findLastTarget();
+		if (target >= 0) {
+			return moveQueue.getTargetY(target) + getBounds().getMinYAxisDelta()
+					+ moveQueue.sumYAxisDeltas(target + 1);
+		}
+		return getCurrentYAxisTarget() + moveQueue.sumYAxisDeltas(0);
+	}
 
-		@Override
-		public void onAnimationStart(Animation animation) {
-			if (animationListener != null) {
-				animationListener.onAnimationStart(animation);
-			}
+	/**
+	 * Returns the Y-axis delta the view is still to be moved at by the current move
+	 *
+	 * @return Y-axis delta of the current move target in actual pixels
+	 */
+	private float getCurrentYAxisTarget() {
+		if (moveState == MOVE_STATE_SETTLING) {
+			return physicsMotion.getTargetY();
+		} else if (moveState == MOVE_STATE_MOVING) {
+			return motion.getToY();
 		}
+		return 0.0f;
+	}
 
-		@Override
-		public void onAnimationRepeat(Animation animation) {
-			if (animationListener != null) {
-				animationListener.onAnimationRepeat(animation);
+	/**
+	 * Moves the view at the given deltas, retargeting the current move or queueing
+	 * the move if enabled and the view is being currently moved
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param params params of the move action
+	 */
+	private void requestMove(float xAxisDelta, float yAxisDelta, MovingParams params) {
+		if (isMoveInProgress() && retargetingEnabled && !isRetargetingBlocked()) {
+			retargetMove(xAxisDelta, yAxisDelta, params.getAnimationDuration(), getInterpolator(params),
+					params.getAnimationListener());
+		} else if (isMoveInProgress() && moveQueue != null) {
+			moveQueue.offer(xAxisDelta, yAxisDelta, params);
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "View is being currently moving. Move queued, queue size = {}",
+						moveQueue.size());
+			}
+		} else if (isPreviousAnimationCompleted()) {
+			move(xAxisDelta, yAxisDelta, params);
+		}
+	}
+
+	/**
+	 * Moves the view through the keyframes of the move timeline by a single move
+	 * <p>
+	 * The offsets of all the keyframes are verified at once, and the move is rejected if
+	 * any keyframe would move the view out of its parent container, regardless of the edge
+	 * policy. The view position is changed once when the last keyframe ends
+	 * <p>
+	 * The move timeline is neither queued nor retargets the current move. It is dropped if
+	 * the view is being currently moved. A move, which retargets the move timeline,
+	 * follows the straight line
+	 *
+	 * @param timeline move timeline
+	 * @see #getMoveHandle()
+	 */
+	public void move(MoveTimeline timeline) {
+		if (!isPreviousAnimationCompleted()) {
+			return;
+		}
+		KeyframeTrack track = timeline.getTrack();
+		if (!getBounds().contains(track)) {
+			Tracing.warn(ViewMover.class, "Unable to move the view through the keyframes. Keyframes leave " +
+					"the parent container");
+			return;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "View is about to be moved through {} keyframes during {} ms to: X = {}, " +
+					"Y = {}", track.getKeyframeCount(), track.getDuration(), track.getEndX(), track.getEndY());
+		}
+		promoteLayer();
+		motion.start(track);
+		motionTimeline = timeline;
+		beginMotion(track.getDuration(), timeline.getAnimationListener());
+	}
+
+	/**
+	 * Moves the view at the given deltas according to the motion type of the moving params
+	 * <p>
+	 * The view is moved along the path of the moving params, unless the deltas don't match
+	 * its end, which happens when the queued path move is coalesced with other moves.
+	 * Such a move follows the straight line
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param params params of the move action
+	 * @return true if the move started, otherwise false
+	 */
+	private boolean move(float xAxisDelta, float yAxisDelta, MovingParams params) {
+		switch (params.getMotionType()) {
+			case SPRING:
+			case FLING:
+				verifyDeltas(xAxisDelta, yAxisDelta);
+				if (isMoveNonZero(verifiedXAxisDelta, verifiedYAxisDelta)) {
+					startPhysicsMove(verifiedXAxisDelta, verifiedYAxisDelta, params);
+					return true;
+				}
+				return false;
+			default:
+				MovePath path = params.getPath();
+				if (path != null && path.getEndX() == xAxisDelta && path.getEndY() == yAxisDelta) {
+					return movePath(path, params);
+				}
+				return move(xAxisDelta, yAxisDelta, params.getAnimationDuration(), getInterpolator(params),
+						params.getAnimationListener());
+		}
+	}
+
+	/**
+	 * Moves the view along the path
+	 * <p>
+	 * The whole path's bounding box is verified rather than its end, so the move is
+	 * rejected if the view would leave its parent container at any point along the path,
+	 * regardless of the edge policy
+	 *
+	 * @param path path to move the view along
+	 * @param params params of the move action
+	 * @return true if the move started, otherwise false
+	 */
+	private boolean movePath(MovePath path, MovingParams params) {
+		if (!getBounds().contains(path)) {
+			Tracing.warn(ViewMover.class, "Unable to move the view along the path. Path leaves the parent container");
+			return false;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "View is about to be moved along the path of length {} to: X = {}, Y = {}",
+					path.getLength(), path.getEndX(), path.getEndY());
+		}
+		promoteLayer();
+		motion.start(path, params.getAnimationDuration());
+		motionInterpolator = getInterpolator(params);
+		beginMotion(params.getAnimationDuration(), params.getAnimationListener());
+		return true;
+	}
+
+	/**
+	 * Moves the view at the given deltas
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param duration move animation duration in ms
+	 * @param interpolator move animation interpolator
+	 * @param animationListener move animation listener, may be {@code null}
+	 * @return true if the move started, otherwise false
+	 */
+	boolean move(float xAxisDelta, float yAxisDelta, long duration, Interpolator interpolator,
+	             Animation.AnimationListener animationListener) {
+		verifyDeltas(xAxisDelta, yAxisDelta);
+		if (isMoveNonZero(verifiedXAxisDelta, verifiedYAxisDelta)) {
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "View is about to be moved at: delta X-axis = {}, delta Y-axis = {}",
+						verifiedXAxisDelta, verifiedYAxisDelta);
+			}
+			startMove(verifiedXAxisDelta, verifiedYAxisDelta, duration, interpolator, animationListener);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Retargets the current move, so that the view ends at the current move target
+	 * shifted by the given deltas
+	 * <p>
+	 * The retargeted move starts from the view's current offset keeping its current
+	 * velocity. The shifted target is verified per axis: if there is no space left to
+	 * move the view along an axis, the current target along that axis is kept
+	 * <p>
+	 * The spring or fling move keeps its motion type, so the duration and the interpolator
+	 * are not used for it
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param duration move animation duration in ms
+	 * @param interpolator move animation interpolator
+	 * @param animationListener move animation listener, may be {@code null}
+	 */
+	private void retargetMove(float xAxisDelta, float yAxisDelta, long duration, Interpolator interpolator,
+	                          Animation.AnimationListener animationListener) {
+		if (movePaused) {
+			resumeMove();
+		}
+		boolean settling = moveState == MOVE_STATE_SETTLING;
+		float currentTargetX = settling ? physicsMotion.getTargetX() : motion.getToX();
+		float currentTargetY = settling ? physicsMotion.getTargetY() : motion.getToY();
+		float targetX = currentTargetX + xAxisDelta;
+		float targetY = currentTargetY + yAxisDelta;
+		verifyDeltas(targetX, targetY);
+		if (verifiedXAxisDelta == 0.0f && targetX != 0.0f) {
+			verifiedXAxisDelta = currentTargetX;
+		}
+		if (verifiedYAxisDelta == 0.0f && targetY != 0.0f) {
+			verifiedYAxisDelta = currentTargetY;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Move retargeted from target: X = {}, Y = {} to: X = {}, Y = {}",
+					currentTargetX, currentTargetY, verifiedXAxisDelta, verifiedYAxisDelta);
+		}
+		if (settling) {
+			physicsMotion.retarget(verifiedXAxisDelta, verifiedYAxisDelta);
+			physicsFrameListener.animationListener = animationListener;
+		} else {
+			motion.retarget(verifiedXAxisDelta, verifiedYAxisDelta, duration);
+			motionInterpolator = interpolator;
+			beginMotion(duration, animationListener);
+		}
+	}
+
+	/**
+	 * Starts the spring or fling move once the deltas are verified
+	 * <p>
+	 * The physics motion is driven by display frames, and the view position is changed
+	 * by calling {@link #changeViewPosition(float, float)} once the view comes to rest
+	 *
+	 * @param xAxisDelta verified X-axis delta in actual pixels
+	 * @param yAxisDelta verified Y-axis delta in actual pixels
+	 * @param params params of the move action
+	 */
+	private void startPhysicsMove(float xAxisDelta, float yAxisDelta, MovingParams params) {
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "View is about to be moved by {} motion at: delta X-axis = {}, " +
+					"delta Y-axis = {}", params.getMotionType(), xAxisDelta, yAxisDelta);
+		}
+		if (params.getMotionType() == MotionType.SPRING) {
+			physicsMotion.startSpring(xAxisDelta, yAxisDelta, params.getSpringStiffness(),
+					params.getSpringDampingRatio());
+		} else {
+			physicsMotion.startFling(xAxisDelta, yAxisDelta, params.getFlingFriction());
+		}
+		promoteLayer();
+		moveState = MOVE_STATE_SETTLING;
+		physicsFrameListener.start(params.getAnimationListener());
+		beginFrameMove();
+		FrameScheduler.getInstance().addFrameListener(physicsFrameListener);
+	}
+
+	/**
+	 * Is called when the physics motion comes to rest
+	 * <p>
+	 * Changes the view position, notifies the external animation listener and starts
+	 * the next queued move if any
+	 */
+	private void completePhysicsMove() {
+		Animation.AnimationListener listener = physicsFrameListener.animationListener;
+		physicsFrameListener.animationListener = null;
+		endMotion();
+		endFrameMove();
+		changeViewPosition(physicsMotion.getTargetX(), physicsMotion.getTargetY());
+		onViewPositionChanged(physicsMotion.getTargetX(), physicsMotion.getTargetY());
+		if (listener != null) {
+			listener.onAnimationEnd(null);
+		}
+		onMoveCompleted();
+	}
+
+	/**
+	 * Is called when the frame driven move reaches its duration
+	 * <p>
+	 * Changes the view position, notifies the external animation listener and starts
+	 * the next queued move if any
+	 */
+	private void completeTweenFrameMove() {
+		Animation.AnimationListener listener = tweenFrameListener.animationListener;
+		tweenFrameListener.animationListener = null;
+		endMotion();
+		endFrameMove();
+		changeViewPosition(motion.getToX(), motion.getToY());
+		onViewPositionChanged(motion.getToX(), motion.getToY());
+		if (listener != null) {
+			listener.onAnimationEnd(null);
+		}
+		onMoveCompleted();
+	}
+
+	/**
+	 * Enables or disables retargeting of the current move by the moves requested while
+	 * the view is being moved
+	 * <p>
+	 * Once enabled, such a move doesn't restart the current one, but changes its target
+	 * by the move deltas and continues from the view's current offset and velocity.
+	 * The spring or fling move carries its momentum towards the new target.
+	 * Animation listener of the retargeted move is replaced with the one of the requested
+	 * move. Takes precedence over the move queue
+	 *
+	 * @param retargetingEnabled true to enable retargeting, otherwise false
+	 */
+	public void setRetargetingEnabled(boolean retargetingEnabled) {
+		this.retargetingEnabled = retargetingEnabled;
+	}
+
+	/**
+	 * Enables dragging of the view
+	 * <p>
+	 * Once enabled, the view follows the finger within its parent container. The view is
+	 * visually moved at most once per display frame, and its position is changed once
+	 * the finger is released. If the finger is released fast enough, the view then settles
+	 * with the release velocity
+	 * <p>
+	 * Replaces the view's {@link android.view.View.OnTouchListener}. The view can't be
+	 * dragged while it is being moved
+	 * <p>
+	 * While the view is dragged and settles, the move state is {@link #MOVE_STATE_MOVING}.
+	 * The moves requested meanwhile are queued if queueing is enabled (see
+	 * {@link #enableMoveQueue(int, QueueOverflowPolicy)}) and start once the settle
+	 * completes, otherwise they are dropped. Neither of them retargets the settle
+	 */
+	public void enableDragging() {
+		enableDragging(null);
+	}
+
+	/**
+	 * Enables dragging of the view
+	 *
+	 * @param settleListener animation listener of the settle move, which follows the drag
+	 * @see #enableDragging()
+	 */
+	public void enableDragging(Animation.AnimationListener settleListener) {
+		disableDragging();
+		dragTracker = new DragTracker(this, settleListener);
+		view.setOnTouchListener(dragTracker);
+	}
+
+	/**
+	 * Disables dragging of the view
+	 * <p>
+	 * If the view is being currently dragged, it stays at its current drag position
+	 */
+	public void disableDragging() {
+		if (dragTracker != null) {
+			dragTracker.release();
+			dragTracker = null;
+			view.setOnTouchListener(null);
+		}
+	}
+
+	/**
+	 * Enables queueing of the moves requested while the view is being moved
+	 * <p>
+	 * By default such moves are dropped. Once enabled, the queued moves are started one
+	 * after another as soon as the previous move completes. The deltas of the queued moves
+	 * are verified when they are started, and the targets of the queued absolute moves (see
+	 * {@link #moveTo(float, float, MovingParams)}) are resolved into the deltas then
+	 * <p>
+	 * If a move is requested when the queue is full, the overflow policy is applied. With
+	 * {@link QueueOverflowPolicy#COALESCE} the capacity of {@code 1} accumulates all the
+	 * pending moves into a single one. Animation listeners of the coalesced or replaced
+	 * moves are not notified
+	 * <p>
+	 * Any moves queued before are discarded
+	 *
+	 * @param capacity maximum number of the queued moves
+	 * @param overflowPolicy policy, which is applied when the queue is full
+	 */
+	public void enableMoveQueue(int capacity, QueueOverflowPolicy overflowPolicy) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Move queue capacity must be positive");
+		}
+		if (overflowPolicy == null) {
+			throw new IllegalArgumentException("Move queue overflow policy must not be null");
+		}
+		moveQueue = new MoveQueue(capacity, overflowPolicy);
+	}
+
+	/**
+	 * Disables queueing of the moves requested while the view is being moved
+	 * <p>
+	 * Any moves queued before are discarded
+	 */
+	public void disableMoveQueue() {
+		moveQueue = null;
+	}
+
+	/**
+	 * Is called when the move completes after the view position is changed and the
+	 * external animation listener is notified
+	 * <p>
+	 * Starts the next queued move if any, otherwise restores the view's layer type
+	 * if the view was promoted to the hardware layer
+	 */
+	void onMoveCompleted() {
+		if (moveQueue != null) {
+			while (!isMoveInProgress() && !moveQueue.isEmpty()) {
+				float xAxisDelta = moveQueue.peekXAxisDelta();
+				float yAxisDelta = moveQueue.peekYAxisDelta();
+				if (moveQueue.peekTarget()) {
+					MoveBounds bounds = getBounds();
+					xAxisDelta += bounds.getMinXAxisDelta();
+					yAxisDelta += bounds.getMinYAxisDelta();
+				}
+				MovingParams params = moveQueue.peekParams();
+				moveQueue.remove();
+				move(xAxisDelta, yAxisDelta, params);
+			}
+		}
+		if (!isMoveInProgress()) {
+			releaseLayer();
+		}
+	}
+
+	/**
+	 * Enables or disables driving the moves by display frames
+	 * <p>
+	 * Once enabled, the move motion is advanced on each display frame by the time elapsed
+	 * since the move started, measured with the frame's vsync timestamp. The move therefore
+	 * follows the display refresh rate and catches up after a skipped frame instead of
+	 * slowing down. Once disabled, which is the default, the legacy view animation is used,
+	 * which advances only when the view is redrawn
+	 * <p>
+	 * Takes effect from the next move. Has no effect for the view movers, which move the view
+	 * by means of property animation
+	 *
+	 * @param frameSchedulingEnabled true to drive the moves by display frames, otherwise false
+	 */
+	public void setFrameSchedulingEnabled(boolean frameSchedulingEnabled) {
+		this.frameSchedulingEnabled = frameSchedulingEnabled;
+	}
+
+	/**
+	 * Enables or disables promotion of the view to the hardware layer while it is being moved
+	 * <p>
+	 * Once enabled, the view is redrawn once into the hardware layer when the move starts
+	 * rather than on each frame, and its previous layer type is restored when the move
+	 * completes and no queued move follows. The view is not promoted if it is larger than
+	 * the display, already has a layer or its layer exceeds the memory budget shared by all
+	 * the moves (see {@link #setLayerBudget(long)}). The layer type is restored and the
+	 * memory is released together, once the move either completes or is cancelled, or once
+	 * the view is detached
+	 * <p>
+	 * Has effect for {@code TargetApi} {@link android.os.Build.VERSION_CODES#HONEYCOMB} and
+	 * higher with the hardware acceleration enabled only
+	 *
+	 * @param layerPromotionEnabled true to enable promotion, otherwise false
+	 */
+	public void setLayerPromotionEnabled(boolean layerPromotionEnabled) {
+		this.layerPromotionEnabled = layerPromotionEnabled;
+	}
+
+	/**
+	 * Sets the memory budget of the hardware layers of all the views being moved at once
+	 * <p>
+	 * By default the budget is the memory of two full screen layers
+	 *
+	 * @param bytes memory budget in bytes
+	 */
+	public static void setLayerBudget(long bytes) {
+		if (bytes < 0L) {
+			throw new IllegalArgumentException("Layer budget must not be negative");
+		}
+		HardwareLayers.setBudget(bytes);
+	}
+
+	/**
+	 * Promotes the view to the hardware layer if enabled and not promoted yet
+	 */
+	private void promoteLayer() {
+		if (layerPromotionEnabled && !layerPromoted && checkCulling() == CULLING_NONE) {
+			long layerBytes = HardwareLayers.promote(view);
+			layerPromoted = layerBytes > 0L;
+			if (Tracing.ENABLED && layerPromoted && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "View promoted to the hardware layer of {} bytes", layerBytes);
+			}
+		}
+	}
+
+	/**
+	 * Enables or disables culling of the moves of the view, which is not visible
+	 * <p>
+	 * Once enabled, which is the default, the visibility of the view is checked when the
+	 * move starts and on each display frame. The move of the view, which is detached or not
+	 * shown, i.e. it or any of its ancestors is not {@link View#VISIBLE}, is completed at once,
+	 * changing the view position to the move target. The frame updates of the view, which is
+	 * fully clipped by its parent container or scrolled off-screen both where it is displayed
+	 * and where its motion is on the frame, are skipped, while the move continues, so that the
+	 * view is visually moved again once its motion enters the visible part of its parent
+	 * container. The view is not promoted to the hardware layer in both cases
+	 * <p>
+	 * The culled moves and frames are counted by {@link MoveStats}
+	 *
+	 * @param cullingEnabled true to enable culling, otherwise false
+	 */
+	public void setCullingEnabled(boolean cullingEnabled) {
+		this.cullingEnabled = cullingEnabled;
+	}
+
+	/**
+	 * Checks whether the view is visible where it is currently displayed
+	 *
+	 * @return one of {@link #CULLING_NONE}, {@link #CULLING_FRAME} or {@link #CULLING_MOVE}
+	 * @see #checkCulling(float, float)
+	 */
+	int checkCulling() {
+		return checkCulling(displayedOffsetX, displayedOffsetY);
+	}
+
+	/**
+	 * Checks whether the view is visible and its frame is to be updated to the given
+	 * offset of the current move
+	 * <p>
+	 * The view's bounds are checked against the visible part of its parent container both
+	 * where the view is currently displayed and where it is to be displayed, so that the
+	 * view, which leaves the visible part, is moved out of it first, and the view, which
+	 * enters the visible part, is moved into it at once
+	 * <p>
+	 * Walks up the view hierarchy, so is called once per frame at most
+	 *
+	 * @param xAxisOffset X-axis offset of the current move to check in actual pixels
+	 * @param yAxisOffset Y-axis offset of the current move to check in actual pixels
+	 * @return one of {@link #CULLING_NONE}, {@link #CULLING_FRAME} or {@link #CULLING_MOVE}
+	 */
+	int checkCulling(float xAxisOffset, float yAxisOffset) {
+		if (!cullingEnabled) {
+			return CULLING_NONE;
+		}
+		if (view.getWindowToken() == null || !view.isShown()) {
+			return CULLING_MOVE;
+		}
+		View parentView = getParentView();
+		if (parentView == null) {
+			return CULLING_NONE;
+		}
+		if (!parentView.getGlobalVisibleRect(cullingClipRect, cullingOffset)) {
+			return CULLING_FRAME;
+		}
+		// visible part of the parent container in the coordinates of its children
+		cullingClipRect.offset(-cullingOffset.x, -cullingOffset.y);
+		view.getHitRect(cullingRect);
+		if (Rect.intersects(cullingClipRect, cullingRect)) {
+			return CULLING_NONE;
+		}
+		cullingRect.offset((int) (xAxisOffset - displayedOffsetX), (int) (yAxisOffset - displayedOffsetY));
+		return Rect.intersects(cullingClipRect, cullingRect) ? CULLING_NONE : CULLING_FRAME;
+	}
+
+	/**
+	 * Restores the view's layer type and releases the memory of its layer if the view was
+	 * promoted to the hardware layer by this mover
+	 */
+	private void releaseLayer() {
+		if (layerPromoted) {
+			HardwareLayers.release(view);
+			layerPromoted = false;
+		}
+	}
+
+	/**
+	 * Checks whether previous animation on the view completed
+	 *
+	 * @return true if previous animation on the view completed, otherwise false
+	 */
+	boolean isPreviousAnimationCompleted() {
+		boolean previousAnimationCompleted = !isMoveInProgress();
+		if (!previousAnimationCompleted) {
+			Tracing.warn(ViewMover.class, "Unable to move the view. View is being currently moving");
+		}
+		return previousAnimationCompleted;
+	}
+
+	/**
+	 * Returns the current move state
+	 * <p>
+	 * The move state is kept by this mover, so that neither the view nor its animation
+	 * is inspected, and other animations of the view don't affect it
+	 * <p>
+	 * A move, which is rejected, since it has {@code zero} verified deltas or its path or
+	 * keyframes leave the parent container, doesn't start and doesn't change the move state,
+	 * so the idle view stays in the {@link #MOVE_STATE_IDLE} state
+	 *
+	 * @return one of {@link #MOVE_STATE_IDLE}, {@link #MOVE_STATE_MOVING},
+	 *         {@link #MOVE_STATE_SETTLING} or {@link #MOVE_STATE_CANCELLED}
+	 */
+	public int getMoveState() {
+		return moveState;
+	}
+
+	/**
+	 * Checks whether the view is being currently moved either by the tween motion
+	 * or by the physics motion
+	 *
+	 * @return true if the view is being currently moved, otherwise false
+	 */
+	final boolean isMoveInProgress() {
+		return moveState == MOVE_STATE_MOVING || moveState == MOVE_STATE_SETTLING;
+	}
+
+	/**
+	 * Is called when the motion completes by itself
+	 * <p>
+	 * Must be called by the subclasses, which drive the tween motion by other means
+	 */
+	final void endMotion() {
+		moveState = MOVE_STATE_IDLE;
+		movePaused = false;
+		dragSettling = false;
+		displayedOffsetX = 0.0f;
+		displayedOffsetY = 0.0f;
+	}
+
+	/**
+	 * Is called by the {@link ViewMoverGroup} when it starts moving the view
+	 * <p>
+	 * Marks the move in progress, so that the moves requested meanwhile are queued or dropped
+	 * rather than started or retargeting it, dragging doesn't start, and the move handle
+	 * doesn't control it. The motion target is set, so that the logical position includes
+	 * the group move
+	 *
+	 * @param xAxisDelta verified X-axis delta in actual pixels
+	 * @param yAxisDelta verified Y-axis delta in actual pixels
+	 * @param duration move duration in ms
+	 */
+	final void beginGroupMove(float xAxisDelta, float yAxisDelta, long duration) {
+		motion.start(xAxisDelta, yAxisDelta, duration);
+		moveState = MOVE_STATE_MOVING;
+		movePaused = false;
+		externalMoveInProgress = true;
+		beginFrameMove();
+	}
+
+	/**
+	 * Is called by the {@link ViewMoverGroup} once it changed the view position
+	 * <p>
+	 * Ends the move and starts the next queued move if any
+	 */
+	final void endGroupMove() {
+		externalMoveInProgress = false;
+		endMotion();
+		onMoveCompleted();
+	}
+
+	/**
+	 * Is called by the {@link DragTracker} when it starts dragging the view
+	 * <p>
+	 * Marks the move in progress the same way as {@link #beginGroupMove(float, float, long)}
+	 * does, so that the moves requested while the view is dragged are queued or dropped,
+	 * and the move handle doesn't control the drag
+	 */
+	final void beginDrag() {
+		motion.start(0.0f, 0.0f, 0L);
+		moveState = MOVE_STATE_MOVING;
+		movePaused = false;
+		externalMoveInProgress = true;
+		beginFrameMove();
+	}
+
+	/**
+	 * Is called by the {@link DragTracker} once it changed the view position
+	 * <p>
+	 * Ends the drag. If the settle deltas are not {@code zero}, the view then settles, and the
+	 * moves requested meanwhile keep being queued or dropped rather than retargeting the settle.
+	 * Otherwise the next queued move starts if any
+	 *
+	 * @param settleXAxisDelta X-axis settle delta in actual pixels
+	 * @param settleYAxisDelta Y-axis settle delta in actual pixels
+	 * @param duration settle duration in ms
+	 * @param interpolator settle interpolator
+	 * @param animationListener settle animation listener, may be {@code null}
+	 */
+	final void endDrag(float settleXAxisDelta, float settleYAxisDelta, long duration, Interpolator interpolator,
+	                   Animation.AnimationListener animationListener) {
+		externalMoveInProgress = false;
+		endMotion();
+		if (settleXAxisDelta != 0.0f || settleYAxisDelta != 0.0f) {
+			dragSettling = move(settleXAxisDelta, settleYAxisDelta, duration, interpolator, animationListener);
+		}
+		if (!isMoveInProgress()) {
+			onMoveCompleted();
+		}
+	}
+
+	/**
+	 * Checks whether the current move can't be retargeted, since the view is being moved by
+	 * the {@link ViewMoverGroup}, dragged or settles after the drag
+	 *
+	 * @return true if the current move can't be retargeted, otherwise false
+	 */
+	private boolean isRetargetingBlocked() {
+		return externalMoveInProgress || dragSettling;
+	}
+
+	/**
+	 * Returns the move handle, which controls the current move
+	 * <p>
+	 * The move handle is created once per view mover and always refers to its current
+	 * move, so it may be obtained either before or after the move is started
+	 *
+	 * @return move handle
+	 */
+	public MoveHandle getMoveHandle() {
+		return moveHandle;
+	}
+
+	/**
+	 * Checks whether the current move is paused
+	 *
+	 * @return true if the current move is paused, otherwise false
+	 */
+	final boolean isMovePaused() {
+		return movePaused;
+	}
+
+	/**
+	 * Cancels the current move leaving the view either at its current offset or at
+	 * the move target
+	 * <p>
+	 * The view position is changed and the external animation listener is notified about
+	 * the end. Once ended, the next queued move starts if any, once cancelled, the queued
+	 * moves are discarded
+	 *
+	 * @param toEnd true to move the view to the move target, otherwise false
+	 * @see MoveHandle#cancel()
+	 * @see MoveHandle#end()
+	 */
+	void cancelMove(boolean toEnd) {
+		if (!isMoveInProgress() || externalMoveInProgress) {
+			return;
+		}
+		float xAxisOffset;
+		float yAxisOffset;
+		Animation.AnimationListener listener;
+		if (moveState == MOVE_STATE_SETTLING) {
+			xAxisOffset = toEnd ? physicsMotion.getTargetX() : physicsMotion.getX();
+			yAxisOffset = toEnd ? physicsMotion.getTargetY() : physicsMotion.getY();
+			listener = physicsFrameListener.animationListener;
+			physicsFrameListener.animationListener = null;
+			endFrameMove();
+			changeViewPosition(xAxisOffset, yAxisOffset);
+		} else {
+			xAxisOffset = toEnd ? motion.getToX() : motion.getX();
+			yAxisOffset = toEnd ? motion.getToY() : motion.getY();
+			listener = stopMotion(xAxisOffset, yAxisOffset);
+		}
+		endMotion();
+		if (!toEnd) {
+			moveState = MOVE_STATE_CANCELLED;
+			if (moveQueue != null) {
+				moveQueue.clear();
+			}
+		}
+		onViewPositionChanged(xAxisOffset, yAxisOffset);
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Move {} at offset: X = {}, Y = {}", toEnd ? "ended" : "cancelled",
+					xAxisOffset, yAxisOffset);
+		}
+		if (listener != null) {
+			listener.onAnimationEnd(null);
+		}
+		if (toEnd) {
+			onMoveCompleted();
+		} else {
+			releaseLayer();
+		}
+	}
+
+	/**
+	 * Pauses the current move unless it is already paused
+	 *
+	 * @see MoveHandle#pause()
+	 */
+	void pauseMove() {
+		if (!isMoveInProgress() || movePaused || externalMoveInProgress) {
+			return;
+		}
+		if (moveState == MOVE_STATE_SETTLING || pauseMotion()) {
+			movePaused = true;
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "Move paused");
+			}
+		} else {
+			Tracing.warn(ViewMover.class, "Unable to pause the move. Move animation can't be paused");
+		}
+	}
+
+	/**
+	 * Resumes the current move if it is paused
+	 *
+	 * @see MoveHandle#resume()
+	 */
+	void resumeMove() {
+		if (!movePaused) {
+			return;
+		}
+		movePaused = false;
+		if (moveState == MOVE_STATE_SETTLING) {
+			physicsFrameListener.resume();
+			FrameScheduler.getInstance().addFrameListener(physicsFrameListener);
+		} else {
+			resumeMotion();
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Move resumed");
+		}
+	}
+
+	/**
+	 * Seeks the current tween move to the given fraction of its duration
+	 *
+	 * @param fraction fraction of the move duration, which is clamped to {@code [0, 1]}
+	 * @see MoveHandle#seek(float)
+	 */
+	void seekMove(float fraction) {
+		if (moveState != MOVE_STATE_MOVING || externalMoveInProgress) {
+			if (moveState == MOVE_STATE_SETTLING) {
+				Tracing.warn(ViewMover.class, "Unable to seek the move. Spring and fling moves can't be sought");
+			}
+			return;
+		}
+		if (!seekMotion(Math.max(0.0f, Math.min(1.0f, fraction)))) {
+			Tracing.warn(ViewMover.class, "Unable to seek the move. Move animation can't be sought");
+		}
+	}
+
+	/**
+	 * Reverses the current move back to the position it started at
+	 *
+	 * @see MoveHandle#reverse()
+	 */
+	void reverseMove() {
+		if (!isMoveInProgress() || externalMoveInProgress) {
+			return;
+		}
+		if (movePaused) {
+			resumeMove();
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Move reversed at fraction {}", motionFraction);
+		}
+		if (moveState == MOVE_STATE_SETTLING) {
+			physicsMotion.retarget(0.0f, 0.0f);
+		} else {
+			long duration = (long) (motionFraction * motionDuration);
+			motion.retarget(0.0f, 0.0f, duration);
+			beginMotion(duration, motionAnimationListener);
+		}
+	}
+
+	/**
+	 * Checks whether both X-axis and Y-axis deltas are not {@code zero}
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return true, if any of the X-axis or Y-axis delta is not {@code zero},
+	 *         otherwise false
+	 */
+	boolean isMoveNonZero(float xAxisDelta, float yAxisDelta) {
+		boolean moveNonZero = xAxisDelta != 0.0f || yAxisDelta != 0.0f;
+		if (!moveNonZero) {
+			Tracing.warn(ViewMover.class, "Zero movement detected. No movement will be performed");
+		}
+		return moveNonZero;
+	}
+
+	/**
+	 * Verifies the X-axis and Y-axis deltas based on calculations returned from
+	 * {@link #verifyXAxisDelta(float)} and {@link #verifyYAxisDelta(float)}
+	 * <p>
+	 * The results are stored in {@link #verifiedXAxisDelta} and {@link #verifiedYAxisDelta}
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels, which needs to be verified
+	 * @param yAxisDelta Y-axis delta in actual pixels, which needs to be verified
+	 */
+	void verifyDeltas(float xAxisDelta, float yAxisDelta) {
+		verifiedXAxisDelta = verifyXAxisDelta(xAxisDelta);
+		verifiedYAxisDelta = verifyYAxisDelta(yAxisDelta);
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMover.class, "Verified moving deltas: X-axis from {} to {}, Y-axis from {} to {}",
+					xAxisDelta, verifiedXAxisDelta, yAxisDelta, verifiedYAxisDelta);
+		}
+	}
+
+	/**
+	 * Returns the X-axis delta verified by the last {@link #verifyDeltas(float, float)} call
+	 *
+	 * @return verified X-axis delta in actual pixels
+	 */
+	float getVerifiedXAxisDelta() {
+		return verifiedXAxisDelta;
+	}
+
+	/**
+	 * Returns the Y-axis delta verified by the last {@link #verifyDeltas(float, float)} call
+	 *
+	 * @return verified Y-axis delta in actual pixels
+	 */
+	float getVerifiedYAxisDelta() {
+		return verifiedYAxisDelta;
+	}
+
+	/**
+	 * Verifies the X-axis delta based on checking whether
+	 * there is enough space left to move the view horizontally
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @return X-axis delta if there is enough space to move the view horizontally,
+	 *         otherwise either the delta clamped to the parent container's edge or
+	 *         {@code zero} depending on the edge policy
+	 */
+	private float verifyXAxisDelta(float xAxisDelta) {
+		float verifiedDelta = getBounds().verifyXAxisDelta(xAxisDelta, edgePolicy == EdgePolicy.CLAMP);
+		if (verifiedDelta == 0.0f && xAxisDelta != 0.0f) {
+			Tracing.warn(ViewMover.class, "Unable to move the view horizontally. No horizontal space left to move");
+		}
+		return verifiedDelta;
+	}
+
+	/**
+	 * Verifies the Y-axis delta based on checking whether
+	 * there is enough space left to move the view vertically
+	 *
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @return Y-axis delta if there is enough space to move the view vertically,
+	 *         otherwise either the delta clamped to the parent container's edge or
+	 *         {@code zero} depending on the edge policy
+	 */
+	private float verifyYAxisDelta(float yAxisDelta) {
+		float verifiedDelta = getBounds().verifyYAxisDelta(yAxisDelta, edgePolicy == EdgePolicy.CLAMP);
+		if (verifiedDelta == 0.0f && yAxisDelta != 0.0f) {
+			Tracing.warn(ViewMover.class, "Unable to move the view vertically. No vertical space left to move");
+		}
+		return verifiedDelta;
+	}
+
+	/**
+	 * Returns the movable range of the view, which is relative to the view's current position
+	 * <p>
+	 * The range is taken from the bounds snapshot, so that the query is performed in
+	 * constant time without touching the view or its parent container. The snapshot is
+	 * shifted when the view position is changed by this mover, and is recalculated after
+	 * a layout of the view or its parent container
+	 *
+	 * @param range range to fill
+	 * @return the given range filled with the movable range of the view
+	 */
+	public MovableRange getMovableRange(MovableRange range) {
+		MoveBounds bounds = getBounds();
+		range.set(bounds.getMinXAxisDelta(), bounds.getMaxXAxisDelta(), bounds.getMinYAxisDelta(),
+				bounds.getMaxYAxisDelta());
+		return range;
+	}
+
+	/**
+	 * Returns the movable range of the view, which is relative to the view's current position
+	 *
+	 * @return movable range of the view
+	 * @see #getMovableRange(MovableRange)
+	 */
+	public MovableRange getMovableRange() {
+		return getMovableRange(new MovableRange());
+	}
+
+	/**
+	 * Sets the policy, which is applied when the move delta would take the view out of
+	 * its parent container
+	 * <p>
+	 * By default set to {@link EdgePolicy#CANCEL_AXIS}
+	 *
+	 * @param edgePolicy edge policy
+	 */
+	public void setEdgePolicy(EdgePolicy edgePolicy) {
+		if (edgePolicy == null) {
+			throw new IllegalArgumentException("Edge policy must not be null");
+		}
+		this.edgePolicy = edgePolicy;
+	}
+
+	/**
+	 * Invalidates the bounds snapshot, so that the movable range is recalculated on the
+	 * next query
+	 * <p>
+	 * Must be called if the view position is changed by any other means than this mover
+	 * without a layout, e.g. if the view's translation is changed directly
+	 */
+	public void invalidateBounds() {
+		boundsValid = false;
+	}
+
+	/**
+	 * Is called after the view position is changed by this mover
+	 * <p>
+	 * Shifts the bounds snapshot by the deltas the view is moved at
+	 *
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 */
+	void onViewPositionChanged(float xAxisDelta, float yAxisDelta) {
+		MoveStats.onPositionChanged();
+		if (boundsValid) {
+			bounds.shift(xAxisDelta, yAxisDelta);
+		}
+	}
+
+	/**
+	 * Returns the bounds snapshot, recalculating it if it was invalidated
+	 * <p>
+	 * The snapshot is invalidated by the layout of the view or its parent container.
+	 * Layout changes and detaching can't be listened for {@code TargetApi} lower than
+	 * {@link android.os.Build.VERSION_CODES#HONEYCOMB_MR1}, so the snapshot is recalculated
+	 * each time
+	 * <p>
+	 * The snapshot is calculated relative to the view's position without the offset of the
+	 * current frame driven or property animated move, which is not changed until the move
+	 * completes, so that recalculating the snapshot mid-move gives the same movable range
+	 *
+	 * @return bounds snapshot
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	MoveBounds getBounds() {
+		if (!boundsValid) {
+			View parentView = getParentView();
+			bounds.set(calculateEndLeftBound(-displayedOffsetX), calculateEndTopBound(-displayedOffsetY),
+					calculateEndRightBound(-displayedOffsetX), calculateEndBottomBound(-displayedOffsetY),
+					parentView.getWidth(), parentView.getHeight());
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB_MR1) {
+				observeLayoutChanges();
+				boundsValid = true;
+			}
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMover.class, "Calculated movable range: X-axis from {} to {}, Y-axis from {} to {}",
+						bounds.getMinXAxisDelta(), bounds.getMaxXAxisDelta(), bounds.getMinYAxisDelta(),
+						bounds.getMaxYAxisDelta());
+			}
+		}
+		return bounds;
+	}
+
+	/**
+	 * Starts listening to the layout changes of the view and its current parent container,
+	 * and to the view detaching
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private void observeLayoutChanges() {
+		View parentView = getParentView();
+		if (observedParentView == parentView) {
+			return;
+		}
+		if (observedParentView == null) {
+			view.addOnLayoutChangeListener(boundsInvalidator);
+			view.addOnAttachStateChangeListener(boundsInvalidator);
+		} else {
+			observedParentView.removeOnLayoutChangeListener(boundsInvalidator);
+		}
+		parentView.addOnLayoutChangeListener(boundsInvalidator);
+		observedParentView = parentView;
+	}
+
+	/**
+	 * Stops listening to the layout changes of the view and its parent container, and to
+	 * the view detaching, so that the parent container doesn't retain this view mover and
+	 * the view once the view is removed
+	 * <p>
+	 * The bounds snapshot is invalidated, and the listening starts again on the next query
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private void stopObservingLayoutChanges() {
+		if (observedParentView != null) {
+			observedParentView.removeOnLayoutChangeListener(boundsInvalidator);
+			view.removeOnLayoutChangeListener(boundsInvalidator);
+			view.removeOnAttachStateChangeListener(boundsInvalidator);
+			observedParentView = null;
+		}
+		boundsValid = false;
+	}
+
+	/**
+	 * Is called to start moving the view once the deltas are verified
+	 * <p>
+	 * Starts the motion of the current move and calls {@link #startMotion(long, Animation.AnimationListener, boolean)}
+	 *
+	 * @param xAxisDelta verified X-axis delta in actual pixels
+	 * @param yAxisDelta verified Y-axis delta in actual pixels
+	 * @param duration move animation duration in ms
+	 * @param interpolator move animation interpolator
+	 * @param animationListener move animation listener, may be {@code null}
+	 */
+	void startMove(float xAxisDelta, float yAxisDelta, long duration, Interpolator interpolator,
+	               Animation.AnimationListener animationListener) {
+		promoteLayer();
+		motion.start(xAxisDelta, yAxisDelta, duration);
+		motionInterpolator = interpolator;
+		beginMotion(duration, animationListener);
+	}
+
+	/**
+	 * Switches to the {@link #MOVE_STATE_MOVING} state and calls
+	 * {@link #startMotion(long, Animation.AnimationListener, boolean)}
+	 *
+	 * @param duration move animation duration in ms
+	 * @param animationListener move animation listener, may be {@code null}
+	 */
+	private void beginMotion(long duration, Animation.AnimationListener animationListener) {
+		boolean retargeting = moveState == MOVE_STATE_MOVING;
+		if (!retargeting) {
+			displayedOffsetX = 0.0f;
+			displayedOffsetY = 0.0f;
+		}
+		moveState = MOVE_STATE_MOVING;
+		motionFraction = 0.0f;
+		motionDuration = duration;
+		motionAnimationListener = animationListener;
+		startMotion(duration, animationListener, retargeting);
+	}
+
+	/**
+	 * Is called to drive the motion of the current move, which is either started or retargeted
+	 * <p>
+	 * By default drives the motion by display frames if enabled (see
+	 * {@link #setFrameSchedulingEnabled(boolean)}), otherwise configures the reusable moving
+	 * animation and (re)starts it on the view. The view position is changed by calling
+	 * {@link #changeViewPosition(float, float)} when the move completes
+	 * <p>
+	 * Subclasses may override this method to move the view by other means
+	 *
+	 * @param duration move animation duration in ms
+	 * @param animationListener move animation listener, may be {@code null}
+	 * @param retargeting true if the motion is retargeted, otherwise false
+	 */
+	void startMotion(long duration, Animation.AnimationListener animationListener, boolean retargeting) {
+		if (!retargeting) {
+			motionFrameDriven = frameSchedulingEnabled;
+		}
+		if (motionFrameDriven) {
+			if (!retargeting) {
+				beginFrameMove();
+				FrameScheduler.getInstance().addFrameListener(tweenFrameListener);
+			}
+			tweenFrameListener.start(duration, animationListener);
+			return;
+		}
+		moveAnimationListener.prepare(animationListener);
+		if (checkCulling() == CULLING_MOVE) {
+			// view animation never runs for the view, which is not shown
+			MoveStats.onMoveCulled();
+			if (retargeting) {
+				moveAnimation.setAnimationListener(null);
+				view.clearAnimation();
+				moveAnimation.setAnimationListener(moveAnimationListener);
+			}
+			moveAnimationListener.onAnimationEnd(null);
+			return;
+		}
+		moveAnimation.setDuration(duration);
+		moveAnimation.reset();
+		view.startAnimation(moveAnimation);
+	}
+
+	/**
+	 * Is called to pause driving the current tween motion
+	 * <p>
+	 * By default the motion driven by display frames stops requesting the frames,
+	 * while the view animation can't be paused
+	 * <p>
+	 * Subclasses, which override {@link #startMotion(long, Animation.AnimationListener, boolean)},
+	 * must override this method as well
+	 *
+	 * @return true if the motion is paused, otherwise false
+	 */
+	boolean pauseMotion() {
+		return motionFrameDriven;
+	}
+
+	/**
+	 * Is called to resume driving the current tween motion paused by {@link #pauseMotion()}
+	 * <p>
+	 * By default the motion driven by display frames continues from the fraction it was
+	 * last updated with
+	 */
+	void resumeMotion() {
+		tweenFrameListener.seek(motionFraction);
+		FrameScheduler.getInstance().addFrameListener(tweenFrameListener);
+	}
+
+	/**
+	 * Is called to seek the current tween motion to the given fraction
+	 * <p>
+	 * By default the motion driven by display frames is updated and the view is visually
+	 * moved at once, and the next display frame continues from the given fraction, while
+	 * the view animation can't be sought
+	 *
+	 * @param fraction linear fraction of the motion duration from {@code 0} to {@code 1}
+	 * @return true if the motion is sought, otherwise false
+	 */
+	boolean seekMotion(float fraction) {
+		if (!motionFrameDriven) {
+			return false;
+		}
+		tweenFrameListener.seek(fraction);
+		updateMotion(fraction);
+		offsetFrame(motion.getX(), motion.getY());
+		return true;
+	}
+
+	/**
+	 * Is called to stop driving the current tween motion before it completes, and to
+	 * change the view position by the given offset
+	 * <p>
+	 * Neither the motion completion is handled nor the external animation listener is
+	 * notified, the latter is returned instead
+	 *
+	 * @param xAxisOffset X-axis offset to change the view position by in actual pixels
+	 * @param yAxisOffset Y-axis offset to change the view position by in actual pixels
+	 * @return external animation listener of the motion, may be {@code null}
+	 */
+	Animation.AnimationListener stopMotion(float xAxisOffset, float yAxisOffset) {
+		Animation.AnimationListener listener;
+		if (motionFrameDriven) {
+			listener = tweenFrameListener.animationListener;
+			tweenFrameListener.animationListener = null;
+			endFrameMove();
+		} else {
+			listener = moveAnimationListener.animationListener;
+			moveAnimationListener.animationListener = null;
+			moveAnimation.setAnimationListener(null);
+			view.clearAnimation();
+			moveAnimation.setAnimationListener(moveAnimationListener);
+		}
+		changeViewPosition(xAxisOffset, yAxisOffset);
+		return listener;
+	}
+
+	/**
+	 * Is called to prepare the view for the move, which is driven by display frames
+	 * rather than by the view animation
+	 * <p>
+	 * Remembers the current view's translation, which the frame offsets are applied
+	 * relative to
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	void beginFrameMove() {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+			frameBaseTranslationX = view.getTranslationX();
+			frameBaseTranslationY = view.getTranslationY();
+		} else {
+			frameOffsetX = 0;
+			frameOffsetY = 0;
+		}
+		displayedOffsetX = 0.0f;
+		displayedOffsetY = 0.0f;
+	}
+
+	/**
+	 * Is called on each display frame of the frame driven move
+	 * <p>
+	 * Visually moves the view by the given offset relative to its position when
+	 * {@link #beginFrameMove()} was called, without requesting a layout. The view's
+	 * translation is changed for {@code TargetApi} {@link android.os.Build.VERSION_CODES#HONEYCOMB}
+	 * and higher, otherwise the view is offset
+	 *
+	 * @param xAxisOffset X-axis offset in actual pixels
+	 * @param yAxisOffset Y-axis offset in actual pixels
+	 */
+	void applyFrameOffset(float xAxisOffset, float yAxisOffset) {
+		offsetFrame(xAxisOffset, yAxisOffset);
+		MoveStats.onFrame();
+	}
+
+	/**
+	 * Is called by the subclasses, which visually move the view on the display frame by
+	 * other means, once the view is moved by the given offset of the current move
+	 *
+	 * @param xAxisOffset X-axis offset in actual pixels
+	 * @param yAxisOffset Y-axis offset in actual pixels
+	 */
+	void onFrameDisplayed(float xAxisOffset, float yAxisOffset) {
+		displayedOffsetX = xAxisOffset;
+		displayedOffsetY = yAxisOffset;
+		MoveStats.onFrame();
+	}
+
+	/**
+	 * Is called when the frame driven move completes
+	 * <p>
+	 * Moves the view back to its position when {@link #beginFrameMove()} was called,
+	 * so that the view position could then be changed by calling
+	 * {@link #changeViewPosition(float, float)}
+	 */
+	void endFrameMove() {
+		offsetFrame(0.0f, 0.0f);
+	}
+
+	/**
+	 * Visually moves the view by the given offset relative to its position when
+	 * {@link #beginFrameMove()} was called
+	 *
+	 * @param xAxisOffset X-axis offset in actual pixels
+	 * @param yAxisOffset Y-axis offset in actual pixels
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+	private void offsetFrame(float xAxisOffset, float yAxisOffset) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+			view.setTranslationX(frameBaseTranslationX + xAxisOffset);
+			view.setTranslationY(frameBaseTranslationY + yAxisOffset);
+		} else {
+			int offsetX = (int) xAxisOffset;
+			int offsetY = (int) yAxisOffset;
+			view.offsetLeftAndRight(offsetX - frameOffsetX);
+			view.offsetTopAndBottom(offsetY - frameOffsetY);
+			frameOffsetX = offsetX;
+			frameOffsetY = offsetY;
+			getParentView().invalidate();
+			MoveStats.onInvalidated();
+		}
+		displayedOffsetX = xAxisOffset;
+		displayedOffsetY = yAxisOffset;
+	}
+
+	/**
+	 * Returns the move animation interpolator of the moving params or the
+	 * {@link #DEFAULT_INTERPOLATOR} if the former is not set
+	 *
+	 * @param params moving params
+	 * @return move animation interpolator
+	 */
+	static Interpolator getInterpolator(MovingParams params) {
+		Interpolator interpolator = params.getAnimationInterpolator();
+		return interpolator != null ? interpolator : DEFAULT_INTERPOLATOR;
+	}
+
+	/**
+	 * Move animation class
+	 * <p>
+	 * Translates the view by the offset of the current move motion the same way as
+	 * {@link android.view.animation.TranslateAnimation} does, but unlike the latter allows
+	 * to change the motion, so that a single instance can be reused for all moves
+	 */
+	private static class MoveAnimation extends Animation {
+
+		/**
+		 * View mover, which motion calculates the view offset
+		 */
+		private final ViewMover mover;
+
+		/**
+		 * Creates an instance of the
+		 * {@link com.scalified.viewmover.movers.ViewMover.MoveAnimation}
+		 *
+		 * @param mover view mover, which motion calculates the view offset
+		 */
+		private MoveAnimation(ViewMover mover) {
+			this.mover = mover;
+			setFillEnabled(true);
+			setFillBefore(false);
+		}
+
+		@Override
+		protected void applyTransformation(float interpolatedTime, Transformation t) {
+			mover.updateMotion(interpolatedTime);
+			t.getMatrix().setTranslate(mover.motion.getX(), mover.motion.getY());
+			MoveStats.onFrame();
+		}
+
+	}
+
+	/**
+	 * Move animation listener class
+	 * <p>
+	 * Used to listen the animation and call the {@link #changeViewPosition(float, float)}
+	 * when animation completes
+	 * <p>
+	 * A single instance is reused for all moves and is prepared before each one
+	 * by calling {@link #prepare(Animation.AnimationListener)}
+	 */
+	private class MoveAnimationListener implements Animation.AnimationListener {
+
+		/**
+		 * An external animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Prepares the listener for the next move
+		 *
+		 * @param animationListener an external animation listener, may be {@code null}
+		 */
+		private void prepare(Animation.AnimationListener animationListener) {
+			this.animationListener = animationListener;
+		}
+
+		@Override
+		public void onAnimationStart(Animation animation) {
+			if (animationListener != null) {
+				animationListener.onAnimationStart(animation);
+			}
+		}
+
+		@Override
+		public void onAnimationRepeat(Animation animation) {
+			if (animationListener != null) {
+				animationListener.onAnimationRepeat(animation);
 			}
 		}
 
@@ -323,15 +2060,263 @@ public abstract class ViewMover {
 		 * <p>
 		 * Calls the {@link #changeViewPosition(float, float)} giving the subclasses
 		 * the ability to change the position of the view based on their logic
+		 * <p>
+		 * The external animation listener is released before being notified, since
+		 * it may start the next move, which prepares this listener again. Then the next
+		 * queued move is started if any
 		 *
 		 * @param animation moving animation
 		 */
 		@Override
 		public void onAnimationEnd(Animation animation) {
-			changeViewPosition(params.getXAxisDelta(), params.getYAxisDelta());
-			if (animationListener != null) {
-				animationListener.onAnimationEnd(animation);
+			Animation.AnimationListener listener = animationListener;
+			animationListener = null;
+			endMotion();
+			changeViewPosition(motion.getToX(), motion.getToY());
+			onViewPositionChanged(motion.getToX(), motion.getToY());
+			if (listener != null) {
+				listener.onAnimationEnd(animation);
+			}
+			onMoveCompleted();
+		}
+
+	}
+
+	/**
+	 * Physics frame listener class
+	 * <p>
+	 * Advances the physics motion by the time elapsed since the previous display frame
+	 * and visually moves the view by the motion offset until the view comes to rest
+	 */
+	private class PhysicsFrameListener implements FrameScheduler.FrameListener {
+
+		/**
+		 * An external animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Time of the previous display frame in nanoseconds or {@code zero} if no frame
+		 * is dispatched yet
+		 */
+		private long lastFrameTimeNanos;
+
+		/**
+		 * Whether the external animation listener is to be notified about the start
+		 */
+		private boolean startPending;
+
+		/**
+		 * Prepares the listener for the next physics move
+		 *
+		 * @param animationListener an external animation listener, may be {@code null}
+		 */
+		private void start(Animation.AnimationListener animationListener) {
+			this.animationListener = animationListener;
+			this.lastFrameTimeNanos = 0L;
+			this.startPending = true;
+		}
+
+		/**
+		 * Prepares the listener for the resumed physics move, which is advanced from
+		 * the next display frame
+		 */
+		private void resume() {
+			this.lastFrameTimeNanos = 0L;
+		}
+
+		/**
+		 * Is called on each display frame of the physics move
+		 * <p>
+		 * The external animation listener is notified about the start on the first frame
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return true while the physics move is in progress and not paused, otherwise false
+		 */
+		@Override
+		public boolean onFrame(long frameTimeNanos) {
+			if (moveState != MOVE_STATE_SETTLING || movePaused) {
+				return false;
+			}
+			if (lastFrameTimeNanos == 0L) {
+				lastFrameTimeNanos = frameTimeNanos;
+				if (startPending) {
+					startPending = false;
+					if (animationListener != null) {
+						animationListener.onAnimationStart(null);
+					}
+				}
+				return true;
+			}
+			float elapsedTime = FrameTiming.elapsedSeconds(lastFrameTimeNanos, frameTimeNanos);
+			lastFrameTimeNanos = frameTimeNanos;
+			if (physicsMotion.advance(elapsedTime)) {
+				completePhysicsMove();
+				return moveState == MOVE_STATE_SETTLING;
+			}
+			int culling = checkCulling(physicsMotion.getX(), physicsMotion.getY());
+			if (culling == CULLING_MOVE) {
+				MoveStats.onMoveCulled();
+				completePhysicsMove();
+				return moveState == MOVE_STATE_SETTLING;
+			}
+			if (culling == CULLING_FRAME) {
+				MoveStats.onFrameCulled();
+			} else {
+				applyFrameOffset(physicsMotion.getX(), physicsMotion.getY());
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * Tween frame listener class
+	 * <p>
+	 * Advances the motion of the current move by the time elapsed since the move started,
+	 * measured with the vsync timestamps of the display frames, and visually moves the view
+	 * by the motion offset until the move duration is reached
+	 * <p>
+	 * Since the motion fraction depends on the frame time only, the move catches up after
+	 * a skipped frame and takes the same time at any display refresh rate
+	 */
+	private class TweenFrameListener implements FrameScheduler.FrameListener {
+
+		/**
+		 * An external animation listener
+		 */
+		private Animation.AnimationListener animationListener;
+
+		/**
+		 * Move duration in ms
+		 */
+		private long duration;
+
+		/**
+		 * Time of the display frame the move is timed from in nanoseconds or {@code zero}
+		 * if no frame is dispatched yet
+		 */
+		private long startFrameTimeNanos;
+
+		/**
+		 * Linear fraction of the move duration the move is timed from
+		 */
+		private float startFraction;
+
+		/**
+		 * Whether the external animation listener is to be notified about the start
+		 */
+		private boolean startPending;
+
+		/**
+		 * Prepares the listener for the started or retargeted move
+		 * <p>
+		 * The retargeted move is timed from the next display frame, since its motion
+		 * continues from the current offset
+		 *
+		 * @param duration move duration in ms
+		 * @param animationListener an external animation listener, may be {@code null}
+		 */
+		private void start(long duration, Animation.AnimationListener animationListener) {
+			this.duration = duration;
+			this.animationListener = animationListener;
+			this.startFrameTimeNanos = 0L;
+			this.startFraction = 0.0f;
+			this.startPending = true;
+		}
+
+		/**
+		 * Times the move from the given fraction of its duration starting with the next display frame
+		 *
+		 * @param fraction linear fraction of the move duration from {@code 0} to {@code 1}
+		 */
+		private void seek(float fraction) {
+			this.startFrameTimeNanos = 0L;
+			this.startFraction = fraction;
+		}
+
+		/**
+		 * Checks whether the view is being currently moved by the tween motion driven by
+		 * display frames, which is not paused
+		 *
+		 * @return true if the frame driven tween motion is in progress, otherwise false
+		 */
+		private boolean isFrameDrivenMotionInProgress() {
+			return moveState == MOVE_STATE_MOVING && motionFrameDriven && !movePaused;
+		}
+
+		/**
+		 * Is called on each display frame of the frame driven move
+		 * <p>
+		 * The external animation listener is notified about the start on the first frame
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return true while the frame driven move is in progress and not paused, otherwise false
+		 */
+		@Override
+		public boolean onFrame(long frameTimeNanos) {
+			if (!isFrameDrivenMotionInProgress()) {
+				return false;
+			}
+			if (startFrameTimeNanos == 0L) {
+				startFrameTimeNanos = frameTimeNanos;
+				if (startPending) {
+					startPending = false;
+					if (animationListener != null) {
+						animationListener.onAnimationStart(null);
+					}
+				}
+			}
+			float fraction = Math.min(startFraction + FrameTiming.fraction(
+					FrameTiming.elapsedMillis(startFrameTimeNanos, frameTimeNanos), duration), 1.0f);
+			if (fraction >= 1.0f) {
+				completeTweenFrameMove();
+				return isFrameDrivenMotionInProgress();
+			}
+			updateMotion(fraction);
+			int culling = checkCulling(motion.getX(), motion.getY());
+			if (culling == CULLING_MOVE) {
+				MoveStats.onMoveCulled();
+				completeTweenFrameMove();
+				return isFrameDrivenMotionInProgress();
+			}
+			if (culling == CULLING_FRAME) {
+				MoveStats.onFrameCulled();
+			} else {
+				applyFrameOffset(motion.getX(), motion.getY());
 			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * Bounds invalidator class
+	 * <p>
+	 * Invalidates the bounds snapshot when the view or its parent container is laid out
+	 * with changed bounds, and stops listening once the view is detached or is no longer
+	 * the child of the observed parent container
+	 */
+	@TargetApi(Build.VERSION_CODES.HONEYCOMB_MR1)
+	private class BoundsInvalidator implements View.OnLayoutChangeListener, View.OnAttachStateChangeListener {
+
+		@Override
+		public void onLayoutChange(View v, int left, int top, int right, int bottom,
+		                           int oldLeft, int oldTop, int oldRight, int oldBottom) {
+			if (v == observedParentView && view.getParent() != v) {
+				stopObservingLayoutChanges();
+			} else if (left != oldLeft || top != oldTop || right != oldRight || bottom != oldBottom) {
+				boundsValid = false;
+			}
+		}
+
+		@Override
+		public void onViewAttachedToWindow(View v) {
+		}
+
+		@Override
+		public void onViewDetachedFromWindow(View v) {
+			stopObservingLayoutChanges();
 		}
 
 	}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewParent;
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.R;
+import com.scalified.viewmover.configuration.EdgePolicy;
+import com.scalified.viewmover.core.InterpolationTable;
+import com.scalified.viewmover.core.MotionBatch;
+import com.scalified.viewmover.core.MoveBounds;
+import com.scalified.viewmover.interpolation.SampledInterpolator;
+import com.scalified.viewmover.tracing.Tracing;
+
+import java.util.Arrays;
+
+/**
+ * Engine class, which moves hundreds of views at once
+ * <p>
+ * Unlike {@link ViewMoverGroup} no view mover, animation or listener is created per view.
+ * The motions of all the views are kept in parallel primitive arrays of the
+ * {@link MotionBatch} and are stepped by a single frame callback, which writes the view's
+ * translation properties. The slots of the completed moves are reused by the next ones,
+ * so that the per-frame cost is flat and no objects are allocated per move once the
+ * engine has grown to the number of views moved at once
+ * <p>
+ * The views are moved by their translation, so that no layout is requested neither
+ * while moving nor when the moves complete. The same interpolator is applied to all
+ * the moves, it is sampled once. A move requested for the view, which is being moved,
+ * retargets its current move keeping its velocity. The slot of the view being moved is
+ * kept in the view's tag, so that it is found in constant time regardless of the number
+ * of the views being moved
+ * <p>
+ * Requires {@code TargetApi} {@link android.os.Build.VERSION_CODES#HONEYCOMB} and higher.
+ * The views moved by the engine must not be moved by other means meanwhile.
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@TargetApi(Build.VERSION_CODES.HONEYCOMB)
+public final class ViewMoverEngine {
+
+	/**
+	 * Motions of the views
+	 */
+	private final MotionBatch batch;
+
+	/**
+	 * Frame listener, which drives all the motions
+	 */
+	private final EngineFrameListener frameListener = new EngineFrameListener();
+
+	/**
+	 * Bounds, which are reused to verify the move deltas
+	 */
+	private final MoveBounds bounds = new MoveBounds();
+
+	/**
+	 * Views of the motions, parallel to the slots of the motion batch
+	 */
+	private View[] views;
+
+	/**
+	 * Tags of the slots, which are set to the views being moved, parallel to the slots
+	 * of the motion batch. Are created once per slot and reused by the next motions
+	 */
+	private SlotTag[] slotTags;
+
+	/**
+	 * Easing curve applied to all the motions
+	 */
+	private InterpolationTable easing = SampledInterpolator.tableOf(ViewMover.DEFAULT_INTERPOLATOR);
+
+	/**
+	 * Policy, which is applied when the view can't be moved at the requested delta
+	 */
+	private EdgePolicy edgePolicy = EdgePolicy.CANCEL_AXIS;
+
+	/**
+	 * Listener, which is notified when the move completes, may be {@code null}
+	 */
+	private MoveEndListener moveEndListener;
+
+	/**
+	 * Whether the frame listener is registered
+	 */
+	private boolean frameRequested;
+
+	/**
+	 * Creates the {@link ViewMoverEngine} instance
+	 *
+	 * @param capacity expected number of the views moved at once, the engine grows if
+	 *                 more views are moved
+	 * @throws UnsupportedOperationException if called prior to
+	 *                                       {@link android.os.Build.VERSION_CODES#HONEYCOMB}
+	 */
+	public ViewMoverEngine(int capacity) {
+		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+			throw new UnsupportedOperationException("View mover engine requires Honeycomb or higher");
+		}
+		this.batch = new MotionBatch(capacity);
+		this.views = new View[capacity];
+		this.slotTags = new SlotTag[capacity];
+	}
+
+	/**
+	 * Sets the interpolator applied to all the moves, which start after this call
+	 * <p>
+	 * The interpolator is sampled once, so it must be stateless
+	 *
+	 * @param interpolator interpolator, {@code null} for the default one
+	 */
+	public void setInterpolator(Interpolator interpolator) {
+		easing = SampledInterpolator.tableOf(interpolator != null ? interpolator : ViewMover.DEFAULT_INTERPOLATOR);
+	}
+
+	/**
+	 * Sets the policy, which is applied when the view can't be moved at the requested delta
+	 * <p>
+	 * By default set to {@link EdgePolicy#CANCEL_AXIS}
+	 *
+	 * @param edgePolicy edge policy
+	 */
+	public void setEdgePolicy(EdgePolicy edgePolicy) {
+		if (edgePolicy == null) {
+			throw new IllegalArgumentException("Edge policy must not be null");
+		}
+		this.edgePolicy = edgePolicy;
+	}
+
+	/**
+	 * Sets the listener, which is notified when the move of each view completes
+	 *
+	 * @param moveEndListener move end listener, may be {@code null}
+	 */
+	public void setMoveEndListener(MoveEndListener moveEndListener) {
+		this.moveEndListener = moveEndListener;
+	}
+
+	/**
+	 * Moves the view at the given deltas
+	 * <p>
+	 * The deltas are verified against the view's parent container. If the view is being
+	 * moved, the deltas are added to the target of its current move, which then continues
+	 * from the view's current position. The view, which has no parent container, e.g. is
+	 * detached, is not moved
+	 *
+	 * @param view view to move
+	 * @param xAxisDelta X-axis delta in actual pixels
+	 * @param yAxisDelta Y-axis delta in actual pixels
+	 * @param duration move duration in ms
+	 * @return true if the move started, otherwise false
+	 */
+	public boolean move(View view, float xAxisDelta, float yAxisDelta, long duration) {
+		ViewParent viewParent = view.getParent();
+		if (!(viewParent instanceof View)) {
+			Tracing.warn(ViewMoverEngine.class, "Unable to move the view. View has no parent container");
+			return false;
+		}
+		View parent = (View) viewParent;
+		int slot = findSlot(view);
+		float fromX = slot < 0 ? view.getTranslationX() : batch.getToX(slot);
+		float fromY = slot < 0 ? view.getTranslationY() : batch.getToY(slot);
+		bounds.set((int) (view.getLeft() + fromX), (int) (view.getTop() + fromY), (int) (view.getRight() + fromX),
+				(int) (view.getBottom() + fromY), parent.getWidth(), parent.getHeight());
+		boolean clamp = edgePolicy == EdgePolicy.CLAMP;
+		float verifiedXAxisDelta = bounds.verifyXAxisDelta(xAxisDelta, clamp);
+		float verifiedYAxisDelta = bounds.verifyYAxisDelta(yAxisDelta, clamp);
+		if (verifiedXAxisDelta == 0.0f && verifiedYAxisDelta == 0.0f) {
+			Tracing.warn(ViewMoverEngine.class, "Unable to move the view. No space left to move");
+			return false;
+		}
+		if (slot < 0) {
+			slot = batch.add(fromX, fromY, fromX + verifiedXAxisDelta, fromY + verifiedYAxisDelta, duration);
+			if (slot == views.length) {
+				views = Arrays.copyOf(views, views.length * 2);
+				slotTags = Arrays.copyOf(slotTags, slotTags.length * 2);
+			}
+			if (slotTags[slot] == null) {
+				slotTags[slot] = new SlotTag(this, slot);
+			}
+			views[slot] = view;
+			view.setTag(R.id.viewmover_engine_slot, slotTags[slot]);
+		} else {
+			batch.retarget(slot, fromX + verifiedXAxisDelta, fromY + verifiedYAxisDelta, duration);
+		}
+		if (!frameRequested) {
+			frameRequested = true;
+			FrameScheduler.getInstance().addFrameListener(frameListener);
+		}
+		return true;
+	}
+
+	/**
+	 * Cancels the move of the view, leaving the view at its current position
+	 * <p>
+	 * The move end listener is not notified
+	 *
+	 * @param view view, which move to cancel
+	 */
+	public void cancel(View view) {
+		int slot = findSlot(view);
+		if (slot >= 0) {
+			release(slot);
+		}
+	}
+
+	/**
+	 * Returns the number of the views being currently moved
+	 *
+	 * @return number of the views being currently moved
+	 */
+	public int getActiveCount() {
+		return batch.getActiveCount();
+	}
+
+	/**
+	 * Returns the slot of the view's motion from the view's tag
+	 *
+	 * @param view view, which slot to return
+	 * @return slot of the view's motion or {@code -1} if the view is not being moved
+	 */
+	private int findSlot(View view) {
+		Object tag = view.getTag(R.id.viewmover_engine_slot);
+		if (tag instanceof SlotTag) {
+			SlotTag slotTag = (SlotTag) tag;
+			if (slotTag.engine == this && views[slotTag.slot] == view) {
+				return slotTag.slot;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes the motion and clears the tag of its view
+	 *
+	 * @param slot slot of the motion
+	 */
+	private void release(int slot) {
+		batch.remove(slot);
+		views[slot].setTag(R.id.viewmover_engine_slot, null);
+		views[slot] = null;
+	}
+
+	/**
+	 * Tag class, which refers to the slot of the view being moved by the engine
+	 */
+	private static final class SlotTag {
+
+		/**
+		 * Engine, which moves the view
+		 */
+		private final ViewMoverEngine engine;
+
+		/**
+		 * Slot of the view's motion
+		 */
+		private final int slot;
+
+		/**
+		 * Creates the {@link SlotTag} instance
+		 *
+		 * @param engine engine, which moves the view
+		 * @param slot slot of the view's motion
+		 */
+		private SlotTag(ViewMoverEngine engine, int slot) {
+			this.engine = engine;
+			this.slot = slot;
+		}
+
+	}
+
+	/**
+	 * Listener interface, which is notified when the move of the view completes
+	 */
+	public interface MoveEndListener {
+
+		/**
+		 * Is called when the move of the view completes
+		 *
+		 * @param view moved view
+		 */
+		void onMoveEnd(View view);
+
+	}
+
+	/**
+	 * Frame listener class, which steps all the motions and writes the view's translation
+	 * properties on each display frame
+	 */
+	private class EngineFrameListener implements FrameScheduler.FrameListener {
+
+		/**
+		 * Is called on each display frame
+		 * <p>
+		 * The slots of the completed moves are freed before the move end listener is
+		 * notified, so that the listener may start the next move of the view
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return true while any view is being moved, otherwise false
+		 */
+		@Override
+		public boolean onFrame(long frameTimeNanos) {
+			batch.step(frameTimeNanos, easing);
+			for (int slot = 0; slot < batch.getSlotCount(); slot++) {
+				if (!batch.isActive(slot)) {
+					continue;
+				}
+				View view = views[slot];
+				view.setTranslationX(batch.getX(slot));
+				view.setTranslationY(batch.getY(slot));
+				MoveStats.onFrame();
+				if (batch.isEnded(slot)) {
+					release(slot);
+					MoveStats.onPositionChanged();
+					if (moveEndListener != null) {
+						moveEndListener.onMoveEnd(view);
+					}
+				}
+			}
+			frameRequested = batch.getActiveCount() > 0;
+			if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+				Tracing.trace(ViewMoverEngine.class, "Frame stepped, {} views are being moved", batch.getActiveCount());
+			}
+			return frameRequested;
+		}
+
+	}
+
+}
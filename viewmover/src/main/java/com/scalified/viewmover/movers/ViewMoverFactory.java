@@ -18,44 +18,301 @@ package com.scalified.viewmover.movers;
 
 import android.os.Build;
 import android.view.View;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
+import android.widget.RelativeLayout;
+import com.scalified.viewmover.R;
+import com.scalified.viewmover.configuration.MoverStrategy;
+import com.scalified.viewmover.tracing.Tracing;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * A factory class, which creates view mover instances
- * depending on the {@code BUILD VERSION}
+ * depending on the {@code BUILD VERSION} and the view's parent container
+ * <p>
+ * The cheapest {@link MoverStrategy}, which correctly moves the view, is chosen based on
+ * the capabilities of the platform and the layout class of the view's parent container.
+ * The strategy chosen for the parent container class is cached, so that creating the
+ * view movers for the views of the same parent container class looks the strategy up
+ * only once. The strategies for custom parent containers may be registered by calling
+ * {@link #registerStrategy(Class, MoverStrategy)}
+ * <p>
+ * The view movers returned by {@link #getInstance(View)} are cached per view, so that
+ * repeat interactions with the same view reuse its view mover. For {@code TargetApi}
+ * {@link android.os.Build.VERSION_CODES#ICE_CREAM_SANDWICH} and higher the view mover is
+ * kept in the view's tag. Prior to it the keyed view tags are held by a static map, which
+ * never releases the view referenced by its own view mover, hence the view movers are kept
+ * in the weak-keyed registry, which references them weakly as well
+ * <p>
+ * Must be used on the main thread only
  *
  * @author shell
- * @version 1.0.0
+ * @version 1.2.0
  * @since 1.0.0
  */
 public abstract class ViewMoverFactory {
 
 	/**
-	 * Logger
+	 * Strategies registered for the parent container classes
+	 */
+	private static final Map<Class<?>, MoverStrategy> REGISTERED_STRATEGIES = new HashMap<Class<?>, MoverStrategy>();
+
+	/**
+	 * View movers of the views prior to {@link android.os.Build.VERSION_CODES#ICE_CREAM_SANDWICH},
+	 * created on the first use
+	 */
+	private static Map<View, WeakReference<ViewMover>> cachedMovers;
+
+	/**
+	 * Strategies chosen for the parent container classes
 	 */
-	private static final Logger LOGGER = LoggerFactory.getLogger(ViewMoverFactory.class);
+	private static final Map<Class<?>, MoverStrategy> CACHED_STRATEGIES = new HashMap<Class<?>, MoverStrategy>();
 
 	/**
 	 * Creates the {@link ViewMover} subclasses depending on the
-	 * {@code BUILD VERSION}
+	 * {@code BUILD VERSION} and the view's parent container
 	 *
 	 * @param view view to be moved
 	 * @return specific view mover
 	 */
 	public static ViewMover createInstance(View view) {
+		return createInstance(view, false);
+	}
+
+	/**
+	 * Creates the {@link ViewMover} subclasses depending on the
+	 * {@code BUILD VERSION} and the view's parent container
+	 * <p>
+	 * If layout-free movers are requested, the view mover, which is based on view's margins,
+	 * moves the view by offsetting it instead of requesting a layout after each move, i.e.
+	 * {@link MoverStrategy#OFFSET} replaces {@link MoverStrategy#MARGIN}.
+	 * Other view movers never request a layout, hence this flag has no effect on them.
+	 * The views within the known parent containers, which position them by their margins,
+	 * are moved by offsetting regardless of this flag, unless {@link MoverStrategy#MARGIN}
+	 * is registered for the parent container by calling {@link #registerStrategy(Class, MoverStrategy)}
+	 *
+	 * @param view view to be moved
+	 * @param layoutFree true to create the view mover, which doesn't request a layout
+	 *                   after each move, otherwise false
+	 * @return specific view mover
+	 */
+	public static ViewMover createInstance(View view, boolean layoutFree) {
+		MoverStrategy strategy = getStrategy(view);
+		if (layoutFree && strategy == MoverStrategy.MARGIN) {
+			strategy = MoverStrategy.OFFSET;
+		}
 		ViewMover viewMover;
-		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN
-				// KitKat is an exclusion because of its rendering issues
-				&& Build.VERSION.SDK_INT != Build.VERSION_CODES.KITKAT) {
+		switch (strategy) {
+			case PROPERTY:
+				viewMover = new PropertyViewMover(view);
+				break;
+			case TRANSLATION:
+				viewMover = new PositionViewMover(view);
+				break;
+			case OFFSET:
+				viewMover = new MarginViewMover(view, true);
+				break;
+			default:
+				viewMover = new MarginViewMover(view, false);
+				break;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMoverFactory.class, "Build version code is: {}. {} strategy is chosen, {} will be returned",
+					Build.VERSION.SDK_INT, strategy, viewMover.getClass().getSimpleName());
+		}
+		return viewMover;
+	}
 
-			viewMover = new PositionViewMover(view);
-		} else {
-			viewMover = new MarginViewMover(view);
+	/**
+	 * Returns the view mover of the view, creating it on the first call
+	 * <p>
+	 * The view mover is kept in the view's tag, or in the weak-keyed registry prior to
+	 * {@link android.os.Build.VERSION_CODES#ICE_CREAM_SANDWICH}, so that it is released
+	 * together with the view, and no global strong reference to the view is held. The view
+	 * mover is created for the view's parent container at the first call
+	 * <p>
+	 * Prior to {@link android.os.Build.VERSION_CODES#ICE_CREAM_SANDWICH} the idle view mover,
+	 * which is not referenced elsewhere, may be collected and created anew by the next call
+	 *
+	 * @param view view to be moved
+	 * @return view mover of the view
+	 */
+	public static ViewMover getInstance(View view) {
+		return getInstance(view, false);
+	}
+
+	/**
+	 * Returns the view mover of the view, creating it on the first call
+	 *
+	 * @param view view to be moved
+	 * @param layoutFree true to create the view mover, which doesn't request a layout
+	 *                   after each move, otherwise false. Used when the view mover is created only
+	 * @return view mover of the view
+	 * @see #getInstance(View)
+	 * @see #createInstance(View, boolean)
+	 */
+	public static ViewMover getInstance(View view, boolean layoutFree) {
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+			Object tag = view.getTag(R.id.viewmover_mover);
+			if (tag instanceof ViewMover) {
+				return (ViewMover) tag;
+			}
+			ViewMover viewMover = createInstance(view, layoutFree);
+			view.setTag(R.id.viewmover_mover, viewMover);
+			return viewMover;
+		}
+		if (cachedMovers == null) {
+			cachedMovers = new WeakHashMap<View, WeakReference<ViewMover>>();
+		}
+		WeakReference<ViewMover> reference = cachedMovers.get(view);
+		ViewMover viewMover = reference != null ? reference.get() : null;
+		if (viewMover == null) {
+			viewMover = createInstance(view, layoutFree);
+			cachedMovers.put(view, new WeakReference<ViewMover>(viewMover));
 		}
-		LOGGER.trace("Build version code is: {}. {} will be returned",
-				Build.VERSION.SDK_INT, viewMover.getClass().getSimpleName());
 		return viewMover;
 	}
 
+	/**
+	 * Returns the strategy, which the view mover created for the view moves the view by
+	 * <p>
+	 * The strategy is looked up by the class of the view's parent container: the strategy
+	 * registered for the class or its nearest superclass is returned if supported by the
+	 * platform, otherwise the cheapest supported one, which correctly moves the view within
+	 * the parent container. Since the margin based strategies require the view's layout
+	 * params to contain margins, the view's layout params are checked on each call
+	 *
+	 * @param view view to be moved
+	 * @return strategy of the view mover
+	 */
+	public static MoverStrategy getStrategy(View view) {
+		ViewParent parent = view.getParent();
+		MoverStrategy strategy;
+		if (parent == null) {
+			strategy = resolveStrategy(null);
+		} else {
+			strategy = CACHED_STRATEGIES.get(parent.getClass());
+			if (strategy == null) {
+				strategy = resolveStrategy(parent.getClass());
+				CACHED_STRATEGIES.put(parent.getClass(), strategy);
+			}
+		}
+		if (isMarginBased(strategy) && !(view.getLayoutParams() instanceof ViewGroup.MarginLayoutParams)) {
+			if (isSupported(MoverStrategy.TRANSLATION)) {
+				return MoverStrategy.TRANSLATION;
+			}
+			Tracing.warn(ViewMoverFactory.class, "View layout params contain no margins. View may not be moved");
+		}
+		return strategy;
+	}
+
+	/**
+	 * Registers the strategy for the views within the parent containers of the given class
+	 * and its subclasses
+	 * <p>
+	 * Replaces the strategy registered for the same class before. If the strategy is not
+	 * supported by the platform, the cheapest supported one is chosen instead
+	 *
+	 * @param parentClass class of the parent container
+	 * @param strategy strategy to register
+	 * @throws IllegalArgumentException if any of the arguments is {@code null}
+	 */
+	public static void registerStrategy(Class<? extends ViewGroup> parentClass, MoverStrategy strategy) {
+		if (parentClass == null || strategy == null) {
+			throw new IllegalArgumentException("Parent class and strategy must not be null");
+		}
+		REGISTERED_STRATEGIES.put(parentClass, strategy);
+		CACHED_STRATEGIES.clear();
+	}
+
+	/**
+	 * Checks whether the strategy is supported by the platform
+	 *
+	 * @param strategy strategy to check
+	 * @return true if the strategy is supported, otherwise false
+	 */
+	public static boolean isSupported(MoverStrategy strategy) {
+		switch (strategy) {
+			case PROPERTY:
+				return Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP;
+			case TRANSLATION:
+				return Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Chooses the strategy for the views within the parent containers of the given class
+	 * <p>
+	 * Where neither property animation nor translation may be used, the views within the
+	 * parent containers, which position them by their margins, are moved by offsetting,
+	 * since it is cheaper than changing the margins and produces the same layout. The
+	 * margin based strategy remains for the unknown parent containers only
+	 *
+	 * @param parentClass class of the parent container or {@code null} if unknown
+	 * @return chosen strategy
+	 */
+	private static MoverStrategy resolveStrategy(Class<?> parentClass) {
+		for (Class<?> c = parentClass; c != null; c = c.getSuperclass()) {
+			MoverStrategy registered = REGISTERED_STRATEGIES.get(c);
+			if (registered != null) {
+				if (isSupported(registered)) {
+					return registered;
+				}
+				if (Tracing.ENABLED && Tracing.isEnabled()) {
+					Tracing.warn(ViewMoverFactory.class, "Registered strategy " + registered
+							+ " is not supported. Choosing another one");
+				}
+				break;
+			}
+		}
+		if (isSupported(MoverStrategy.PROPERTY)) {
+			return MoverStrategy.PROPERTY;
+		}
+		boolean marginPositioned = parentClass == null || isMarginPositioned(parentClass);
+		if (isSupported(MoverStrategy.TRANSLATION)
+				// KitKat is an exclusion because of its rendering issues
+				&& (Build.VERSION.SDK_INT != Build.VERSION_CODES.KITKAT || !marginPositioned)) {
+			return MoverStrategy.TRANSLATION;
+		}
+		if (parentClass == null) {
+			return MoverStrategy.MARGIN;
+		}
+		if (!marginPositioned) {
+			if (Tracing.ENABLED && Tracing.isEnabled()) {
+				Tracing.warn(ViewMoverFactory.class, parentClass.getSimpleName()
+						+ " doesn't position the views by margins. Views may not be moved as expected");
+			}
+			return MoverStrategy.MARGIN;
+		}
+		// margins are written back without requesting a layout after each move
+		return MoverStrategy.OFFSET;
+	}
+
+	/**
+	 * Checks whether the parent containers of the given class position the views by their margins
+	 *
+	 * @param parentClass class of the parent container
+	 * @return true if the views are positioned by their margins, otherwise false
+	 */
+	private static boolean isMarginPositioned(Class<?> parentClass) {
+		return FrameLayout.class.isAssignableFrom(parentClass) || RelativeLayout.class.isAssignableFrom(parentClass);
+	}
+
+	/**
+	 * Checks whether the strategy moves the view by changing its margins
+	 *
+	 * @param strategy strategy to check
+	 * @return true if the strategy is margin based, otherwise false
+	 */
+	private static boolean isMarginBased(MoverStrategy strategy) {
+		return strategy == MoverStrategy.OFFSET || strategy == MoverStrategy.MARGIN;
+	}
+
 }
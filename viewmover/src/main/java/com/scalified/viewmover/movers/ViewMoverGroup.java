@@ -0,0 +1,393 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.Interpolator;
+import com.scalified.viewmover.configuration.MovingParams;
+import com.scalified.viewmover.core.FrameTiming;
+import com.scalified.viewmover.tracing.Tracing;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class, which moves several views at once
+ * <p>
+ * All the views are moved by a single frame callback, so that they share the same
+ * timing. When all the moves complete, the resulting view positions are changed in a
+ * single batch, so that each parent container is requested to layout at most once,
+ * no matter how many of its children were moved
+ * <p>
+ * Since no view animation is involved, animation listeners of the moving params
+ * receive {@code null} as an animation argument
+ * <p>
+ * The view movers of the moved views are marked as moving while the group moves them,
+ * so that the moves requested on them meanwhile are queued or dropped. The views, which
+ * are being currently moved when the group move starts, are skipped
+ * <p>
+ * Must be used on the main thread only
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class ViewMoverGroup {
+
+	/**
+	 * Entries of the views to be moved
+	 */
+	private final List<Entry> entries = new ArrayList<Entry>();
+
+	/**
+	 * Parent containers, which must be requested to layout after the moves complete
+	 */
+	private final List<View> parentsToLayout = new ArrayList<View>();
+
+	/**
+	 * Animation listeners, which must be notified after the moves complete
+	 */
+	private final List<Animation.AnimationListener> endListeners = new ArrayList<Animation.AnimationListener>();
+
+	/**
+	 * Frame listener, which drives all the moves
+	 */
+	private final GroupFrameListener frameListener = new GroupFrameListener();
+
+	/**
+	 * Whether the views are being currently moved
+	 */
+	private boolean moving;
+
+	/**
+	 * Adds the view to be moved based on the {@link MovingParams}
+	 * <p>
+	 * If the view is already added, its moving params are replaced
+	 *
+	 * @param view view to be moved
+	 * @param params params of the move action
+	 * @return this group
+	 */
+	public ViewMoverGroup add(View view, MovingParams params) {
+		Entry entry = findEntry(view);
+		if (entry == null) {
+			entries.add(new Entry(ViewMoverFactory.getInstance(view), params));
+		} else {
+			entry.params = params;
+		}
+		return this;
+	}
+
+	/**
+	 * Removes the view from the group
+	 * <p>
+	 * Does nothing if the views are being currently moved
+	 *
+	 * @param view view to be removed
+	 * @return this group
+	 */
+	public ViewMoverGroup remove(View view) {
+		if (isMovingWarned()) {
+			return this;
+		}
+		Entry entry = findEntry(view);
+		if (entry != null) {
+			entries.remove(entry);
+		}
+		return this;
+	}
+
+	/**
+	 * Removes all the views from the group
+	 * <p>
+	 * Does nothing if the views are being currently moved
+	 */
+	public void clear() {
+		if (!isMovingWarned()) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of views in the group
+	 *
+	 * @return number of views in the group
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Checks whether the views are being currently moved
+	 *
+	 * @return true if the views are being currently moved, otherwise false
+	 */
+	public boolean isMoving() {
+		return moving;
+	}
+
+	/**
+	 * Moves all the views of the group based on their {@link MovingParams}
+	 * <p>
+	 * The move deltas are verified the same way as {@link ViewMover#move(MovingParams)} does.
+	 * Does nothing if the views are being currently moved
+	 */
+	public void move() {
+		if (isMovingWarned()) {
+			return;
+		}
+		int activeCount = 0;
+		for (int i = 0; i < entries.size(); i++) {
+			if (entries.get(i).prepare()) {
+				activeCount++;
+			}
+		}
+		if (activeCount == 0) {
+			Tracing.warn(ViewMoverGroup.class, "Zero movement detected. No views will be moved");
+			return;
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMoverGroup.class, "{} views are about to be moved", activeCount);
+		}
+		moving = true;
+		frameListener.startTimeNanos = -1L;
+		FrameScheduler.getInstance().addFrameListener(frameListener);
+	}
+
+	/**
+	 * Checks whether the views are being currently moved and logs a warning if so
+	 *
+	 * @return true if the views are being currently moved, otherwise false
+	 */
+	private boolean isMovingWarned() {
+		if (moving) {
+			Tracing.warn(ViewMoverGroup.class, "Unable to change the group. Views are being currently moving");
+		}
+		return moving;
+	}
+
+	/**
+	 * Returns the entry of the view
+	 *
+	 * @param view view, which entry to return
+	 * @return entry of the view or {@code null} if the view is not added
+	 */
+	private Entry findEntry(View view) {
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			if (entry.mover.getView() == view) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Changes the resulting positions of all the moved views and requests
+	 * the layout of each affected parent container once
+	 * <p>
+	 * The view movers are marked idle, and start their queued moves if any, once
+	 * their view positions are changed
+	 */
+	private void changeViewPositions() {
+		for (int i = 0; i < entries.size(); i++) {
+			Entry entry = entries.get(i);
+			if (entry.active) {
+				entry.mover.endFrameMove();
+				if (entry.mover.changeViewPositionWithoutLayout(entry.xAxisDelta, entry.yAxisDelta)) {
+					View parent = entry.mover.getParentView();
+					if (!parentsToLayout.contains(parent)) {
+						parentsToLayout.add(parent);
+					}
+				}
+				entry.mover.onViewPositionChanged(entry.xAxisDelta, entry.yAxisDelta);
+				entry.mover.endGroupMove();
+			}
+		}
+		for (int i = 0; i < parentsToLayout.size(); i++) {
+			parentsToLayout.get(i).requestLayout();
+			MoveStats.onLayoutRequested();
+		}
+		if (Tracing.ENABLED && Tracing.isTraceEnabled()) {
+			Tracing.trace(ViewMoverGroup.class, "Layout requested for {} parent containers", parentsToLayout.size());
+		}
+		parentsToLayout.clear();
+	}
+
+	/**
+	 * Entry class, which contains the details of the view to be moved
+	 */
+	private static class Entry {
+
+		/**
+		 * View mover of the view
+		 */
+		private final ViewMover mover;
+
+		/**
+		 * Params of the move action
+		 */
+		private MovingParams params;
+
+		/**
+		 * Verified X-axis delta in actual pixels
+		 */
+		private float xAxisDelta;
+
+		/**
+		 * Verified Y-axis delta in actual pixels
+		 */
+		private float yAxisDelta;
+
+		/**
+		 * Whether the view is being moved within the current group move
+		 */
+		private boolean active;
+
+		/**
+		 * Creates an instance of the {@link com.scalified.viewmover.movers.ViewMoverGroup.Entry}
+		 *
+		 * @param mover view mover of the view
+		 * @param params params of the move action
+		 */
+		private Entry(ViewMover mover, MovingParams params) {
+			this.mover = mover;
+			this.params = params;
+		}
+
+		/**
+		 * Verifies the move deltas and prepares the view to be moved
+		 * <p>
+		 * The view, which is being currently moved by its view mover or by another group,
+		 * is skipped
+		 *
+		 * @return true if the view is to be moved, otherwise false
+		 */
+		private boolean prepare() {
+			if (mover.isMoveInProgress()) {
+				Tracing.warn(ViewMoverGroup.class, "Unable to move the view within the group. " +
+						"View is being currently moving");
+				active = false;
+				return false;
+			}
+			mover.verifyDeltas(params.getXAxisDelta(), params.getYAxisDelta());
+			xAxisDelta = mover.getVerifiedXAxisDelta();
+			yAxisDelta = mover.getVerifiedYAxisDelta();
+			active = xAxisDelta != 0.0f || yAxisDelta != 0.0f;
+			if (active) {
+				mover.beginGroupMove(xAxisDelta, yAxisDelta, params.getAnimationDuration());
+			}
+			return active;
+		}
+
+		/**
+		 * Visually moves the view according to the elapsed time
+		 *
+		 * @param elapsedTime time elapsed since the moves started in ms
+		 * @return true if the move completed, otherwise false
+		 */
+		private boolean step(float elapsedTime) {
+			float fraction = FrameTiming.fraction(elapsedTime, params.getAnimationDuration());
+			Interpolator interpolator = ViewMover.getInterpolator(params);
+			float interpolation = interpolator.getInterpolation(fraction);
+			mover.applyFrameOffset(xAxisDelta * interpolation, yAxisDelta * interpolation);
+			return fraction >= 1.0f;
+		}
+
+	}
+
+	/**
+	 * Frame listener class, which drives all the moves of the group
+	 */
+	private class GroupFrameListener implements FrameScheduler.FrameListener {
+
+		/**
+		 * Time of the first frame in nanoseconds or {@code -1} if the first frame
+		 * is not dispatched yet
+		 */
+		private long startTimeNanos = -1L;
+
+		/**
+		 * Is called on each display frame
+		 * <p>
+		 * Steps all the active moves and changes the resulting view positions in a
+		 * single batch once all of them complete
+		 *
+		 * @param frameTimeNanos frame time in nanoseconds
+		 * @return true if any of the moves is still running or the next group move
+		 *         was started by an animation listener, otherwise false
+		 */
+		@Override
+		public boolean onFrame(long frameTimeNanos) {
+			if (startTimeNanos < 0L) {
+				startTimeNanos = frameTimeNanos;
+				notifyStart();
+			}
+			float elapsedTime = FrameTiming.elapsedMillis(startTimeNanos, frameTimeNanos);
+			boolean completed = true;
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				if (entry.active && !entry.step(elapsedTime)) {
+					completed = false;
+				}
+			}
+			if (completed) {
+				changeViewPositions();
+				moving = false;
+				notifyEnd();
+				return moving;
+			}
+			return true;
+		}
+
+		/**
+		 * Notifies the animation listeners of the active entries about the moves start
+		 */
+		private void notifyStart() {
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				Animation.AnimationListener listener = entry.params.getAnimationListener();
+				if (entry.active && listener != null) {
+					listener.onAnimationStart(null);
+				}
+			}
+		}
+
+		/**
+		 * Notifies the animation listeners of the active entries about the moves end
+		 * <p>
+		 * The entries are deactivated before the animation listeners are notified, since
+		 * the latter may start the next group move
+		 */
+		private void notifyEnd() {
+			for (int i = 0; i < entries.size(); i++) {
+				Entry entry = entries.get(i);
+				Animation.AnimationListener listener = entry.params.getAnimationListener();
+				if (entry.active && listener != null) {
+					endListeners.add(listener);
+				}
+				entry.active = false;
+			}
+			for (int i = 0; i < endListeners.size(); i++) {
+				endListeners.get(i).onAnimationEnd(null);
+			}
+			endListeners.clear();
+		}
+
+	}
+
+}
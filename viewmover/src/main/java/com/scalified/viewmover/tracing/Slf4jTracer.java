@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tracer, which passes the diagnostics to the {@code SLF4J Logging API}
+ * <p>
+ * Requires the {@code SLF4J Logging API} to be added to the application dependencies.
+ * Messages are logged by the loggers named after the classes they come from, at the
+ * {@code TRACE} and {@code WARN} levels
+ * <p>
+ * Trace messages are accepted if the {@code TRACE} level is enabled for the
+ * {@code com.scalified.viewmover} logger
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public class Slf4jTracer implements Tracer {
+
+	/**
+	 * Name of the logger, which the {@code TRACE} level is checked for
+	 */
+	private static final String LIBRARY_LOGGER_NAME = "com.scalified.viewmover";
+
+	/**
+	 * Logger, which the {@code TRACE} level is checked for
+	 */
+	private final Logger libraryLogger = LoggerFactory.getLogger(LIBRARY_LOGGER_NAME);
+
+	/**
+	 * Checks whether the {@code TRACE} level is enabled for the library logger
+	 *
+	 * @return true if the {@code TRACE} level is enabled, otherwise false
+	 */
+	@Override
+	public boolean isTraceEnabled() {
+		return libraryLogger.isTraceEnabled();
+	}
+
+	@Override
+	public void trace(Class<?> source, String message, Object... args) {
+		LoggerFactory.getLogger(source).trace(message, args);
+	}
+
+	@Override
+	public void warn(Class<?> source, String message) {
+		LoggerFactory.getLogger(source).warn(message);
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.tracing;
+
+/**
+ * Tracing hook, which receives the diagnostics of the library
+ * <p>
+ * Installed by calling {@link Tracing#setTracer(Tracer)}. Messages use the {@code {}}
+ * placeholders for their arguments the same way as SLF4J does
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public interface Tracer {
+
+	/**
+	 * Checks whether the trace messages are accepted
+	 * <p>
+	 * Is checked before the trace message arguments are evaluated
+	 *
+	 * @return true if the trace messages are accepted, otherwise false
+	 */
+	boolean isTraceEnabled();
+
+	/**
+	 * Is called to trace the message
+	 *
+	 * @param source class the message comes from
+	 * @param message message with {@code {}} placeholders for its arguments
+	 * @param args message arguments
+	 */
+	void trace(Class<?> source, String message, Object... args);
+
+	/**
+	 * Is called to warn about the requested action, which can't be performed
+	 *
+	 * @param source class the message comes from
+	 * @param message message
+	 */
+	void warn(Class<?> source, String message);
+
+}
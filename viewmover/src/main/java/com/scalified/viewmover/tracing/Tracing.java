@@ -0,0 +1,148 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.tracing;
+
+import com.scalified.viewmover.BuildConfig;
+
+/**
+ * Static facade of the installed {@link Tracer}
+ * <p>
+ * Tracing is compiled in the debug builds of the library only. The trace calls are
+ * guarded by the {@link #ENABLED} constant, which is {@code false} in the release builds,
+ * so that the compiler strips them together with their arguments and the release library
+ * costs nothing for tracing
+ * <p>
+ * In the debug builds the {@link Slf4jTracer} is installed by default if the
+ * {@code SLF4J Logging API} is on the classpath, otherwise no tracer is installed
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+public final class Tracing {
+
+	/**
+	 * Determines whether tracing is compiled in
+	 * <p>
+	 * Is {@code true} in the debug builds and {@code false} in the release builds of the library.
+	 * Must guard every trace call, so that the call is stripped from the release builds
+	 */
+	public static final boolean ENABLED = BuildConfig.DEBUG;
+
+	/**
+	 * Name of the {@code SLF4J Logging API} class, which is looked up to install
+	 * the default tracer
+	 */
+	private static final String SLF4J_LOGGER_FACTORY_CLASS_NAME = "org.slf4j.LoggerFactory";
+
+	/**
+	 * Installed tracer or {@code null} if tracing is disabled
+	 */
+	private static Tracer tracer = ENABLED ? createDefaultTracer() : null;
+
+	/**
+	 * Prevents instantiation
+	 */
+	private Tracing() {
+	}
+
+	/**
+	 * Creates the default tracer
+	 *
+	 * @return {@link Slf4jTracer} if the {@code SLF4J Logging API} is on the classpath,
+	 * otherwise {@code null}
+	 */
+	private static Tracer createDefaultTracer() {
+		try {
+			Class.forName(SLF4J_LOGGER_FACTORY_CLASS_NAME);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+		return new Slf4jTracer();
+	}
+
+	/**
+	 * Installs the tracer, replacing the default one
+	 * <p>
+	 * Must be called from the main thread, preferably before any view is moved.
+	 * Has no effect in the release builds, which have tracing stripped
+	 *
+	 * @param tracer tracer to install or {@code null} to disable tracing
+	 */
+	public static void setTracer(Tracer tracer) {
+		Tracing.tracer = tracer;
+	}
+
+	/**
+	 * Checks whether the tracer is installed
+	 *
+	 * @return true if tracing is compiled in and the tracer is installed, otherwise false
+	 */
+	public static boolean isEnabled() {
+		return ENABLED && tracer != null;
+	}
+
+	/**
+	 * Checks whether the trace messages are accepted by the installed tracer
+	 *
+	 * @return true if tracing is compiled in, the tracer is installed and accepts the trace
+	 * messages, otherwise false
+	 */
+	public static boolean isTraceEnabled() {
+		if (!ENABLED) {
+			return false;
+		}
+		Tracer tracer = Tracing.tracer;
+		return tracer != null && tracer.isTraceEnabled();
+	}
+
+	/**
+	 * Traces the message if the tracer is installed
+	 * <p>
+	 * Must be guarded by {@link #ENABLED} and {@link #isTraceEnabled()}, so that the call is
+	 * stripped from the release builds and the arguments are not evaluated when tracing
+	 * is disabled
+	 *
+	 * @param source class the message comes from
+	 * @param message message with {@code {}} placeholders for its arguments
+	 * @param args message arguments
+	 */
+	public static void trace(Class<?> source, String message, Object... args) {
+		Tracer tracer = Tracing.tracer;
+		if (ENABLED && tracer != null) {
+			tracer.trace(source, message, args);
+		}
+	}
+
+	/**
+	 * Warns about the requested action, which can't be performed, if the tracer is installed
+	 * <p>
+	 * Does nothing in the release builds. Must be guarded by {@link #ENABLED} and
+	 * {@link #isEnabled()} if the message is built at the call site, so that it is stripped
+	 * from the release builds and is not built when tracing is disabled
+	 *
+	 * @param source class the message comes from
+	 * @param message message
+	 */
+	public static void warn(Class<?> source, String message) {
+		Tracer tracer = Tracing.tracer;
+		if (ENABLED && tracer != null) {
+			tracer.warn(source, message);
+		}
+	}
+
+}
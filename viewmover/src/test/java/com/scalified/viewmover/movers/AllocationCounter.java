@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.scalified.viewmover.movers;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Allocation counter class, which counts the bytes allocated by the current thread
+ * <p>
+ * The bytes are read from the thread bean of the JVM. Reading them allocates on some JVMs,
+ * hence the bytes allocated by the reading itself are measured once and subtracted from
+ * each count. The counting may be paused, so that the bytes allocated by the code, which
+ * is not measured, are excluded
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+final class AllocationCounter {
+
+	/**
+	 * Thread bean, which counts the bytes allocated by the thread
+	 */
+	private final com.sun.management.ThreadMXBean threadBean;
+
+	/**
+	 * Number of the bytes allocated by reading the allocated bytes once
+	 */
+	private final long overhead;
+
+	/**
+	 * Number of the bytes allocated by the current thread when the counting was resumed
+	 */
+	private long resumeBytes;
+
+	/**
+	 * Number of the bytes counted before the counting was paused
+	 */
+	private long count;
+
+	/**
+	 * Creates the {@link AllocationCounter} instance
+	 *
+	 * @throws IllegalStateException if the JVM doesn't count the bytes allocated by the thread
+	 */
+	AllocationCounter() {
+		if (!isSupported()) {
+			throw new IllegalStateException("Thread allocated memory is not supported");
+		}
+		threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		long bytes = getAllocatedBytes();
+		overhead = getAllocatedBytes() - bytes;
+	}
+
+	/**
+	 * Checks whether the JVM counts the bytes allocated by the thread
+	 *
+	 * @return true if the JVM counts the bytes allocated by the thread, otherwise false
+	 */
+	static boolean isSupported() {
+		return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+				&& ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+				.isThreadAllocatedMemorySupported();
+	}
+
+	/**
+	 * Starts counting the allocated bytes from {@code zero}
+	 */
+	void start() {
+		count = 0L;
+		resume();
+	}
+
+	/**
+	 * Pauses counting the allocated bytes
+	 */
+	void pause() {
+		count += getAllocatedBytes() - resumeBytes - overhead;
+	}
+
+	/**
+	 * Resumes counting the allocated bytes paused by {@link #pause()}
+	 */
+	void resume() {
+		resumeBytes = getAllocatedBytes();
+	}
+
+	/**
+	 * Stops counting the allocated bytes
+	 *
+	 * @return number of the bytes allocated by the current thread while counting
+	 */
+	long stop() {
+		pause();
+		return count;
+	}
+
+	/**
+	 * Returns the number of the bytes allocated by the current thread so far
+	 *
+	 * @return number of the allocated bytes
+	 */
+	private long getAllocatedBytes() {
+		return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.content.Context;
+import android.graphics.Rect;
+import android.view.ViewParent;
+import android.widget.FrameLayout;
+
+/**
+ * Frame layout class, which counts the layout requests, the measure and layout passes, its own
+ * invalidations and the invalidations of its children
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+class CountingFrameLayout extends FrameLayout implements CountingLayout {
+
+	/**
+	 * Number of the layout requests
+	 */
+	private int layoutRequestCount;
+
+	/**
+	 * Number of the measure passes
+	 */
+	private int measureCount;
+
+	/**
+	 * Number of the layout passes
+	 */
+	private int layoutCount;
+
+	/**
+	 * Number of the invalidations
+	 */
+	private int invalidationCount;
+
+	/**
+	 * Number of the invalidations of the children
+	 */
+	private int childInvalidationCount;
+
+	/**
+	 * Creates the {@link CountingFrameLayout} instance
+	 *
+	 * @param context context
+	 */
+	CountingFrameLayout(Context context) {
+		super(context);
+	}
+
+	/**
+	 * Counts the layout request
+	 */
+	@Override
+	public void requestLayout() {
+		layoutRequestCount++;
+		super.requestLayout();
+	}
+
+	/**
+	 * Counts the measure pass
+	 */
+	@Override
+	protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+		measureCount++;
+		super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+	}
+
+	/**
+	 * Counts the layout pass
+	 */
+	@Override
+	protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+		layoutCount++;
+		super.onLayout(changed, left, top, right, bottom);
+	}
+
+	/**
+	 * Counts the invalidation
+	 */
+	@Override
+	public void invalidate() {
+		invalidationCount++;
+		super.invalidate();
+	}
+
+	/**
+	 * Counts the invalidation of the child
+	 * <p>
+	 * Is called once per invalidation of the child, since {@code invalidateChild} is final
+	 */
+	@Override
+	public ViewParent invalidateChildInParent(int[] location, Rect dirty) {
+		childInvalidationCount++;
+		return super.invalidateChildInParent(location, dirty);
+	}
+
+	/**
+	 * Returns the number of the layout requests since the counters were reset
+	 *
+	 * @return number of the layout requests
+	 */
+	@Override
+	public int getLayoutRequestCount() {
+		return layoutRequestCount;
+	}
+
+	/**
+	 * Returns the number of the measure passes since the counters were reset
+	 *
+	 * @return number of the measure passes
+	 */
+	@Override
+	public int getMeasureCount() {
+		return measureCount;
+	}
+
+	/**
+	 * Returns the number of the layout passes since the counters were reset
+	 *
+	 * @return number of the layout passes
+	 */
+	@Override
+	public int getLayoutCount() {
+		return layoutCount;
+	}
+
+	/**
+	 * Returns the number of the invalidations since the counters were reset
+	 *
+	 * @return number of the invalidations
+	 */
+	@Override
+	public int getInvalidationCount() {
+		return invalidationCount;
+	}
+
+	/**
+	 * Returns the number of the invalidations of the children since the counters were reset
+	 *
+	 * @return number of the invalidations of the children
+	 */
+	@Override
+	public int getChildInvalidationCount() {
+		return childInvalidationCount;
+	}
+
+	/**
+	 * Resets the counters
+	 */
+	@Override
+	public void resetCounts() {
+		layoutRequestCount = 0;
+		measureCount = 0;
+		layoutCount = 0;
+		invalidationCount = 0;
+		childInvalidationCount = 0;
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+/**
+ * Interface of the parent containers, which count their layout requests, measure and layout
+ * passes, their own invalidations and the invalidations of their children
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+interface CountingLayout {
+
+	/**
+	 * Returns the number of the layout requests since the counters were reset
+	 *
+	 * @return number of the layout requests
+	 */
+	int getLayoutRequestCount();
+
+	/**
+	 * Returns the number of the measure passes since the counters were reset
+	 *
+	 * @return number of the measure passes
+	 */
+	int getMeasureCount();
+
+	/**
+	 * Returns the number of the layout passes since the counters were reset
+	 *
+	 * @return number of the layout passes
+	 */
+	int getLayoutCount();
+
+	/**
+	 * Returns the number of the invalidations since the counters were reset
+	 *
+	 * @return number of the invalidations
+	 */
+	int getInvalidationCount();
+
+	/**
+	 * Returns the number of the invalidations of the children since the counters were reset
+	 *
+	 * @return number of the invalidations of the children
+	 */
+	int getChildInvalidationCount();
+
+	/**
+	 * Resets the counters
+	 */
+	void resetCounts();
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.scalified.viewmover.movers;
+
+import android.app.Activity;
+import android.os.SystemClock;
+import android.view.MotionEvent;
+import android.view.View;
+import android.widget.FrameLayout;
+import com.scalified.viewmover.BuildConfig;
+import com.scalified.viewmover.configuration.MovingParams;
+import com.scalified.viewmover.configuration.QueueOverflowPolicy;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests of the {@link DragTracker} checking that the moves requested while the view
+ * is dragged are queued or dropped rather than started or retargeting the drag
+ * <p>
+ * The finger is moved slowly, so that the view doesn't settle once it is released.
+ * The parent container is not attached, so that the queued moves are culled and
+ * complete as soon as they start
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class DragTrackerTest {
+
+	/**
+	 * Size of the parent container in actual pixels
+	 */
+	private static final int PARENT_SIZE = 1000;
+
+	/**
+	 * Size of the view in actual pixels
+	 */
+	private static final int VIEW_SIZE = 100;
+
+	/**
+	 * Drag offset along both axes in actual pixels
+	 */
+	private static final float DRAG_OFFSET = 50.0f;
+
+	/**
+	 * Delta of the move requested while the view is dragged in actual pixels
+	 */
+	private static final float MOVE_DELTA = 10.0f;
+
+	/**
+	 * Time between the touch events in ms, long enough for the view not to settle
+	 */
+	private static final long TOUCH_INTERVAL = 1000L;
+
+	/**
+	 * Parent container
+	 */
+	private FrameLayout parent;
+
+	/**
+	 * View to be dragged
+	 */
+	private View view;
+
+	/**
+	 * View mover of the dragged view
+	 */
+	private ViewMover mover;
+
+	/**
+	 * Params of the move requested while the view is dragged
+	 */
+	private MovingParams params;
+
+	/**
+	 * Time of the next touch event in ms
+	 */
+	private long eventTime;
+
+	@Before
+	public void setUp() {
+		Activity activity = Robolectric.setupActivity(Activity.class);
+		parent = new FrameLayout(activity);
+		view = new View(activity);
+		parent.addView(view, new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+		layOut();
+		mover = new PositionViewMover(view);
+		mover.enableDragging();
+		params = new MovingParams.Builder()
+				.setXAxisDelta(MOVE_DELTA)
+				.setYAxisDelta(MOVE_DELTA)
+				.build();
+		eventTime = SystemClock.uptimeMillis();
+	}
+
+	@Test
+	public void draggedViewIsMoving() {
+		touch(MotionEvent.ACTION_DOWN, 0.0f);
+		assertEquals(ViewMover.MOVE_STATE_MOVING, mover.getMoveState());
+		touch(MotionEvent.ACTION_MOVE, DRAG_OFFSET);
+		assertEquals(ViewMover.MOVE_STATE_MOVING, mover.getMoveState());
+		touch(MotionEvent.ACTION_UP, DRAG_OFFSET);
+		assertEquals(ViewMover.MOVE_STATE_IDLE, mover.getMoveState());
+		assertPosition(DRAG_OFFSET);
+	}
+
+	@Test
+	public void moveRequestedWhileDraggedIsDropped() {
+		touch(MotionEvent.ACTION_DOWN, 0.0f);
+		touch(MotionEvent.ACTION_MOVE, DRAG_OFFSET);
+		mover.move(params);
+		touch(MotionEvent.ACTION_UP, DRAG_OFFSET);
+		assertEquals(ViewMover.MOVE_STATE_IDLE, mover.getMoveState());
+		assertPosition(DRAG_OFFSET);
+	}
+
+	@Test
+	public void moveRequestedWhileDraggedDoesNotRetargetTheDrag() {
+		mover.setRetargetingEnabled(true);
+		touch(MotionEvent.ACTION_DOWN, 0.0f);
+		touch(MotionEvent.ACTION_MOVE, DRAG_OFFSET);
+		mover.move(params);
+		touch(MotionEvent.ACTION_UP, DRAG_OFFSET);
+		assertEquals(ViewMover.MOVE_STATE_IDLE, mover.getMoveState());
+		assertPosition(DRAG_OFFSET);
+	}
+
+	@Test
+	public void moveRequestedWhileDraggedIsQueued() {
+		mover.enableMoveQueue(1, QueueOverflowPolicy.COALESCE);
+		touch(MotionEvent.ACTION_DOWN, 0.0f);
+		touch(MotionEvent.ACTION_MOVE, DRAG_OFFSET);
+		mover.move(params);
+		assertPosition(DRAG_OFFSET);
+		touch(MotionEvent.ACTION_UP, DRAG_OFFSET);
+		assertEquals(ViewMover.MOVE_STATE_IDLE, mover.getMoveState());
+		assertPosition(DRAG_OFFSET + MOVE_DELTA);
+	}
+
+	@Test
+	public void moveHandleDoesNotControlTheDrag() {
+		touch(MotionEvent.ACTION_DOWN, 0.0f);
+		touch(MotionEvent.ACTION_MOVE, DRAG_OFFSET);
+		mover.getMoveHandle().cancel();
+		assertEquals(ViewMover.MOVE_STATE_MOVING, mover.getMoveState());
+		touch(MotionEvent.ACTION_UP, DRAG_OFFSET);
+		assertPosition(DRAG_OFFSET);
+	}
+
+	/**
+	 * Dispatches the touch event with the finger at the given offset from the view origin
+	 * along both axes
+	 *
+	 * @param action touch event action
+	 * @param offset finger offset in actual pixels
+	 */
+	private void touch(int action, float offset) {
+		eventTime += TOUCH_INTERVAL;
+		MotionEvent event = MotionEvent.obtain(eventTime, eventTime, action, offset, offset, 0);
+		view.dispatchTouchEvent(event);
+		event.recycle();
+	}
+
+	/**
+	 * Lays out the parent container and checks the view position along both axes
+	 *
+	 * @param expected expected position in actual pixels
+	 */
+	private void assertPosition(float expected) {
+		layOut();
+		assertEquals(expected, view.getX(), 0.0f);
+		assertEquals(expected, view.getY(), 0.0f);
+	}
+
+	/**
+	 * Measures and lays out the parent container
+	 */
+	private void layOut() {
+		int measureSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.EXACTLY);
+		parent.measure(measureSpec, measureSpec);
+		parent.layout(0, 0, PARENT_SIZE, PARENT_SIZE);
+	}
+
+}
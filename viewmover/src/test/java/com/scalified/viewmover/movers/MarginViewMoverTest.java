@@ -0,0 +1,214 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import com.scalified.viewmover.BuildConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests of the {@link MarginViewMover} comparing the layout passes of the default
+ * and the layout-free modes
+ * <p>
+ * Each frame is simulated by laying out the parent container if its layout is requested
+ * and then dispatching the pre-draw to the view's tree observer, the same order as
+ * the view hierarchy is traversed
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class MarginViewMoverTest {
+
+	/**
+	 * Size of the parent container in actual pixels
+	 */
+	private static final int PARENT_SIZE = 1000;
+
+	/**
+	 * Size of the view in actual pixels
+	 */
+	private static final int VIEW_SIZE = 100;
+
+	/**
+	 * Number of the frames, in each of which the view is moved
+	 */
+	private static final int FRAME_COUNT = 10;
+
+	/**
+	 * Number of the moves within a single frame
+	 */
+	private static final int MOVES_PER_FRAME = 5;
+
+	/**
+	 * X-axis delta of each move in actual pixels
+	 */
+	private static final float X_AXIS_DELTA = 7.5f;
+
+	/**
+	 * Y-axis delta of each move in actual pixels
+	 */
+	private static final float Y_AXIS_DELTA = 3.0f;
+
+	/**
+	 * Parent container, which counts its layout requests and layout passes
+	 */
+	private CountingFrameLayout parent;
+
+	/**
+	 * View to be moved
+	 */
+	private View view;
+
+	@Before
+	public void setUp() {
+		Activity activity = Robolectric.setupActivity(Activity.class);
+		parent = new CountingFrameLayout(activity);
+		view = new View(activity);
+		parent.addView(view, new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+		layOut();
+		parent.resetCounts();
+	}
+
+	@Test
+	public void defaultModeLaysOutOnEachMove() {
+		MarginViewMover mover = new MarginViewMover(view);
+		for (int frame = 0; frame < FRAME_COUNT; frame++) {
+			mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+			drawFrame();
+		}
+		assertEquals(FRAME_COUNT, parent.getLayoutRequestCount());
+		assertEquals(FRAME_COUNT, parent.getLayoutCount());
+		assertEquals(70, view.getLeft());
+		assertEquals(30, view.getTop());
+	}
+
+	@Test
+	public void layoutFreeModeDoesNotLayOut() {
+		MarginViewMover mover = new MarginViewMover(view, true);
+		for (int frame = 0; frame < FRAME_COUNT; frame++) {
+			mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+			drawFrame();
+		}
+		assertEquals(0, parent.getLayoutRequestCount());
+		assertEquals(0, parent.getLayoutCount());
+		assertEquals(70, view.getLeft());
+		assertEquals(30, view.getTop());
+		assertMargins(70, 30);
+	}
+
+	@Test
+	public void layoutFreeModeWritesMarginsOncePerFrame() {
+		MarginViewMover mover = new MarginViewMover(view, true);
+		for (int move = 0; move < MOVES_PER_FRAME; move++) {
+			mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+		}
+		assertMargins(0, 0);
+		assertEquals(35, view.getLeft());
+		assertEquals(15, view.getTop());
+		drawFrame();
+		assertMargins(35, 15);
+		drawFrame();
+		assertMargins(35, 15);
+		assertEquals(0, parent.getLayoutCount());
+	}
+
+	@Test
+	public void layoutFreeModeSurvivesRelayout() {
+		MarginViewMover mover = new MarginViewMover(view, true);
+		mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+		drawFrame();
+		parent.requestLayout();
+		drawFrame();
+		assertEquals(1, parent.getLayoutCount());
+		assertEquals(7, view.getLeft());
+		assertEquals(3, view.getTop());
+	}
+
+	@Test
+	public void layoutFreeModeWritesMarginsBeforeRequestedLayout() {
+		MarginViewMover mover = new MarginViewMover(view, true);
+		parent.requestLayout();
+		mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+		assertMargins(7, 3);
+		drawFrame();
+		assertEquals(7, view.getLeft());
+		assertEquals(3, view.getTop());
+	}
+
+	@Test
+	public void layoutFreeModeRestoresOffsetsRevertedByLayout() {
+		MarginViewMover mover = new MarginViewMover(view, true);
+		mover.changeViewPosition(X_AXIS_DELTA, Y_AXIS_DELTA);
+		parent.requestLayout();
+		layOut();
+		assertEquals(0, view.getLeft());
+		// true means the frame is cancelled
+		assertTrue(view.getViewTreeObserver().dispatchOnPreDraw());
+		assertMargins(7, 3);
+		assertTrue(parent.isLayoutRequested());
+		drawFrame();
+		assertEquals(7, view.getLeft());
+		assertEquals(3, view.getTop());
+	}
+
+	/**
+	 * Simulates the frame, laying out the parent container if requested and dispatching
+	 * the pre-draw
+	 */
+	private void drawFrame() {
+		if (parent.isLayoutRequested()) {
+			layOut();
+		}
+		view.getViewTreeObserver().dispatchOnPreDraw();
+	}
+
+	/**
+	 * Measures and lays out the parent container
+	 */
+	private void layOut() {
+		int measureSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.EXACTLY);
+		parent.measure(measureSpec, measureSpec);
+		parent.layout(0, 0, PARENT_SIZE, PARENT_SIZE);
+	}
+
+	/**
+	 * Asserts the view's left and top margins
+	 *
+	 * @param leftMargin expected left margin
+	 * @param topMargin expected top margin
+	 */
+	private void assertMargins(int leftMargin, int topMargin) {
+		ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) view.getLayoutParams();
+		assertEquals(leftMargin, layoutParams.leftMargin);
+		assertEquals(topMargin, layoutParams.topMargin);
+	}
+
+}
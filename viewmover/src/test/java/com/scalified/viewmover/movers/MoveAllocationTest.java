@@ -0,0 +1,398 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.scalified.viewmover.movers;
+
+import android.app.Activity;
+import android.content.Context;
+import android.graphics.Matrix;
+import android.view.View;
+import android.view.animation.Animation;
+import android.view.animation.Transformation;
+import android.widget.FrameLayout;
+import com.scalified.viewmover.BuildConfig;
+import com.scalified.viewmover.configuration.MovingParams;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadow.api.Shadow;
+import org.robolectric.shadows.ShadowLooper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests, which prove that the move path of the view movers allocates nothing once
+ * warmed up
+ * <p>
+ * The tests run against the framework of a recent platform version. Each move is driven
+ * frame by frame to its end through {@link Animation#getTransformation(long, Transformation)},
+ * the same way the view's draw does, so that the move animation updates the motion and its
+ * end changes the view position. The bytes allocated by the current thread are counted
+ * over the repeated moves, and any allocation fails the test
+ * <p>
+ * The main looper is paused, so that the frames are driven by the tests only. The views
+ * are {@link DirectView} and {@link DirectFrameLayout} instances, since the view shadow
+ * allocates on each started animation and on each layout request, which the framework doesn't
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 25)
+public class MoveAllocationTest {
+
+	/**
+	 * Number of the back and forth rounds to warm up the movers and to let them be compiled
+	 */
+	private static final int WARM_UP_ROUNDS = 20000;
+
+	/**
+	 * Number of the measured back and forth rounds
+	 */
+	private static final int MEASURED_ROUNDS = 2000;
+
+	/**
+	 * Number of the measured passes, the least allocating of which is asserted, since the
+	 * instrumented framework classes now and then allocate a dispatch string on their own
+	 */
+	private static final int MEASURED_PASSES = 5;
+
+	/**
+	 * Size of the parent container in actual pixels
+	 */
+	private static final int PARENT_SIZE = 1000;
+
+	/**
+	 * Size of the view in actual pixels
+	 */
+	private static final int VIEW_SIZE = 100;
+
+	/**
+	 * Delta of each move in actual pixels
+	 */
+	private static final float DELTA = 20.0f;
+
+	/**
+	 * Duration of each move in ms
+	 */
+	private static final long DURATION = 100L;
+
+	/**
+	 * Interval between the frames in ms
+	 */
+	private static final long FRAME_INTERVAL = 16L;
+
+	/**
+	 * Number of the frames, which the retargeted move is driven before retargeting
+	 */
+	private static final int RETARGETED_FRAMES = 2;
+
+	/**
+	 * Counter of the bytes allocated by the moves
+	 */
+	private AllocationCounter allocationCounter;
+
+	/**
+	 * Activity, which provides the context of the views
+	 */
+	private Activity activity;
+
+	/**
+	 * Moving params of the move to the right and to the bottom
+	 */
+	private MovingParams forwardParams;
+
+	/**
+	 * Moving params of the move to the left and to the top
+	 */
+	private MovingParams backwardParams;
+
+	/**
+	 * Transformation, which the frames are applied to
+	 */
+	private final FrameTransformation transformation = new FrameTransformation();
+
+	/**
+	 * Time of the last driven frame in ms
+	 */
+	private long frameTime;
+
+	@Before
+	public void setUp() {
+		assumeTrue(AllocationCounter.isSupported());
+		allocationCounter = new AllocationCounter();
+		activity = Robolectric.setupActivity(Activity.class);
+		ShadowLooper.pauseMainLooper();
+		forwardParams = new MovingParams.Builder(activity).setXAxisDelta(DELTA).setYAxisDelta(DELTA)
+				.setAnimationDuration(DURATION).build();
+		backwardParams = new MovingParams.Builder(forwardParams).setXAxisDelta(-DELTA).setYAxisDelta(-DELTA).build();
+	}
+
+	@Test
+	public void marginMoverAllocatesNothing() {
+		assertNoAllocation(new MarginViewMover(createView()), false);
+	}
+
+	@Test
+	public void positionMoverAllocatesNothing() {
+		assertNoAllocation(new PositionViewMover(createView()), false);
+	}
+
+	@Test
+	public void retargetedMarginMoverAllocatesNothing() {
+		assertNoAllocation(new MarginViewMover(createView()), true);
+	}
+
+	@Test
+	public void retargetedPositionMoverAllocatesNothing() {
+		assertNoAllocation(new PositionViewMover(createView()), true);
+	}
+
+	/**
+	 * Moves the view back and forth, first to warm up, then counting the allocated bytes
+	 * of the least allocating measured pass
+	 *
+	 * @param mover view mover
+	 * @param retargeting true to retarget each move by the next one before ending it,
+	 *                    otherwise false
+	 */
+	private void assertNoAllocation(ViewMover mover, boolean retargeting) {
+		mover.setCullingEnabled(false);
+		mover.setRetargetingEnabled(retargeting);
+		View view = mover.getView();
+		move(mover, forwardParams);
+		assertTrue("Move animation not applied", transformation.translationX > 0.0f);
+		assertTrue("Move animation not applied", transformation.translationY > 0.0f);
+		assertEquals(DELTA, view.getX(), 0.0f);
+		assertEquals(DELTA, view.getY(), 0.0f);
+		move(mover, backwardParams);
+		moveBackAndForth(mover, retargeting, WARM_UP_ROUNDS);
+		long allocatedBytes = Long.MAX_VALUE;
+		for (int pass = 0; pass < MEASURED_PASSES && allocatedBytes > 0L; pass++) {
+			allocationCounter.start();
+			moveBackAndForth(mover, retargeting, MEASURED_ROUNDS);
+			allocatedBytes = Math.min(allocatedBytes, allocationCounter.stop());
+		}
+		assertEquals(0.0f, view.getX(), 0.0f);
+		assertEquals(0.0f, view.getY(), 0.0f);
+		assertEquals("Bytes allocated by " + MEASURED_ROUNDS + " back and forth rounds", 0L, allocatedBytes);
+	}
+
+	/**
+	 * Moves the view forth and back the given number of rounds, driving each move to its end
+	 *
+	 * @param mover view mover
+	 * @param retargeting true to retarget each move by the next one before ending it,
+	 *                    otherwise false
+	 * @param rounds number of the rounds
+	 */
+	private void moveBackAndForth(ViewMover mover, boolean retargeting, int rounds) {
+		for (int round = 0; round < rounds; round++) {
+			if (retargeting) {
+				mover.move(forwardParams);
+				drawFrames(mover.getView(), RETARGETED_FRAMES);
+				mover.move(backwardParams);
+				drawFrames(mover.getView(), RETARGETED_FRAMES);
+			}
+			move(mover, forwardParams);
+			move(mover, backwardParams);
+		}
+	}
+
+	/**
+	 * Moves the view, drives the move to its end and lays out the parent container
+	 * <p>
+	 * The allocated bytes are not counted while laying out, since the layout is performed
+	 * by the framework and is shadowed
+	 *
+	 * @param mover view mover
+	 * @param params moving params
+	 */
+	private void move(ViewMover mover, MovingParams params) {
+		mover.move(params);
+		drawFrames(mover.getView(), Integer.MAX_VALUE);
+		allocationCounter.pause();
+		layOut((FrameLayout) mover.getView().getParent());
+		allocationCounter.resume();
+	}
+
+	/**
+	 * Drives the animation of the view the given number of frames or until it ends,
+	 * whichever comes first
+	 *
+	 * @param view animated view
+	 * @param frameCount maximum number of the frames
+	 */
+	private void drawFrames(View view, int frameCount) {
+		for (int frame = 0; frame < frameCount; frame++) {
+			frameTime += FRAME_INTERVAL;
+			if (!view.getAnimation().getTransformation(frameTime, transformation)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Creates the view within the parent container
+	 *
+	 * @return created view
+	 */
+	private View createView() {
+		FrameLayout parent = new DirectFrameLayout(activity);
+		View view = new DirectView(activity);
+		parent.addView(view, new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+		layOut(parent);
+		return view;
+	}
+
+	/**
+	 * Measures and lays out the parent container if its layout is requested
+	 *
+	 * @param parent parent container
+	 */
+	private static void layOut(FrameLayout parent) {
+		if (parent.isLayoutRequested()) {
+			int measureSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.EXACTLY);
+			parent.measure(measureSpec, measureSpec);
+			parent.layout(0, 0, PARENT_SIZE, PARENT_SIZE);
+		}
+	}
+
+	/**
+	 * Transformation class, which keeps the translation of the last frame
+	 * <p>
+	 * The translation is kept in plain fields, since the shadowed matrix records each
+	 * change as a string
+	 */
+	private static class FrameTransformation extends Transformation {
+
+		/**
+		 * X-axis translation of the last frame
+		 */
+		private float translationX;
+
+		/**
+		 * Y-axis translation of the last frame
+		 */
+		private float translationY;
+
+		/**
+		 * Matrix, which keeps the translation of the last frame
+		 */
+		private final Matrix matrix = new Matrix() {
+			@Override
+			public void setTranslate(float dx, float dy) {
+				translationX = dx;
+				translationY = dy;
+			}
+		};
+
+		@Override
+		public Matrix getMatrix() {
+			return matrix;
+		}
+
+	}
+
+	/**
+	 * View class, which calls the framework implementation of the shadowed methods through
+	 * a single proxy
+	 * <p>
+	 * The view shadow creates a proxy on each started animation and on each layout request,
+	 * and runs the started animations by its own frame callbacks
+	 */
+	private static class DirectView extends View {
+
+		/**
+		 * Proxy, which calls the framework implementation of the view
+		 */
+		private View directView;
+
+		/**
+		 * Creates the {@link DirectView} instance
+		 *
+		 * @param context context
+		 */
+		DirectView(Context context) {
+			super(context);
+		}
+
+		@Override
+		public void setAnimation(Animation animation) {
+			directly().setAnimation(animation);
+		}
+
+		@Override
+		public void requestLayout() {
+			directly().requestLayout();
+		}
+
+		/**
+		 * Returns the proxy, which calls the framework implementation of the view
+		 * <p>
+		 * Is created lazily, since the layout is requested while the view is being constructed
+		 *
+		 * @return proxy, which calls the framework implementation of the view
+		 */
+		private View directly() {
+			if (directView == null) {
+				directView = Shadow.directlyOn(this, View.class);
+			}
+			return directView;
+		}
+
+	}
+
+	/**
+	 * Frame layout class, which calls the framework implementation of the layout request
+	 * through a single proxy
+	 *
+	 * @see DirectView
+	 */
+	private static class DirectFrameLayout extends FrameLayout {
+
+		/**
+		 * Proxy, which calls the framework implementation of the view
+		 */
+		private View directView;
+
+		/**
+		 * Creates the {@link DirectFrameLayout} instance
+		 *
+		 * @param context context
+		 */
+		DirectFrameLayout(Context context) {
+			super(context);
+		}
+
+		@Override
+		public void requestLayout() {
+			if (directView == null) {
+				directView = Shadow.directlyOn(this, View.class);
+			}
+			directView.requestLayout();
+		}
+
+	}
+
+}
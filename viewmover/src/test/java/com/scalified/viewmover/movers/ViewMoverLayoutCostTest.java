@@ -0,0 +1,332 @@
+/*
+ * Copyright 2016 Scalified <http://www.scalified.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.scalified.viewmover.movers;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.RelativeLayout;
+import com.scalified.viewmover.BuildConfig;
+import com.scalified.viewmover.configuration.MoverStrategy;
+import com.scalified.viewmover.configuration.MovingParams;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests of the layout cost of each view mover within {@link FrameLayout} and
+ * {@link RelativeLayout}
+ * <p>
+ * The parent container is set as the content view of the activity, so that the invalidations
+ * of the view propagate through it. The view is moved back and forth to warm up the view
+ * mover and the framework, and then is moved several times. Each move is ended at once and followed by
+ * a frame, which measures and lays out the parent container if its layout is requested,
+ * dispatches the pre-draw and draws the parent container. The layout requests, the measure
+ * and layout passes, the invalidations of the parent container and of the view, and the
+ * bytes allocated by each move are counted and checked against the baseline, which is kept
+ * in {@code layout-cost-baseline.properties}. A view mover, which starts to request more
+ * layouts or invalidations or to allocate more than before, fails the test
+ * <p>
+ * The main looper is paused, so that no animation frame and no traversal runs on its own
+ *
+ * @author shell
+ * @version 1.2.0
+ * @since 1.2.0
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 23)
+public class ViewMoverLayoutCostTest {
+
+	/**
+	 * Resource name of the baseline
+	 */
+	private static final String BASELINE = "layout-cost-baseline.properties";
+
+	/**
+	 * Number of the back and forth rounds to warm up the view mover and the framework
+	 */
+	private static final int WARM_UP_ROUNDS = 20;
+
+	/**
+	 * Size of the parent container in actual pixels
+	 */
+	private static final int PARENT_SIZE = 1000;
+
+	/**
+	 * Size of the view in actual pixels
+	 */
+	private static final int VIEW_SIZE = 100;
+
+	/**
+	 * X-axis delta of each move in actual pixels
+	 */
+	private static final float X_AXIS_DELTA = 20.0f;
+
+	/**
+	 * Y-axis delta of each move in actual pixels
+	 */
+	private static final float Y_AXIS_DELTA = 10.0f;
+
+	/**
+	 * Duration of each move in ms
+	 */
+	private static final long DURATION = 300L;
+
+	/**
+	 * Baseline layout cost
+	 */
+	private static Properties baseline;
+
+	/**
+	 * Number of the moves, which the baseline is recorded for
+	 */
+	private static int moveCount;
+
+	/**
+	 * Activity, which provides the context of the views
+	 */
+	private Activity activity;
+
+	/**
+	 * Canvas, which the frames are drawn on
+	 */
+	private Canvas canvas;
+
+	/**
+	 * Counter of the bytes allocated by each move
+	 */
+	private AllocationCounter allocationCounter;
+
+	@BeforeClass
+	public static void loadBaseline() throws IOException {
+		InputStream stream = ViewMoverLayoutCostTest.class.getResourceAsStream(BASELINE);
+		assertNotNull("Baseline not found: " + BASELINE, stream);
+		baseline = new Properties();
+		try {
+			baseline.load(stream);
+		} finally {
+			stream.close();
+		}
+		moveCount = Integer.parseInt(baseline.getProperty("moves"));
+	}
+
+	@Before
+	public void setUp() {
+		assumeTrue(AllocationCounter.isSupported());
+		allocationCounter = new AllocationCounter();
+		activity = Robolectric.setupActivity(Activity.class);
+		ShadowLooper.pauseMainLooper();
+		canvas = new Canvas(Bitmap.createBitmap(PARENT_SIZE, PARENT_SIZE, Bitmap.Config.ARGB_8888));
+		MoveStats.setEnabled(true);
+		MoveStats.reset();
+	}
+
+	@After
+	public void tearDown() {
+		MoveStats.setEnabled(false);
+		MoveStats.reset();
+	}
+
+	@Test
+	public void propertyMoverWithinFrameLayout() {
+		assertLayoutCost(MoverStrategy.PROPERTY, new CountingFrameLayout(activity),
+				new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void propertyMoverWithinRelativeLayout() {
+		assertLayoutCost(MoverStrategy.PROPERTY, new CountingRelativeLayout(activity),
+				new RelativeLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void positionMoverWithinFrameLayout() {
+		assertLayoutCost(MoverStrategy.TRANSLATION, new CountingFrameLayout(activity),
+				new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void positionMoverWithinRelativeLayout() {
+		assertLayoutCost(MoverStrategy.TRANSLATION, new CountingRelativeLayout(activity),
+				new RelativeLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void offsetMoverWithinFrameLayout() {
+		assertLayoutCost(MoverStrategy.OFFSET, new CountingFrameLayout(activity),
+				new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void offsetMoverWithinRelativeLayout() {
+		assertLayoutCost(MoverStrategy.OFFSET, new CountingRelativeLayout(activity),
+				new RelativeLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void marginMoverWithinFrameLayout() {
+		assertLayoutCost(MoverStrategy.MARGIN, new CountingFrameLayout(activity),
+				new FrameLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	@Test
+	public void marginMoverWithinRelativeLayout() {
+		assertLayoutCost(MoverStrategy.MARGIN, new CountingRelativeLayout(activity),
+				new RelativeLayout.LayoutParams(VIEW_SIZE, VIEW_SIZE));
+	}
+
+	/**
+	 * Moves the view within the parent container and checks the counted layout cost
+	 * against the baseline
+	 *
+	 * @param strategy strategy of the view mover
+	 * @param parent parent container, which counts its layout cost
+	 * @param layoutParams layout parameters of the view
+	 */
+	private void assertLayoutCost(MoverStrategy strategy, CountingLayout parent,
+	                              ViewGroup.MarginLayoutParams layoutParams) {
+		ViewGroup parentView = (ViewGroup) parent;
+		View view = new View(activity);
+		parentView.addView(view, layoutParams);
+		activity.setContentView(parentView);
+		drawFrame(parentView, view);
+		ViewMover mover = createMover(strategy, view);
+		mover.setCullingEnabled(false);
+		MovingParams params = new MovingParams.Builder(activity).setXAxisDelta(X_AXIS_DELTA)
+				.setYAxisDelta(Y_AXIS_DELTA).setAnimationDuration(DURATION).build();
+		MovingParams backParams = new MovingParams.Builder(params).setXAxisDelta(-X_AXIS_DELTA)
+				.setYAxisDelta(-Y_AXIS_DELTA).build();
+		for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+			move(mover, params, parentView, view);
+			move(mover, backParams, parentView, view);
+		}
+		parent.resetCounts();
+		MoveStats.reset();
+		long maxAllocatedBytes = 0L;
+		for (int move = 0; move < moveCount; move++) {
+			maxAllocatedBytes = Math.max(maxAllocatedBytes, move(mover, params, parentView, view));
+		}
+		assertEquals(X_AXIS_DELTA * moveCount, view.getX(), 0.0f);
+		assertEquals(Y_AXIS_DELTA * moveCount, view.getY(), 0.0f);
+		assertEquals(parent.getLayoutRequestCount(), MoveStats.getLayoutRequestCount());
+		String key = strategy + "." + parentView.getClass().getSuperclass().getSimpleName();
+		assertWithinBaseline(key + ".layoutRequests", parent.getLayoutRequestCount());
+		assertWithinBaseline(key + ".measures", parent.getMeasureCount());
+		assertWithinBaseline(key + ".layouts", parent.getLayoutCount());
+		assertWithinBaseline(key + ".invalidations", parent.getInvalidationCount());
+		assertWithinBaseline(key + ".childInvalidations", parent.getChildInvalidationCount());
+		assertWithinBaseline(key + ".allocatedBytes", maxAllocatedBytes);
+	}
+
+	/**
+	 * Moves the view, ends the move at once and simulates the frame
+	 *
+	 * @param mover view mover
+	 * @param params moving params
+	 * @param parent parent container
+	 * @param view moved view
+	 * @return number of the bytes allocated by the move
+	 */
+	private long move(ViewMover mover, MovingParams params, ViewGroup parent, View view) {
+		allocationCounter.start();
+		mover.move(params);
+		mover.getMoveHandle().end();
+		long allocatedBytes = allocationCounter.stop();
+		drawFrame(parent, view);
+		return allocatedBytes;
+	}
+
+	/**
+	 * Checks the counted value against the baseline
+	 *
+	 * @param key key of the baseline value
+	 * @param count counted value
+	 */
+	private static void assertWithinBaseline(String key, long count) {
+		String value = baseline.getProperty(key);
+		assertNotNull("Baseline value not found: " + key, value);
+		long expected = Long.parseLong(value);
+		assertTrue(key + " = " + count + " exceeds the baseline of " + expected, count <= expected);
+	}
+
+	/**
+	 * Creates the view mover of the given strategy
+	 *
+	 * @param strategy strategy of the view mover
+	 * @param view view to be moved
+	 * @return view mover
+	 */
+	private static ViewMover createMover(MoverStrategy strategy, View view) {
+		switch (strategy) {
+			case PROPERTY:
+				return new PropertyViewMover(view);
+			case TRANSLATION:
+				return new PositionViewMover(view);
+			case OFFSET:
+				return new MarginViewMover(view, true);
+			default:
+				return new MarginViewMover(view, false);
+		}
+	}
+
+	/**
+	 * Simulates the frame, measuring and laying out the parent container if requested,
+	 * dispatching the pre-draw and drawing the parent container
+	 * <p>
+	 * The view invalidates its parent container only once drawn since the previous invalidation
+	 *
+	 * @param parent parent container
+	 * @param view moved view
+	 */
+	private void drawFrame(ViewGroup parent, View view) {
+		if (parent.isLayoutRequested()) {
+			layOut(parent);
+		}
+		view.getViewTreeObserver().dispatchOnPreDraw();
+		parent.draw(canvas);
+	}
+
+	/**
+	 * Measures and lays out the parent container
+	 *
+	 * @param parent parent container
+	 */
+	private static void layOut(ViewGroup parent) {
+		int measureSpec = View.MeasureSpec.makeMeasureSpec(PARENT_SIZE, View.MeasureSpec.EXACTLY);
+		parent.measure(measureSpec, measureSpec);
+		parent.layout(0, 0, PARENT_SIZE, PARENT_SIZE);
+	}
+
+}